@@ -0,0 +1,439 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.benchmark;
+
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.storage.LevelData;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.ticks.BlackholeTickAccess;
+import net.minecraft.world.ticks.LevelTickAccess;
+import net.minecraft.world.ticks.ProtoChunkTicks;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Lightweight, in-memory stand-in for the {@link WorldGenLevel} the ore features place into.
+ * <br><br>
+ * Holds a square of proto chunks around chunk 0, 0, filled with horizontal layers of the given strata up to a flat surface,
+ * and air above it. Only the methods used by the ore features are implemented,
+ * and everything else throws {@link UnsupportedOperationException}.
+ * <br><br>
+ * Every chunk starts as a copy of the same column of sections, which is kept to count the changed blocks with {@link #countChanges()}.
+ */
+public final class InMemoryWorldGenLevel implements WorldGenLevel {
+    public static final int MIN_Y = 0;
+    public static final int HEIGHT = 128;
+    public static final int SURFACE_Y = 112;
+    private static final int LAYER_SHIFT = 2;
+
+    private final int radius;
+    private final int width;
+    private final long seed;
+    private final RandomSource random;
+    private final LevelChunkSection[] column;
+    private final ProtoChunk[] chunks;
+
+    /**
+     * Used to create the level.
+     * @param radius Radius in chunks around chunk 0, 0. Positions outside of it read as air and can't be written.
+     * @param strata Filler blocks of the strata. Each 4 blocks tall layer uses the next one, wrapping around.
+     * @param seed World seed returned by {@link #getSeed()}.
+     */
+    public InMemoryWorldGenLevel(int radius, List<BlockState> strata, long seed) {
+        this.radius = radius;
+        this.width = radius * 2 + 1;
+        this.seed = seed;
+        this.random = RandomSource.create(seed);
+        this.chunks = new ProtoChunk[width * width];
+
+        Registry<Biome> biomes = createBiomeRegistry();
+        LevelHeightAccessor height = LevelHeightAccessor.create(MIN_Y, HEIGHT);
+        this.column = new LevelChunkSection[height.getSectionsCount()];
+        for (int s = 0; s < column.length; s++) {
+            column[s] = createSection(biomes, height.getSectionYFromSectionIndex(s) << 4, strata);
+        }
+        for (int i = 0; i < chunks.length; i++) {
+            LevelChunkSection[] sections = new LevelChunkSection[column.length];
+            for (int s = 0; s < column.length; s++) {
+                sections[s] = copy(column[s]);
+            }
+            ChunkPos pos = new ChunkPos(i % width - radius, i / width - radius);
+            chunks[i] = new ProtoChunk(pos, UpgradeData.EMPTY, sections, new ProtoChunkTicks<>(), new ProtoChunkTicks<>(), height, biomes, null);
+        }
+    }
+
+    /**
+     * Used to count the blocks changed since the level was created.
+     * @return Amount of positions whose block state differs from the generated terrain.
+     */
+    public int countChanges() {
+        int changes = 0;
+        for (ProtoChunk chunk : chunks) {
+            LevelChunkSection[] sections = chunk.getSections();
+            for (int s = 0; s < sections.length; s++) {
+                LevelChunkSection current = sections[s];
+                LevelChunkSection original = column[s];
+                for (int y = 0; y < 16; y++) {
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            if (current.getBlockState(x, y, z) != original.getBlockState(x, y, z)) changes++;
+                        }
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        LevelChunkSection section = getSection(pos);
+        if (section == null) return Blocks.AIR.defaultBlockState();
+        return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public boolean isStateAtPosition(BlockPos pos, Predicate<BlockState> predicate) {
+        return predicate.test(getBlockState(pos));
+    }
+
+    @Override
+    public boolean isFluidAtPosition(BlockPos pos, Predicate<FluidState> predicate) {
+        return predicate.test(getFluidState(pos));
+    }
+
+    @Override
+    public boolean setBlock(BlockPos pos, BlockState state, int flags, int recursionLeft) {
+        LevelChunkSection section = getSection(pos);
+        if (section == null) return false;
+        section.setBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, state, false);
+        return true;
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public @Nullable ChunkAccess getChunk(int chunkX, int chunkZ, ChunkStatus status, boolean require) {
+        return getProtoChunk(chunkX, chunkZ);
+    }
+
+    @Override
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        return getProtoChunk(chunkX, chunkZ) != null;
+    }
+
+    @Override
+    public int getHeight(Heightmap.Types type, int x, int z) {
+        return SURFACE_Y;
+    }
+
+    @Override
+    public BlockPos getHeightmapPos(Heightmap.Types type, BlockPos pos) {
+        return new BlockPos(pos.getX(), SURFACE_Y, pos.getZ());
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return MIN_Y;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public RandomSource getRandom() {
+        return random;
+    }
+
+    @Override
+    public boolean isClientSide() {
+        return false;
+    }
+
+    @Override
+    public LevelTickAccess<Block> getBlockTicks() {
+        // Ticks of placed blocks and fluids aren't part of the placement cost.
+        return BlackholeTickAccess.emptyLevelList();
+    }
+
+    @Override
+    public LevelTickAccess<Fluid> getFluidTicks() {
+        return BlackholeTickAccess.emptyLevelList();
+    }
+
+    @Override
+    public long nextSubTickCount() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryWorldGenLevel[radius=" + radius + "]";
+    }
+
+    @Override
+    public ServerLevel getLevel() {
+        throw unsupported("getLevel");
+    }
+
+    @Override
+    public LevelData getLevelData() {
+        throw unsupported("getLevelData");
+    }
+
+    @Override
+    public DifficultyInstance getCurrentDifficultyAt(BlockPos pos) {
+        throw unsupported("getCurrentDifficultyAt");
+    }
+
+    @Override
+    public @Nullable MinecraftServer getServer() {
+        throw unsupported("getServer");
+    }
+
+    @Override
+    public ChunkSource getChunkSource() {
+        throw unsupported("getChunkSource");
+    }
+
+    @Override
+    public void playSound(@Nullable Player player, BlockPos pos, SoundEvent sound, SoundSource source, float volume, float pitch) {
+        throw unsupported("playSound");
+    }
+
+    @Override
+    public void addParticle(ParticleOptions particle, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+        throw unsupported("addParticle");
+    }
+
+    @Override
+    public void levelEvent(@Nullable Player player, int type, BlockPos pos, int data) {
+        throw unsupported("levelEvent");
+    }
+
+    @Override
+    public void gameEvent(Holder<GameEvent> event, Vec3 pos, GameEvent.Context context) {
+        throw unsupported("gameEvent");
+    }
+
+    @Override
+    public List<Entity> getEntities(@Nullable Entity entity, AABB area, Predicate<? super Entity> predicate) {
+        throw unsupported("getEntities");
+    }
+
+    @Override
+    public <T extends Entity> List<T> getEntities(EntityTypeTest<Entity, T> test, AABB area, Predicate<? super T> predicate) {
+        throw unsupported("getEntities");
+    }
+
+    @Override
+    public List<? extends Player> players() {
+        throw unsupported("players");
+    }
+
+    @Override
+    public int getSkyDarken() {
+        throw unsupported("getSkyDarken");
+    }
+
+    @Override
+    public BiomeManager getBiomeManager() {
+        throw unsupported("getBiomeManager");
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(int x, int y, int z) {
+        throw unsupported("getUncachedNoiseBiome");
+    }
+
+    @Override
+    public int getSeaLevel() {
+        throw unsupported("getSeaLevel");
+    }
+
+    @Override
+    public DimensionType dimensionType() {
+        throw unsupported("dimensionType");
+    }
+
+    @Override
+    public RegistryAccess registryAccess() {
+        throw unsupported("registryAccess");
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures() {
+        throw unsupported("enabledFeatures");
+    }
+
+    @Override
+    public float getShade(Direction direction, boolean shade) {
+        throw unsupported("getShade");
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine() {
+        throw unsupported("getLightEngine");
+    }
+
+    @Override
+    public WorldBorder getWorldBorder() {
+        throw unsupported("getWorldBorder");
+    }
+
+    @Override
+    public @Nullable BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+        throw unsupported("getChunkForCollisions");
+    }
+
+    @Override
+    public boolean removeBlock(BlockPos pos, boolean isMoving) {
+        throw unsupported("removeBlock");
+    }
+
+    @Override
+    public boolean destroyBlock(BlockPos pos, boolean dropBlock, @Nullable Entity entity, int recursionLeft) {
+        throw unsupported("destroyBlock");
+    }
+
+    private static UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException("InMemoryWorldGenLevel doesn't support " + method);
+    }
+
+    private @Nullable ProtoChunk getProtoChunk(int chunkX, int chunkZ) {
+        int x = chunkX + radius;
+        int z = chunkZ + radius;
+        if (x < 0 || z < 0 || x >= width || z >= width) return null;
+        return chunks[x + z * width];
+    }
+
+    private @Nullable LevelChunkSection getSection(BlockPos pos) {
+        if (pos.getY() < MIN_Y || pos.getY() >= MIN_Y + HEIGHT) return null;
+        ProtoChunk chunk = getProtoChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk == null) return null;
+        return chunk.getSection(chunk.getSectionIndex(pos.getY()));
+    }
+
+    private static LevelChunkSection createSection(Registry<Biome> biomes, int minY, List<BlockState> strata) {
+        LevelChunkSection section = new LevelChunkSection(biomes);
+        for (int y = 0; y < 16; y++) {
+            int worldY = minY + y;
+            if (worldY >= SURFACE_Y) break;
+            BlockState state = strata.get(((worldY - MIN_Y) >> LAYER_SHIFT) % strata.size());
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    section.setBlockState(x, y, z, state, false);
+                }
+            }
+        }
+        return section;
+    }
+
+    private static LevelChunkSection copy(LevelChunkSection section) {
+        return new LevelChunkSection(section.getStates().copy(), section.getBiomes());
+    }
+
+    private static Registry<Biome> createBiomeRegistry() {
+        MappedRegistry<Biome> registry = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        Biome plains = new Biome.BiomeBuilder()
+            .hasPrecipitation(false)
+            .temperature(0.8F)
+            .downfall(0.4F)
+            .specialEffects(new BiomeSpecialEffects.Builder()
+                .fogColor(0xC0D8FF)
+                .waterColor(0x3F76E4)
+                .waterFogColor(0x050533)
+                .skyColor(0x78A7FF)
+                .build())
+            .mobSpawnSettings(MobSpawnSettings.EMPTY)
+            .generationSettings(BiomeGenerationSettings.EMPTY)
+            .build();
+        Registry.register(registry, Biomes.PLAINS, plains);
+        return registry;
+    }
+}
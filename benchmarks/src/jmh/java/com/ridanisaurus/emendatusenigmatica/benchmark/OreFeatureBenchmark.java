@@ -0,0 +1,293 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.benchmark;
+
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.benchmark.OreFeatureFixtures.BlockMix;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dense.DenseDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dike.DikeDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sphere.SphereDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vanilla.VanillaDepositModel;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.DenseOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.DikeOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.GeodeOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.SphereOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.VanillaOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DenseOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DikeOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.GeodeOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.SphereOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.VanillaOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placement cost of the ore features, against the {@link InMemoryWorldGenLevel}.
+ * <br><br>
+ * Every iteration creates a fresh level, and a single invocation places {@value #PLACEMENTS} deposits into it,
+ * one per cell of a grid spaced so the deposits never reach each other, so each one places into untouched terrain.
+ * Creating the level and counting the placed blocks happen outside of the measured time.
+ * <br><br>
+ * The primary score is the time per deposit placement. The {@code blocks} secondary score is the amount of blocks placed per deposit,
+ * so blocks placed per second is {@code blocks} divided by the primary score.
+ * With the {@code gc} profiler enabled (default in the build script),
+ * {@code gc.alloc.rate.norm} is the amount of bytes allocated per deposit placement.
+ * <br>
+ * {@code size} is the radius of sphere deposits and the size of the others. Geodes have a fixed size, and ignore it.
+ * Vanilla deposits only support a single block, and ignore {@code mix}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OreFeatureBenchmark {
+    private static final int ORIGIN_Y = 32;
+    private static final int GRID_SIZE = 8;
+    private static final int PLACEMENTS = GRID_SIZE * GRID_SIZE;
+    private static final int MIN_Y = 0;
+    private static final int MAX_Y = 64;
+
+    @Param({"8", "16", "32"})
+    public int size;
+
+    @Param({"1", "4", "8"})
+    public int strata;
+
+    @Param({"SINGLE", "WEIGHTED"})
+    public BlockMix mix;
+
+    private List<BlockState> strataStates;
+    private int radius;
+    private BlockPos[] origins;
+    private InMemoryWorldGenLevel world;
+    private RandomSource random;
+    private long iterations;
+
+    private VanillaOreFeature vanillaFeature;
+    private VanillaOreFeatureConfig vanillaConfig;
+    private SphereOreFeature sphereFeature;
+    private SphereOreFeatureConfig sphereConfig;
+    private DenseOreFeature denseFeature;
+    private DenseOreFeatureConfig denseConfig;
+    private DikeOreFeature dikeFeature;
+    private DikeOreFeatureConfig dikeConfig;
+    private GeodeOreFeature geodeFeature;
+    private GeodeOreFeatureConfig geodeConfig;
+
+    /**
+     * Blocks placed per deposit, reported by JMH next to the primary score.
+     * Taken by the benchmark methods only so JMH collects it, it's updated in {@link #count(Placed)}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Placed {
+        public long blocks;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            blocks = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EmendatusDataRegistry registry = OreFeatureFixtures.createRegistry(strata);
+        strataStates = OreFeatureFixtures.strataStates(strata);
+        // Sphere deposits reach radius + 1 blocks from the origin, give every cell of the grid enough chunks to hold one.
+        int reach = Math.max(1, (size + 24) / 16);
+        int cell = reach * 2 + 1;
+        radius = GRID_SIZE * cell / 2;
+        origins = new BlockPos[PLACEMENTS];
+        for (int i = 0; i < PLACEMENTS; i++) {
+            int chunkX = -radius + reach + (i % GRID_SIZE) * cell;
+            int chunkZ = -radius + reach + (i / GRID_SIZE) * cell;
+            origins[i] = new BlockPos((chunkX << 4) + 8, ORIGIN_Y, (chunkZ << 4) + 8);
+        }
+
+        String fillerTypes = OreFeatureFixtures.fillerTypes(strata);
+        String blocks = OreFeatureFixtures.blocks(mix);
+
+        VanillaDepositModel vanilla = OreFeatureFixtures.decode(VanillaDepositModel.CODEC, """
+            {
+              "type": "emendatusenigmatica:vanilla_deposit",
+              "dimension": "minecraft:overworld",
+              "registryName": "benchmark_vanilla",
+              "config": {
+                "block": "minecraft:iron_ore",
+                "fillerTypes": %s,
+                "chance": 100,
+                "size": %d,
+                "minYLevel": %d,
+                "maxYLevel": %d
+              }
+            }""".formatted(fillerTypes, size, MIN_Y, MAX_Y));
+        vanillaFeature = new VanillaOreFeature();
+        vanillaConfig = new VanillaOreFeatureConfig(vanilla, registry);
+        // Resolve the targets outside of the measurement.
+        vanillaConfig.targets.get();
+
+        SphereDepositModel sphere = OreFeatureFixtures.decode(SphereDepositModel.CODEC, """
+            {
+              "type": "emendatusenigmatica:sphere_deposit",
+              "dimension": "minecraft:overworld",
+              "registryName": "benchmark_sphere",
+              "config": {
+                "blocks": %s,
+                "fillerTypes": %s,
+                "chance": 0,
+                "radius": %d,
+                "minYLevel": %d,
+                "maxYLevel": %d
+              }
+            }""".formatted(blocks, fillerTypes, size, MIN_Y, MAX_Y));
+        sphereFeature = new SphereOreFeature();
+        sphereConfig = new SphereOreFeatureConfig(sphere, new MultiStrataRuleTest(sphere.getFillerTypes(), registry));
+
+        DenseDepositModel dense = OreFeatureFixtures.decode(DenseDepositModel.CODEC, """
+            {
+              "type": "emendatusenigmatica:dense_deposit",
+              "dimension": "minecraft:overworld",
+              "registryName": "benchmark_dense",
+              "config": {
+                "blocks": %s,
+                "fillerTypes": %s,
+                "chance": 0,
+                "size": %d,
+                "minYLevel": %d,
+                "maxYLevel": %d
+              }
+            }""".formatted(blocks, fillerTypes, size, MIN_Y, MAX_Y));
+        denseFeature = new DenseOreFeature();
+        denseConfig = new DenseOreFeatureConfig(dense, new MultiStrataRuleTest(dense.getFillerTypes(), registry));
+
+        DikeDepositModel dike = OreFeatureFixtures.decode(DikeDepositModel.CODEC, """
+            {
+              "type": "emendatusenigmatica:dike_deposit",
+              "dimension": "minecraft:overworld",
+              "registryName": "benchmark_dike",
+              "config": {
+                "blocks": %s,
+                "fillerTypes": %s,
+                "chance": 0,
+                "size": %d,
+                "minYLevel": %d,
+                "maxYLevel": %d
+              }
+            }""".formatted(blocks, fillerTypes, size, MIN_Y, MAX_Y));
+        dikeFeature = new DikeOreFeature();
+        dikeConfig = new DikeOreFeatureConfig(dike, new MultiStrataRuleTest(dike.getFillerTypes(), registry));
+
+        GeodeDepositModel geode = OreFeatureFixtures.decode(GeodeDepositModel.CODEC, """
+            {
+              "type": "emendatusenigmatica:geode_deposit",
+              "dimension": "minecraft:overworld",
+              "registryName": "benchmark_geode",
+              "config": {
+                "outerShellBlocks": [{ "block": "minecraft:smooth_basalt", "weight": 1 }],
+                "innerShellBlocks": [{ "block": "minecraft:calcite", "weight": 1 }],
+                "innerBlocks": %s,
+                "fillBlocks": [{ "block": "minecraft:air", "weight": 1 }],
+                "fillerTypes": %s,
+                "clusters": ["minecraft:small_amethyst_bud", "minecraft:medium_amethyst_bud", "minecraft:large_amethyst_bud"],
+                "chance": 0,
+                "crackChance": 0.5,
+                "minYLevel": %d,
+                "maxYLevel": %d
+              }
+            }""".formatted(blocks, fillerTypes, MIN_Y, MAX_Y));
+        geodeFeature = new GeodeOreFeature();
+        geodeConfig = new GeodeOreFeatureConfig(geode, new MultiStrataRuleTest(geode.getFillerTypes(), registry));
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() {
+        world = new InMemoryWorldGenLevel(radius, strataStates, 0L);
+        random = RandomSource.create(++iterations);
+    }
+
+    @TearDown(Level.Iteration)
+    public void count(Placed placed) {
+        placed.blocks = world.countChanges() / PLACEMENTS;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLACEMENTS)
+    public int vanillaOre(Placed placed) {
+        return placeAll(vanillaFeature, vanillaConfig);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLACEMENTS)
+    public int sphereOre(Placed placed) {
+        return placeAll(sphereFeature, sphereConfig);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLACEMENTS)
+    public int denseOre(Placed placed) {
+        return placeAll(denseFeature, denseConfig);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLACEMENTS)
+    public int dikeOre(Placed placed) {
+        return placeAll(dikeFeature, dikeConfig);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLACEMENTS)
+    public int geodeOre(Placed placed) {
+        return placeAll(geodeFeature, geodeConfig);
+    }
+
+    private <C extends FeatureConfiguration> int placeAll(Feature<C> feature, C config) {
+        int placed = 0;
+        for (BlockPos origin : origins) {
+            if (feature.place(new FeaturePlaceContext<>(Optional.empty(), world, null, random, origin, config))) placed++;
+        }
+        return placed;
+    }
+}
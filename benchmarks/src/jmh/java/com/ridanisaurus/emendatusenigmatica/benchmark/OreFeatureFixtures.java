@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.benchmark;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shared setup of the ore feature benchmarks.
+ * <br><br>
+ * Bootstraps the vanilla registries, and builds a data registry with strata and deposit models
+ * parsed through the same codecs as the config files.
+ * Block definitions only use vanilla blocks, as material and tag based ones need the mod and tags to be loaded.
+ */
+public final class OreFeatureFixtures {
+    /**
+     * Filler blocks of the available strata, in the order they're used.
+     */
+    public static final List<String> STRATA_FILLERS = List.of(
+        "minecraft:stone",
+        "minecraft:deepslate",
+        "minecraft:granite",
+        "minecraft:diorite",
+        "minecraft:andesite",
+        "minecraft:tuff",
+        "minecraft:calcite",
+        "minecraft:netherrack"
+    );
+
+    static {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private OreFeatureFixtures() {}
+
+    /**
+     * Mix of block definitions placed by the deposits.
+     */
+    public enum BlockMix {
+        /**
+         * One block definition.
+         */
+        SINGLE("""
+            [{ "block": "minecraft:iron_ore", "weight": 1 }]"""),
+        /**
+         * Four block definitions with different weights.
+         */
+        WEIGHTED("""
+            [
+              { "block": "minecraft:iron_ore", "weight": 4 },
+              { "block": "minecraft:copper_ore", "weight": 3 },
+              { "block": "minecraft:gold_ore", "weight": 2 },
+              { "block": "minecraft:diamond_ore", "weight": 1 }
+            ]""");
+
+        private final String json;
+
+        BlockMix(String json) {
+            this.json = json;
+        }
+    }
+
+    /**
+     * Used to create a data registry with the first {@code count} strata of {@link #STRATA_FILLERS}.
+     * @param count Amount of strata to register.
+     * @return EmendatusDataRegistry with the strata registered.
+     */
+    public static EmendatusDataRegistry createRegistry(int count) {
+        EmendatusDataRegistry registry = new EmendatusDataRegistry();
+        for (String filler : STRATA_FILLERS.subList(0, count)) {
+            registry.registerStrata(decode(StrataModel.CODEC, """
+                {
+                  "id": "%s",
+                  "baseTexture": "minecraft:block/stone",
+                  "suffix": "%s",
+                  "fillerType": "%s",
+                  "localizedName": "%s"
+                }""".formatted(strataId(filler), strataId(filler), filler, filler)));
+        }
+        registry.freeze();
+        return registry;
+    }
+
+    /**
+     * Used to get the filler block states of the first {@code count} strata of {@link #STRATA_FILLERS}.
+     * @param count Amount of strata.
+     * @return List of the filler block states.
+     */
+    public static List<BlockState> strataStates(int count) {
+        return STRATA_FILLERS.subList(0, count).stream()
+            .map(filler -> BuiltInRegistries.BLOCK.get(ResourceLocation.parse(filler)).defaultBlockState())
+            .toList();
+    }
+
+    /**
+     * Used to get the JSON array of strata IDs used as the fillerTypes of the deposits.
+     * @param count Amount of strata.
+     * @return JSON array of the strata IDs.
+     */
+    public static String fillerTypes(int count) {
+        return STRATA_FILLERS.subList(0, count).stream()
+            .map(filler -> "\"" + strataId(filler) + "\"")
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Used to get the JSON array of block definitions of the mix.
+     * @param mix Mix of the block definitions.
+     * @return JSON array of the block definitions.
+     */
+    public static String blocks(BlockMix mix) {
+        return mix.json;
+    }
+
+    /**
+     * Used to decode a model from JSON, the same way the deposit processors do.
+     * @param codec Codec of the model.
+     * @param json JSON of the model.
+     * @return Decoded model.
+     * @throws IllegalArgumentException when the JSON isn't valid for the codec.
+     */
+    public static <T> T decode(Codec<T> codec, String json) {
+        JsonElement element = JsonParser.parseString(json);
+        return codec.parse(JsonOps.INSTANCE, element).getOrThrow(IllegalArgumentException::new);
+    }
+
+    private static String strataId(String filler) {
+        return filler.replace(':', '_');
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.benchmark;
+
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.datagen.gen.block.BlockModelsGen;
+import com.ridanisaurus.emendatusenigmatica.datagen.gen.block.BlockStatesGen;
+import com.ridanisaurus.emendatusenigmatica.datagen.gen.fluid.FluidModelsGen;
+import com.ridanisaurus.emendatusenigmatica.datagen.gen.world.NeoFeatureGen;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.RegistryValidationManager;
+import com.ridanisaurus.emendatusenigmatica.plugin.DefaultConfigPlugin;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import net.minecraft.SharedConstants;
+import net.minecraft.data.DataGenerator;
+import net.minecraft.server.Bootstrap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless benchmark of the startup pipeline: loading, validation, registry validation and data generation,
+ * run against synthetic configs written by {@link SyntheticConfigs}.
+ * <br><br>
+ * Reports wall time, bytes allocated by all threads and peak heap usage per phase,
+ * followed by the finer grained timings gathered by the {@link Analytics} on the way.
+ * <br><br>
+ * Usage: {@code StartupBenchmark <materials> <work directory>}, or {@code ./gradlew :benchmarks:startupBenchmark}.
+ * <br>
+ * Data generation only runs the providers that don't resolve registered blocks and items
+ * (block states, block models, fluid models and NeoForge features), as nothing gets registered outside the game.
+ * Each run must happen in a fresh JVM, as the loader keeps its state in static fields.
+ */
+public final class StartupBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private StartupBenchmark() {}
+
+    /**
+     * Result of a single phase.
+     * @param name Name of the phase.
+     * @param nanos Wall time of the phase.
+     * @param allocatedBytes Bytes allocated by all threads during the phase.
+     * @param peakHeapBytes Peak heap usage during the phase, summed over the peaks of the heap pools.
+     */
+    public record PhaseResult(String name, long nanos, long allocatedBytes, long peakHeapBytes) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: StartupBenchmark <materials> <work directory>");
+            System.exit(1);
+        }
+        int materials = Integer.parseInt(args[0]);
+        Path workDir = Path.of(args[1]);
+        Path configDir = workDir.resolve("config");
+        Path outputDir = workDir.resolve("generated");
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        EEConfig.setupStartupDefaults();
+
+        deleteRecursively(workDir);
+        SyntheticConfigs.write(configDir, materials);
+        Analytics.devSetup(configDir);
+
+        EmendatusDataRegistry registry = new EmendatusDataRegistry();
+        List<PhaseResult> results = new ArrayList<>();
+        results.add(measure("Load and validation", () -> {
+            new DefaultConfigPlugin().load(registry);
+            registry.freeze();
+        }));
+        results.add(measure("Registry validation", RegistryValidationManager::validate));
+        results.add(measure("Data generation", () -> {
+            DataGenerator generator = new DataGenerator(outputDir, SharedConstants.getCurrentVersion(), true);
+            generator.addProvider(true, new BlockStatesGen(generator, registry));
+            generator.addProvider(true, new BlockModelsGen(generator, registry));
+            generator.addProvider(true, new FluidModelsGen(generator, registry));
+            generator.addProvider(true, new NeoFeatureGen(generator, registry));
+            try {
+                generator.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        System.out.printf("%nStartup pipeline, %d materials (%d registered, %d strata)%n", materials, registry.getMaterials().size(), registry.getStrata().size());
+        System.out.printf("%-24s %12s %16s %16s%n", "Phase", "Time (ms)", "Allocated (MB)", "Peak heap (MB)");
+        for (PhaseResult result : results) {
+            System.out.printf("%-24s %12d %16.1f %16.1f%n",
+                result.name(),
+                TimeUnit.NANOSECONDS.toMillis(result.nanos()),
+                result.allocatedBytes() / 1048576D,
+                result.peakHeapBytes() / 1048576D
+            );
+        }
+        System.out.printf("%nAnalytics%n");
+        Analytics.getPerformanceAnalytics().forEach((category, time) -> System.out.printf("%-40s %s%n", category, time));
+
+        // Bootstrap leaves non-daemon threads behind.
+        System.exit(0);
+    }
+
+    /**
+     * Used to measure a single phase.
+     * @param name Name of the phase.
+     * @param phase Phase to run.
+     * @return Result of the phase.
+     */
+    public static PhaseResult measure(String name, Runnable phase) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long allocated = THREADS.getTotalThreadAllocatedBytes();
+        long start = System.nanoTime();
+        phase.run();
+        long nanos = System.nanoTime() - start;
+        allocated = THREADS.getTotalThreadAllocatedBytes() - allocated;
+
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new PhaseResult(name, nanos, allocated, peak);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (Files.notExists(dir)) return;
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
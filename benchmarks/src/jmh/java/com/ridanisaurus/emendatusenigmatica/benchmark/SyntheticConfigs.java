@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Used to write synthetic strata, material, compat and deposit JSONs into a config directory,
+ * in the layout read by the DefaultLoader.
+ * <br><br>
+ * Every material has ores and the common metal processed types. Every fourth material gets a compat file,
+ * and every material gets a deposit, rotating through the vanilla, sphere, dense, dike and geode deposit types.
+ * All referenced items and blocks outside the mod are vanilla ones, so the registry validation can resolve them.
+ */
+public final class SyntheticConfigs {
+    private static final List<String> STRATA_FILLERS = List.of(
+        "minecraft:stone",
+        "minecraft:deepslate",
+        "minecraft:granite",
+        "minecraft:diorite",
+        "minecraft:andesite",
+        "minecraft:tuff",
+        "minecraft:netherrack",
+        "minecraft:end_stone"
+    );
+    private static final List<String> PROCESSED_TYPES = List.of(
+        "ore", "storage_block", "ingot", "nugget", "raw", "dust", "plate", "gear", "rod", "fluid"
+    );
+
+    private SyntheticConfigs() {}
+
+    /**
+     * Used to write the synthetic configs.
+     * @param configDir Directory to write the strata, material, compat and deposit folders into.
+     * @param materials Amount of materials (and deposits) to generate.
+     * @throws IOException when any of the files can't be written.
+     */
+    public static void write(Path configDir, int materials) throws IOException {
+        for (String filler : STRATA_FILLERS) {
+            String id = filler.replace(':', '_');
+            write(configDir.resolve("strata").resolve(id + ".json"), """
+                {
+                  "id": "%s",
+                  "baseTexture": "%s",
+                  "suffix": "%s",
+                  "fillerType": "%s",
+                  "localizedName": "%s"
+                }""".formatted(id, filler.replace(":", ":block/"), id, filler, id));
+        }
+
+        String processedTypes = PROCESSED_TYPES.stream().map(type -> "\"" + type + "\"").collect(Collectors.joining(", "));
+        for (int i = 0; i < materials; i++) {
+            String id = "synthetic_" + i;
+            String color = "%06x".formatted((i * 0x9E3779) & 0xFFFFFF);
+            write(configDir.resolve("material").resolve(id + ".json"), """
+                {
+                  "id": "%s",
+                  "source": "modded",
+                  "localizedName": "Synthetic %d",
+                  "processedTypes": [%s],
+                  "properties": {
+                    "materialType": "metal",
+                    "harvestLevel": %d
+                  },
+                  "colors": {
+                    "fluidColor": "%s",
+                    "materialColor": "%s"
+                  }
+                }""".formatted(id, i, processedTypes, i % 4, color, color));
+
+            if (i % 4 == 0) write(configDir.resolve("compat").resolve(id + ".json"), """
+                {
+                  "id": "%s",
+                  "recipes": [
+                    {
+                      "mod": "create",
+                      "machine": "crushing_wheels",
+                      "values": [
+                        {
+                          "type": "ore",
+                          "output": [
+                            { "item": "minecraft:cobblestone", "count": 1, "chance": 0.35 }
+                          ]
+                        }
+                      ]
+                    }
+                  ]
+                }""".formatted(id));
+
+            write(configDir.resolve("deposit").resolve(id + ".json"), deposit(i, id));
+        }
+    }
+
+    private static String deposit(int index, String material) {
+        String header = """
+              "dimension": "minecraft:overworld",
+              "biomes": ["#minecraft:is_overworld"],
+              "registryName": "%s_deposit",""".formatted(material);
+        return switch (index % 5) {
+            case 0 -> """
+                {
+                  "type": "emendatusenigmatica:vanilla_deposit",
+                %s
+                  "config": {
+                    "material": "%s",
+                    "fillerTypes": ["minecraft_stone", "minecraft_deepslate"],
+                    "chance": 8,
+                    "size": 9,
+                    "minYLevel": -64,
+                    "maxYLevel": 64,
+                    "placement": "triangle",
+                    "rarity": "common"
+                  }
+                }""".formatted(header, material);
+            case 1 -> """
+                {
+                  "type": "emendatusenigmatica:sphere_deposit",
+                %s
+                  "config": {
+                    "blocks": [{ "material": "%s", "weight": 1 }],
+                    "fillerTypes": ["minecraft_stone"],
+                    "chance": 10,
+                    "radius": 4,
+                    "minYLevel": 0,
+                    "maxYLevel": 64
+                  }
+                }""".formatted(header, material);
+            case 2 -> """
+                {
+                  "type": "emendatusenigmatica:dense_deposit",
+                %s
+                  "config": {
+                    "blocks": [{ "material": "%s", "weight": 1 }],
+                    "fillerTypes": ["minecraft_stone", "minecraft_deepslate"],
+                    "chance": 10,
+                    "size": 16,
+                    "minYLevel": -64,
+                    "maxYLevel": 32
+                  }
+                }""".formatted(header, material);
+            case 3 -> """
+                {
+                  "type": "emendatusenigmatica:dike_deposit",
+                %s
+                  "config": {
+                    "blocks": [{ "material": "%s", "weight": 1 }],
+                    "fillerTypes": ["minecraft_stone"],
+                    "chance": 10,
+                    "size": 8,
+                    "minYLevel": 0,
+                    "maxYLevel": 48
+                  }
+                }""".formatted(header, material);
+            default -> """
+                {
+                  "type": "emendatusenigmatica:geode_deposit",
+                %s
+                  "config": {
+                    "outerShellBlocks": [{ "block": "minecraft:smooth_basalt", "weight": 1 }],
+                    "innerShellBlocks": [{ "block": "minecraft:calcite", "weight": 1 }],
+                    "innerBlocks": [{ "material": "%s", "weight": 1 }],
+                    "fillBlocks": [{ "block": "minecraft:air", "weight": 1 }],
+                    "fillerTypes": ["minecraft_stone", "minecraft_deepslate"],
+                    "clusters": ["minecraft:small_amethyst_bud"],
+                    "chance": 5,
+                    "crackChance": 0.5,
+                    "minYLevel": -48,
+                    "maxYLevel": 16
+                  }
+                }""".formatted(header, material);
+        };
+    }
+
+    private static void write(Path file, String json) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+    }
+}
@@ -30,10 +30,12 @@ import com.ridanisaurus.emendatusenigmatica.config.ConfigMenu;
 import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
 import com.ridanisaurus.emendatusenigmatica.datagen.DataGeneratorFactory;
 import com.ridanisaurus.emendatusenigmatica.datagen.EEDataGenerator;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEPrebakedPack;
 import com.ridanisaurus.emendatusenigmatica.datagen.EEPackFinder;
 import com.ridanisaurus.emendatusenigmatica.loader.EELoader;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.RegistryValidationManager;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.tabs.EECreativeTab;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
@@ -85,6 +87,7 @@ public class EmendatusEnigmatica {
         EEConfig.registerClient(modContainer);
         EEConfig.setupStartup(modContainer);
         Analytics.setup();
+        StartupTracer.Span span = StartupTracer.span("Startup", "Mod construction");
 
         DataGeneratorFactory.init();
         this.generator = DataGeneratorFactory.createEEDataGenerator();
@@ -97,6 +100,7 @@ public class EmendatusEnigmatica {
 
         this.loader.registerDatagen(this.generator);
         this.loader.finish();
+        span.close();
 
         // Creative Tab Item Registration.
         modEventBus.addListener(this::populateCreativeTab);
@@ -133,11 +137,20 @@ public class EmendatusEnigmatica {
             return;
         }
         generator.run();
+        // Prebaking launches the game only to generate the pack, there is nothing left to do once it's exported.
+        if (EEPrebakedPack.isPrebaking() && generator.hasExecuted()) {
+            EEPrebakedPack.export(DataGeneratorFactory.ROOT_PATH);
+            System.exit(0);
+        }
     }
 
     private void commonSetup(FMLCommonSetupEvent event) {
-        boolean result = RegistryValidationManager.validate();
+        boolean result;
+        try (var span = StartupTracer.span("Startup", "Common setup")) {
+            result = RegistryValidationManager.validate();
+        }
         Analytics.finalizeAnalytics();
+        StartupTracer.write();
         if (!result)
             throw new IllegalStateException("Registry validation failed! %s Validation Summary for more details.".formatted(EEConfig.startup.generateSummary.get()? "Check the": "Enable"));
     }
@@ -27,6 +27,8 @@ package com.ridanisaurus.emendatusenigmatica.api;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatRecipesModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatValuesModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import net.minecraft.resources.ResourceLocation;
@@ -34,7 +36,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +46,10 @@ import java.util.Map;
  * Registry of all the data loaded from the plugins in {@link com.ridanisaurus.emendatusenigmatica.loader.EELoader} using {@link IEmendatusPlugin}
  *
  * Here are stored all the materials, strata and compat.
+ * <br><br>
+ * Once the loading is finished, the registry is {@link #freeze() frozen}.
+ * Frozen registry publishes immutable, insertion-ordered snapshots of the materials, strata and compat,
+ * which are shared between all calls and safe to read from any thread, and rejects any further registration.
  */
 public class EmendatusDataRegistry {
 
@@ -49,12 +57,19 @@ public class EmendatusDataRegistry {
     private final Map<String, StrataModel> strata;
     private final Map<String, String> strataByFiller;
     private final List<CompatModel> compat;
+    // Material ID -> Mod -> Machine -> Values
+    private final Map<String, Map<String, Map<String, List<CompatValuesModel>>>> compatIndex;
+    private List<MaterialModel> materialSnapshot;
+    private List<StrataModel> strataSnapshot;
+    private List<CompatModel> compatSnapshot;
+    private volatile boolean frozen = false;
 
     public EmendatusDataRegistry() {
         this.strataByFiller = new HashMap<>();
-        this.materials = new HashMap<>();
-        this.strata = new HashMap<>();
+        this.materials = new LinkedHashMap<>();
+        this.strata = new LinkedHashMap<>();
         this.compat = new ArrayList<>();
+        this.compatIndex = new HashMap<>();
     }
 
     /**
@@ -65,6 +80,11 @@ public class EmendatusDataRegistry {
      */
     @CanIgnoreReturnValue
     public MaterialModel getMaterialOrRegister(String material, MaterialModel defaultModel){
+        if (frozen) {
+            MaterialModel model = this.materials.get(material);
+            if (model == null) throw frozenException("material " + material);
+            return model;
+        }
         return this.materials.computeIfAbsent(material, s -> defaultModel);
     }
 
@@ -78,10 +98,12 @@ public class EmendatusDataRegistry {
     }
 
     public List<MaterialModel> getMaterials(){
+        if (frozen) return materialSnapshot;
         return ImmutableList.copyOf(materials.values());
     }
 
     public void registerStrata(@NotNull StrataModel strataModel){
+        if (frozen) throw frozenException("strata " + strataModel.getId());
         this.strataByFiller.put(strataModel.getFillerType().toString(), strataModel.getId());
         this.strata.put(strataModel.getId(), strataModel);
     }
@@ -91,6 +113,7 @@ public class EmendatusDataRegistry {
     }
 
     public List<StrataModel> getStrata(){
+        if (frozen) return strataSnapshot;
         return ImmutableList.copyOf(strata.values());
     }
 
@@ -101,10 +124,78 @@ public class EmendatusDataRegistry {
     }
 
     public void registerCompat(CompatModel compatModel){
+        if (frozen) throw frozenException("compat of " + compatModel.getId());
         this.compat.add(compatModel);
+        Map<String, Map<String, List<CompatValuesModel>>> byMod = this.compatIndex.computeIfAbsent(compatModel.getId(), s -> new HashMap<>());
+        for (CompatRecipesModel recipe : compatModel.getRecipes()) {
+            byMod.computeIfAbsent(recipe.getMod(), s -> new HashMap<>())
+                .computeIfAbsent(recipe.getMachine(), s -> new ArrayList<>())
+                .addAll(recipe.getValues());
+        }
     }
 
     public List<CompatModel> getCompat() {
+        if (frozen) return compatSnapshot;
         return ImmutableList.copyOf(compat);
     }
+
+    /**
+     * Used to get the compat values of the material, for specified mod and machine.
+     * @param materialID ID of the material.
+     * @param mod ID of the mod, as used in the compat files.
+     * @param machine Machine of the mod, as used in the compat files.
+     * @return Unmodifiable List of the values from all compat files of the material, or empty list if none are present.
+     */
+    public List<CompatValuesModel> getCompatValues(String materialID, String mod, String machine) {
+        List<CompatValuesModel> values = getCompatMachines(materialID, mod).get(machine);
+        // Values are already immutable once the registry is frozen, so this only copies them before that.
+        return values == null ? List.of() : List.copyOf(values);
+    }
+
+    /**
+     * Used to get the compat values of the material for specified mod, grouped by the machine.
+     * @param materialID ID of the material.
+     * @param mod ID of the mod, as used in the compat files.
+     * @return Unmodifiable Map of Machine -> Values, or empty map if the material has no compat for the mod.
+     * @apiNote Before the registry is {@link #freeze() frozen}, the returned map is a view, and reflects compat registered later.
+     */
+    public Map<String, List<CompatValuesModel>> getCompatMachines(String materialID, String mod) {
+        Map<String, Map<String, List<CompatValuesModel>>> byMod = this.compatIndex.get(materialID);
+        if (byMod == null) return Map.of();
+        Map<String, List<CompatValuesModel>> byMachine = byMod.get(mod);
+        return byMachine == null ? Map.of() : Collections.unmodifiableMap(byMachine);
+    }
+
+    /**
+     * Used to check if the material has any compat values for specified mod.
+     * @param materialID ID of the material.
+     * @param mod ID of the mod, as used in the compat files.
+     * @return True if any compat file of the material contains recipes for the mod.
+     */
+    public boolean hasCompat(String materialID, String mod) {
+        return !getCompatMachines(materialID, mod).isEmpty();
+    }
+
+    /**
+     * Used to freeze the registry, once all the data is loaded.
+     * Publishes the snapshots returned by {@link #getMaterials()}, {@link #getStrata()} and {@link #getCompat()},
+     * after which any registration throws {@link IllegalStateException}.
+     * @apiNote Called by the loader after all plugins finished loading. Freezing an already frozen registry does nothing.
+     */
+    public synchronized void freeze() {
+        if (frozen) return;
+        this.materialSnapshot = List.copyOf(materials.values());
+        this.strataSnapshot = List.copyOf(strata.values());
+        this.compatSnapshot = List.copyOf(compat);
+        this.compatIndex.values().forEach(byMod -> byMod.values().forEach(byMachine -> byMachine.replaceAll((machine, values) -> List.copyOf(values))));
+        this.frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private @NotNull IllegalStateException frozenException(String what) {
+        return new IllegalStateException("Unable to register %s, EmendatusDataRegistry is already frozen!".formatted(what));
+    }
 }
@@ -55,6 +55,7 @@ public interface IEmendatusPlugin {
      * Method used to register dynamic data generators.
      * <p>
      * This will not run at your typical data generation time, it will be executed at runtime and automatically injected into the game, but they function the same as normal data generation.
+     * Providers of client assets should only run when {@link com.ridanisaurus.emendatusenigmatica.datagen.DataGeneratorFactory#includeClient()} is true.
      * @param generator DataGenerator to register data providers to.
      * @param registry Emendatus Enigmatica registry with all data parsed from the configuration files.
      * @param providers Vanilla Registry Lookup for use with vanilla generators that require it.
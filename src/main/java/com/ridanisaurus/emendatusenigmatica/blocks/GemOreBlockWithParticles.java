@@ -27,8 +27,8 @@ package com.ridanisaurus.emendatusenigmatica.blocks;
 import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.util.ParticleHelper;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
@@ -44,15 +44,13 @@ import net.minecraft.world.level.block.DropExperienceBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
-import org.joml.Vector3f;
 
 public class GemOreBlockWithParticles extends DropExperienceBlock implements IColorable {
 	private final String localisedName;
 	private final int minExp;
 	private final int maxExp;
-	private final int particleColor;
+	private final DustParticleOptions particle;
 	public final int highlight2;
 	public final int highlight1;
 	public final int base;
@@ -66,7 +64,7 @@ public class GemOreBlockWithParticles extends DropExperienceBlock implements ICo
 		this.localisedName = material.getLocalizedName();
 		this.minExp = material.getOreDrop().getMin();
 		this.maxExp = material.getOreDrop().getMax();
-		this.particleColor = material.getColors().getParticlesColor();
+		this.particle = ParticleHelper.dustOf(material.getColors().getParticlesColor());
 		this.highlight2 = material.getColors().getHighlightColor(3);
 		this.highlight1 = material.getColors().getHighlightColor(1);
 		this.base = material.getColors().getMaterialColor();
@@ -89,18 +87,7 @@ public class GemOreBlockWithParticles extends DropExperienceBlock implements ICo
 	public void animateTick(BlockState stateIn, Level worldIn, BlockPos pos, RandomSource rand) {
 		super.animateTick(stateIn, worldIn, pos, rand);
 
-		if(rand.nextInt(10) == 0) {
-			for(Direction direction : Direction.values()) {
-				BlockPos blockpos = pos.relative(direction);
-				if (!worldIn.getBlockState(blockpos).isSolidRender(worldIn, blockpos)) {
-					Direction.Axis direction$axis = direction.getAxis();
-					double d1 = direction$axis == Direction.Axis.X ? 0.5D + 0.5625D * (double)direction.getStepX() : (double)rand.nextFloat();
-					double d2 = direction$axis == Direction.Axis.Y ? 0.5D + 0.5625D * (double)direction.getStepY() : (double)rand.nextFloat();
-					double d3 = direction$axis == Direction.Axis.Z ? 0.5D + 0.5625D * (double)direction.getStepZ() : (double)rand.nextFloat();
-					worldIn.addParticle(new DustParticleOptions(new Vector3f(Vec3.fromRGB24(particleColor).toVector3f()), 1.0F), (double)pos.getX() + d1, (double)pos.getY() + d2, (double)pos.getZ() + d3, 0.0D, 0.0D, 0.0D);
-				}
-			}
-		}
+		ParticleHelper.emitOreParticles(particle, worldIn, pos, rand);
 	}
 
 	@Override
@@ -27,8 +27,8 @@ package com.ridanisaurus.emendatusenigmatica.blocks;
 import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.util.ParticleHelper;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
@@ -37,12 +37,10 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.Vec3;
-import org.joml.Vector3f;
 
 public class MetalOreBlockWithParticles extends Block implements IColorable {
 	private final String localisedName;
-	private final int particleColor;
+	private final DustParticleOptions particle;
 	public final int highlight2;
 	public final int highlight1;
 	public final int base;
@@ -54,7 +52,7 @@ public class MetalOreBlockWithParticles extends Block implements IColorable {
 				.strength(strata.getHardness(), strata.getResistance())
 				.requiresCorrectToolForDrops());
 		this.localisedName = material.getLocalizedName();
-		this.particleColor = material.getColors().getParticlesColor();
+		this.particle = ParticleHelper.dustOf(material.getColors().getParticlesColor());
 		this.highlight2 = material.getColors().getHighlightColor(3);
 		this.highlight1 = material.getColors().getHighlightColor(1);
 		this.base = material.getColors().getMaterialColor();
@@ -71,18 +69,7 @@ public class MetalOreBlockWithParticles extends Block implements IColorable {
 	public void animateTick(BlockState stateIn, Level worldIn, BlockPos pos, RandomSource rand) {
 		super.animateTick(stateIn, worldIn, pos, rand);
 
-		if(rand.nextInt(10) == 0) {
-			for(Direction direction : Direction.values()) {
-				BlockPos blockpos = pos.relative(direction);
-				if (!worldIn.getBlockState(blockpos).isSolidRender(worldIn, blockpos)) {
-					Direction.Axis direction$axis = direction.getAxis();
-					double d1 = direction$axis == Direction.Axis.X ? 0.5D + 0.5625D * (double)direction.getStepX() : (double)rand.nextFloat();
-					double d2 = direction$axis == Direction.Axis.Y ? 0.5D + 0.5625D * (double)direction.getStepY() : (double)rand.nextFloat();
-					double d3 = direction$axis == Direction.Axis.Z ? 0.5D + 0.5625D * (double)direction.getStepZ() : (double)rand.nextFloat();
-					worldIn.addParticle(new DustParticleOptions(new Vector3f(Vec3.fromRGB24(particleColor).toVector3f()), 1.0F), (double)pos.getX() + d1, (double)pos.getY() + d2, (double)pos.getZ() + d3, 0.0D, 0.0D, 0.0D);
-				}
-			}
-		}
+		ParticleHelper.emitOreParticles(particle, worldIn, pos, rand);
 	}
 
 	@Override
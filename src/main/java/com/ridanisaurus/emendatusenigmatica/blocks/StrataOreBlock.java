@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.blocks;
+
+import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.util.ParticleHelper;
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.valueproviders.ConstantInt;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.BlockItemStateProperties;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.DropExperienceBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.Property;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ore block of a single material, shared by multiple strata.
+ * <br><br>
+ * Strata of the ore is stored in the {@code strata} block-state property, instead of registering a separate block for each strata.
+ * Hardness and resistance still follow the strata of the state.
+ * @apiNote Use {@link #getState(String)} to get the state of a strata, as the default state only represents the first one.
+ */
+public class StrataOreBlock extends DropExperienceBlock implements IColorable {
+	/**
+	 * Used to pass the property into {@link #createBlockStateDefinition(StateDefinition.Builder)}, which is called by the super constructor.
+	 */
+	private static final ThreadLocal<StrataProperty> PENDING_PROPERTY = new ThreadLocal<>();
+
+	private final StrataProperty strataProperty;
+	private final Map<String, BlockState> states = new HashMap<>();
+	private final Object2FloatMap<String> hardness = new Object2FloatOpenHashMap<>();
+	private final Object2FloatMap<String> resistance = new Object2FloatOpenHashMap<>();
+	private final float defaultHardness;
+	private final String localisedName;
+	private final boolean gem;
+	private final int minExp;
+	private final int maxExp;
+	private final @Nullable DustParticleOptions particle;
+	public final int highlight2;
+	public final int highlight1;
+	public final int base;
+	public final int shadow1;
+	public final int shadow2;
+
+	public StrataOreBlock(List<StrataModel> strata, MaterialModel material) {
+		super(ConstantInt.of(0), prepare(strata)
+				.strength(strata.getFirst().getHardness(), strata.getFirst().getResistance())
+				.requiresCorrectToolForDrops());
+		this.strataProperty = PENDING_PROPERTY.get();
+		PENDING_PROPERTY.remove();
+		for (StrataModel stratum : strata) {
+			states.put(stratum.getId(), this.stateDefinition.any().setValue(strataProperty, stratum.getId()));
+			hardness.put(stratum.getId(), stratum.getHardness());
+			resistance.put(stratum.getId(), stratum.getResistance());
+		}
+		this.registerDefaultState(states.get(strata.getFirst().getId()));
+		this.defaultHardness = strata.getFirst().getHardness();
+		this.localisedName = material.getLocalizedName();
+		this.gem = material.getProperties().getMaterialType().equals("gem");
+		this.minExp = material.getOreDrop().getMin();
+		this.maxExp = material.getOreDrop().getMax();
+		this.particle = material.getProperties().hasParticles() ? ParticleHelper.dustOf(material.getColors().getParticlesColor()) : null;
+		this.highlight2 = material.getColors().getHighlightColor(3);
+		this.highlight1 = material.getColors().getHighlightColor(1);
+		this.base = material.getColors().getMaterialColor();
+		this.shadow1 = material.getColors().getShadowColor(1);
+		this.shadow2 = material.getColors().getShadowColor(2);
+	}
+
+	private static Properties prepare(List<StrataModel> strata) {
+		PENDING_PROPERTY.set(new StrataProperty(strata.stream().map(StrataModel::getId).toList()));
+		return Properties.ofFullCopy(Blocks.STONE);
+	}
+
+	@Override
+	protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+		builder.add(PENDING_PROPERTY.get());
+	}
+
+	/**
+	 * Used to get the state of the specified strata.
+	 * @param strata Strata ID.
+	 * @return BlockState of the strata, or null if this block doesn't cover the strata.
+	 */
+	public @Nullable BlockState getState(String strata) {
+		return states.get(strata);
+	}
+
+	/**
+	 * Used to get the strata of the state.
+	 * @param state State of this block.
+	 * @return Strata ID.
+	 */
+	public String getStrata(BlockState state) {
+		return state.getValue(strataProperty);
+	}
+
+	/**
+	 * Used to get all strata covered by this block.
+	 * @return Unmodifiable List of the strata IDs, in the registration order.
+	 */
+	public List<String> getStrata() {
+		return strataProperty.getPossibleValues();
+	}
+
+	/**
+	 * Used to check if the strata is the primary one of the block, to generate data shared by all strata only once.
+	 * @param block Ore block of the strata.
+	 * @param strata Strata ID.
+	 * @return True if the block is not a strata variant ore, or the strata is its first strata.
+	 */
+	public static boolean isPrimary(Block block, String strata) {
+		return !(block instanceof StrataOreBlock ore) || ore.getStrata().getFirst().equals(strata);
+	}
+
+	public Property<String> getStrataProperty() {
+		return strataProperty;
+	}
+
+	/**
+	 * Used to create an ItemStack of this block, which places the state of the specified strata.
+	 * @param strata Strata ID.
+	 * @return ItemStack of the strata.
+	 */
+	public ItemStack getItemStack(String strata) {
+		ItemStack stack = new ItemStack(this);
+		stack.set(DataComponents.BLOCK_STATE, BlockItemStateProperties.EMPTY.with(strataProperty, strata));
+		return stack;
+	}
+
+	@Override
+	public MutableComponent getName() {
+		return Component.translatable(localisedName);
+	}
+
+	@Override
+	protected float getDestroyProgress(BlockState state, Player player, BlockGetter level, BlockPos pos) {
+		float progress = super.getDestroyProgress(state, player, level, pos);
+		float stateHardness = hardness.getFloat(getStrata(state));
+		if (stateHardness == defaultHardness) return progress;
+		if (stateHardness < 0) return 0;
+		if (stateHardness == 0) return 1;
+		// Destroy progress is inversely proportional to the hardness of the properties.
+		return defaultHardness > 0 ? progress * defaultHardness / stateHardness : progress;
+	}
+
+	@Override
+	public float getExplosionResistance(BlockState state, BlockGetter level, BlockPos pos, Explosion explosion) {
+		return resistance.getFloat(getStrata(state));
+	}
+
+	@Override
+	public ItemStack getCloneItemStack(LevelReader level, BlockPos pos, BlockState state) {
+		return getItemStack(getStrata(state));
+	}
+
+	@Override
+	public int getExpDrop(BlockState state, LevelAccessor level, BlockPos pos, @Nullable BlockEntity blockEntity, @Nullable Entity breaker, ItemStack tool) {
+		if (!gem) return 0;
+		//Apparently, vanilla calculates Block Experience bonus from Enchantments now.
+		return Mth.nextInt(level.getRandom(), minExp, maxExp);
+	}
+
+	@Override
+	public void animateTick(BlockState stateIn, Level worldIn, BlockPos pos, RandomSource rand) {
+		super.animateTick(stateIn, worldIn, pos, rand);
+		if (particle != null) ParticleHelper.emitOreParticles(particle, worldIn, pos, rand);
+	}
+
+	@Override
+	public int getHighlight2() {
+		return highlight2;
+	}
+
+	@Override
+	public int getHighlight1() {
+		return highlight1;
+	}
+
+	@Override
+	public int getBase() {
+		return base;
+	}
+
+	@Override
+	public int getShadow1() {
+		return shadow1;
+	}
+
+	@Override
+	public int getShadow2() {
+		return shadow2;
+	}
+
+	/**
+	 * Block-state property of the strata, with strata IDs as its values.
+	 */
+	public static class StrataProperty extends Property<String> {
+		private final List<String> values;
+
+		protected StrataProperty(List<String> values) {
+			super("strata", String.class);
+			this.values = List.copyOf(values);
+		}
+
+		@Override
+		public List<String> getPossibleValues() {
+			return values;
+		}
+
+		@Override
+		public String getName(String value) {
+			return value;
+		}
+
+		@Override
+		public Optional<String> getValue(String name) {
+			return values.contains(name) ? Optional.of(name) : Optional.empty();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			return o instanceof StrataProperty other && super.equals(o) && values.equals(other.values);
+		}
+
+		@Override
+		public int generateHashCode() {
+			return 31 * super.generateHashCode() + values.hashCode();
+		}
+	}
+}
@@ -25,8 +25,6 @@
 package com.ridanisaurus.emendatusenigmatica.blocks.templates;
 
 
-import com.google.common.base.Suppliers;
-import com.google.common.collect.BiMap;
 import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
 import com.ridanisaurus.emendatusenigmatica.items.PaxelItem;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
@@ -46,13 +44,13 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
 import net.minecraft.world.phys.BlockHitResult;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
-import java.util.function.Supplier;
 
 public class BasicWaxedBlock extends Block implements IColorable {
-	private final Supplier<BiMap<Block, Block>> waxableBlockMap;
-	private final Supplier<BiMap<Block, Block>> reverseWaxableBlockMap;
+	// Linked once after the block registration finishes.
+	private @Nullable Block unwaxed;
 	private final String localisedName;
 	public final int highlight2;
 	public final int highlight1;
@@ -61,12 +59,10 @@ public class BasicWaxedBlock extends Block implements IColorable {
 	public final int shadow2;
 	public final int oxidizationColor;
 
-	public BasicWaxedBlock(MaterialModel material, Supplier<BiMap<Block, Block>> waxableBlockMap) {
+	public BasicWaxedBlock(MaterialModel material) {
 		super(Properties.ofFullCopy(Blocks.IRON_BLOCK)
 				.strength(3f, 3f)
 				.requiresCorrectToolForDrops());
-		this.waxableBlockMap = waxableBlockMap;
-		this.reverseWaxableBlockMap = Suppliers.memoize(() -> waxableBlockMap.get().inverse());
 		this.localisedName = material.getLocalizedName();
 		this.highlight2 = material.getColors().getHighlightColor(3);
 		this.highlight1 = material.getColors().getHighlightColor(1);
@@ -76,6 +72,14 @@ public class BasicWaxedBlock extends Block implements IColorable {
 		this.oxidizationColor = material.getColors().getOxidizationColor();
 	}
 
+	/**
+	 * Used to link this block with its unwaxed variant.
+	 * @param unwaxed Block this block turns into when scraped.
+	 */
+	public void linkUnwaxed(Block unwaxed) {
+		this.unwaxed = unwaxed;
+	}
+
 	public ItemInteractionResult useItemOn(BlockState blockState, Level level, BlockPos pos, Player player, InteractionHand hand, BlockHitResult hitResult) {
 		ItemStack stack = player.getItemInHand(hand);
 
@@ -93,11 +97,11 @@ public class BasicWaxedBlock extends Block implements IColorable {
 	}
 
 	private Optional<Block> getUnwaxed(Block block) {
-		return Optional.ofNullable(reverseWaxableBlockMap.get().get(block));
+		return block instanceof BasicWaxedBlock waxed ? Optional.ofNullable(waxed.unwaxed) : Optional.empty();
 	}
 
-	public Supplier<BiMap<Block, Block>> getWaxable() {
-		return waxableBlockMap;
+	public Optional<Block> getUnwaxed() {
+		return Optional.ofNullable(unwaxed);
 	}
 
 	@Override
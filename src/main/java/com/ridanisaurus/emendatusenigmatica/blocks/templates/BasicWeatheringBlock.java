@@ -24,8 +24,6 @@
 
 package com.ridanisaurus.emendatusenigmatica.blocks.templates;
 
-import com.google.common.base.Suppliers;
-import com.google.common.collect.BiMap;
 import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
 import com.ridanisaurus.emendatusenigmatica.items.PaxelItem;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
@@ -49,15 +47,17 @@ import net.minecraft.world.level.block.ChangeOverTimeBlock;
 import net.minecraft.world.level.block.state.BlockState;
 
 import net.minecraft.world.phys.BlockHitResult;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
-import java.util.function.Supplier;
 
 public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<BasicWeatheringBlock.WeatherState>, IColorable {
 	private final WeatherState weatherState;
-	private final Supplier<BiMap<Block, Block>> nextByBlock;
-	private final Supplier<BiMap<Block, Block>> previousByBlock;
-	private final Supplier<BiMap<Block, Block>> waxableBlockMap;
+	// Weathering chain, linked once after the block registration finishes.
+	private @Nullable Block next;
+	private @Nullable Block previous;
+	private @Nullable Block waxed;
+	private Block first = this;
 	private final String localisedName;
 	public final int highlight2;
 	public final int highlight1;
@@ -66,14 +66,11 @@ public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<B
 	public final int shadow2;
 	public final int oxidizationColor;
 
-	public BasicWeatheringBlock(MaterialModel material, WeatherState weatherState, Supplier<BiMap<Block, Block>> nextByBlock, Supplier<BiMap<Block, Block>> waxableBlockMap) {
+	public BasicWeatheringBlock(MaterialModel material, WeatherState weatherState) {
 		super(Properties.ofFullCopy(Blocks.COPPER_BLOCK)
 				.strength(3f, 3f)
 				.requiresCorrectToolForDrops());
 		this.weatherState = weatherState;
-		this.nextByBlock = nextByBlock;
-		this.previousByBlock = Suppliers.memoize(() -> nextByBlock.get().inverse());
-		this.waxableBlockMap = waxableBlockMap;
 		this.localisedName = material.getLocalizedName();
 		this.highlight2 = material.getColors().getHighlightColor(3);
 		this.highlight1 = material.getColors().getHighlightColor(1);
@@ -83,12 +80,27 @@ public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<B
 		this.oxidizationColor = material.getColors().getOxidizationColor();
 	}
 
+	/**
+	 * Used to link this block with the rest of its weathering chain.
+	 * @param previous Block this block turns into when scraped, or null if it's the first block of the chain.
+	 * @param next Block this block weathers into, or null if it's the last block of the chain.
+	 * @param first First block of the chain.
+	 * @param waxed Waxed variant of this block.
+	 */
+	public void linkWeatheringChain(@Nullable Block previous, @Nullable Block next, Block first, Block waxed) {
+		this.previous = previous;
+		this.next = next;
+		this.first = first;
+		this.waxed = waxed;
+	}
+
 	public void randomTick(BlockState blockState, ServerLevel level, BlockPos pos, RandomSource rand) {
 		this.changeOverTime(blockState, level, pos, rand);
 	}
 
 	public boolean isRandomlyTicking(BlockState blockState) {
-		return getNext(blockState.getBlock()).isPresent();
+		// The last stage of the chain never weathers further, so it doesn't need to be scheduled for random ticks.
+		return this.weatherState != WeatherState.OXIDIZED;
 	}
 
 	@Override
@@ -97,17 +109,11 @@ public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<B
 	}
 
 	public Optional<Block> getPrevious(Block block) {
-		return Optional.ofNullable(previousByBlock.get().get(block));
+		return block instanceof BasicWeatheringBlock weathering ? Optional.ofNullable(weathering.previous) : Optional.empty();
 	}
 
 	public Block getFirst(Block block) {
-		Block block1 = block;
-
-		for(Block block2 = previousByBlock.get().get(block); block2 != null; block2 = previousByBlock.get().get(block2)) {
-			block1 = block2;
-		}
-
-		return block1;
+		return block instanceof BasicWeatheringBlock weathering ? weathering.first : block;
 	}
 
 	public ItemInteractionResult useItemOn(BlockState blockState, Level level, BlockPos pos, Player player, InteractionHand hand, BlockHitResult hitResult) {
@@ -139,7 +145,7 @@ public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<B
 	}
 
 	public Optional<Block> getNext(Block block) {
-		return Optional.ofNullable(nextByBlock.get().get(block));
+		return block instanceof BasicWeatheringBlock weathering ? Optional.ofNullable(weathering.next) : Optional.empty();
 	}
 
 	public BlockState getFirst(BlockState blockState) {
@@ -147,7 +153,7 @@ public class BasicWeatheringBlock extends Block implements ChangeOverTimeBlock<B
 	}
 
 	private Optional<Block> getWaxed(Block block) {
-		return Optional.ofNullable(waxableBlockMap.get().get(block));
+		return block instanceof BasicWeatheringBlock weathering ? Optional.ofNullable(weathering.waxed) : Optional.empty();
 	}
 
 	@Override
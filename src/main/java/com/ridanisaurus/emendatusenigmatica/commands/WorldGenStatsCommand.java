@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.world.gen.WorldGenMetrics;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Used to register the {@code /ee worldgen stats} command, printing placement metrics of the deposit features.
+ * @see WorldGenMetrics
+ */
+public class WorldGenStatsCommand {
+    /**
+     * Amount of deposits printed into the chat. Full list is available through the dump to the analytics summary.
+     */
+    private static final int CHAT_LIMIT = 10;
+
+    private WorldGenStatsCommand() {}
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("ee")
+            .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+            .then(Commands.literal("worldgen")
+                .then(Commands.literal("stats")
+                    .executes(WorldGenStatsCommand::print)
+                    .then(Commands.literal("dump").executes(WorldGenStatsCommand::dump))
+                    .then(Commands.literal("reset").executes(WorldGenStatsCommand::reset))
+                )
+            )
+        );
+    }
+
+    private static int print(CommandContext<CommandSourceStack> context) {
+        List<WorldGenMetrics.FeatureMetrics> metrics = WorldGenMetrics.getSorted();
+        CommandSourceStack source = context.getSource();
+        if (metrics.isEmpty()) {
+            source.sendFailure(Component.literal("No deposit features were placed yet."));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("Worldgen stats of %d deposits, by placement time:".formatted(metrics.size())), false);
+        metrics.stream().limit(CHAT_LIMIT).forEach(it -> source.sendSuccess(() -> Component.literal("%s: %s".formatted(it.getDeposit(), it.format())), false));
+        if (metrics.size() > CHAT_LIMIT) {
+            source.sendSuccess(() -> Component.literal("...and %d more, use /ee worldgen stats dump for the full list.".formatted(metrics.size() - CHAT_LIMIT)), false);
+        }
+        return metrics.size();
+    }
+
+    private static int dump(CommandContext<CommandSourceStack> context) {
+        List<WorldGenMetrics.FeatureMetrics> metrics = WorldGenMetrics.getSorted();
+        Map<String, String> rows = new LinkedHashMap<>();
+        metrics.forEach(it -> rows.put(it.getDeposit(), it.format()));
+
+        if (!Analytics.isFinalized() || !Analytics.appendPerformanceTable("Worldgen Performance", rows)) {
+            context.getSource().sendFailure(Component.literal("Validation summary file is not available."));
+            return 0;
+        }
+        context.getSource().sendSuccess(() -> Component.literal("Worldgen stats of %d deposits were appended to %s".formatted(metrics.size(), Analytics.getSummaryFile())), true);
+        return metrics.size();
+    }
+
+    private static int reset(CommandContext<CommandSourceStack> context) {
+        WorldGenMetrics.reset();
+        context.getSource().sendSuccess(() -> Component.literal("Worldgen stats were reset."), true);
+        return 1;
+    }
+}
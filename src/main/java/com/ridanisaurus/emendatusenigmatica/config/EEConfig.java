@@ -24,12 +24,15 @@
 
 package com.ridanisaurus.emendatusenigmatica.config;
 
+import com.electronwill.nightconfig.core.CommentedConfig;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.neoforged.fml.ModContainer;
+import net.neoforged.fml.config.IConfigSpec;
 import net.neoforged.neoforge.common.ModConfigSpec;
 import net.neoforged.fml.config.ModConfig;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 
@@ -55,9 +58,41 @@ public class EEConfig {
 		EmendatusEnigmatica.logger.info("Emendatus Enigmatica Startup Config has been registered.");
 	}
 
+	/**
+	 * Used to set up the startup config with its default values, without registering it to the mod container.
+	 * The values are kept in memory, and are never read from or saved to a file.
+	 * @apiNote Meant for running the loading pipeline outside the game. Shouldn't be used when the mod is loaded.
+	 */
+	@ApiStatus.Internal
+	public static void setupStartupDefaults() {
+		Pair<StartupConfig, ModConfigSpec> startupSpecPair = new ModConfigSpec.Builder().configure(StartupConfig::new);
+		startup = startupSpecPair.getLeft();
+		startupSpec = startupSpecPair.getRight();
+
+		CommentedConfig config = CommentedConfig.inMemory();
+		startupSpec.correct(config);
+		startupSpec.acceptConfig(new IConfigSpec.ILoadedConfig() {
+			@Override
+			public CommentedConfig config() {
+				return config;
+			}
+
+			@Override
+			public void save() {}
+		});
+	}
+
 	public static class StartupConfig {
 		public final ModConfigSpec.BooleanValue generateSummary;
 		public final ModConfigSpec.BooleanValue skipEmptyJsons;
+		public final ModConfigSpec.BooleanValue traceStartup;
+		public final ModConfigSpec.BooleanValue deduplicateModels;
+		public final ModConfigSpec.BooleanValue bakeOreTextures;
+		public final ModConfigSpec.BooleanValue compositeDeposits;
+		public final ModConfigSpec.BooleanValue reuseGeneratedPack;
+		public final ModConfigSpec.BooleanValue strataVariantOres;
+		public final ModConfigSpec.BooleanValue retrogen;
+		public final ModConfigSpec.IntValue retrogenBudget;
 		StartupConfig(ModConfigSpec.@NotNull Builder builder) {
 			builder.push("Debug");
 			generateSummary = builder
@@ -68,6 +103,44 @@ public class EEConfig {
 				.comment("Whether Emendatus Enigmatica should silently skip empty JSON files (Either 0 Bytes or empty root object) instead of including them on the summary.")
 				.translation(Reference.MOD_ID + ".config.startup.skip_empty")
 				.define("skipEmptyJsons", false);
+			traceStartup = builder
+				.comment("Whether Emendatus Enigmatica should trace its startup (plugins, config files, validation, registration and data generation),\nand write it as logs/emendatusenigmatica_startup_trace.json, which can be opened in chrome://tracing or Perfetto.")
+				.translation(Reference.MOD_ID + ".config.startup.trace_startup")
+				.define("traceStartup", false);
+			builder.pop();
+			builder.push("Data Generation");
+			deduplicateModels = builder
+				.comment("Whether Emendatus Enigmatica should generate identical block and item models (eg. tinted ones) once as a shared template,\nand make the models of every material reference it, instead of generating a full copy for each material.")
+				.translation(Reference.MOD_ID + ".config.startup.deduplicate_models")
+				.define("deduplicateModels", false);
+			bakeOreTextures = builder
+				.comment("Whether Emendatus Enigmatica should bake the tinted ore textures into a single texture for each ore,\nand render the ores as a single element instead of seven overlapping layers. Reduces the chunk meshing time.\nNote that resource packs changing the strata or the ore templates won't affect the baked textures, and emissive ores are never baked.")
+				.translation(Reference.MOD_ID + ".config.startup.bake_ore_textures")
+				.define("bakeOreTextures", false);
+			compositeDeposits = builder
+				.comment("Whether Emendatus Enigmatica should generate a single composite feature for each dimension, placing all of its deposits in one pass per chunk,\ninstead of a separate feature (and biome modifier) for every deposit. Reduces the feature stage time in packs with many deposits.\nNote that deposits are seeded by their name instead of their feature index, so existing worlds will generate differently in new chunks.")
+				.translation(Reference.MOD_ID + ".config.startup.composite_deposits")
+				.define("compositeDeposits", false);
+			reuseGeneratedPack = builder
+				.comment("Whether Emendatus Enigmatica should skip the data generation when the pack was already generated from the same configs and mods,\nor a matching prebaked pack is present as config/emendatusenigmatica/prebaked.zip.")
+				.translation(Reference.MOD_ID + ".config.startup.reuse_generated_pack")
+				.define("reuseGeneratedPack", true);
+			builder.pop();
+			builder.push("Registration");
+			strataVariantOres = builder
+				.comment("Whether Emendatus Enigmatica should register a single ore block for each material (and harvest tool of the strata),\nwith the strata stored in the block state, instead of a separate block for every strata.\nGreatly reduces the amount of registered blocks and items. Changing it on an existing world replaces the generated ores with air!")
+				.translation(Reference.MOD_ID + ".config.startup.strata_variant_ores")
+				.define("strataVariantOres", false);
+			builder.pop();
+			builder.push("Retrogen");
+			retrogen = builder
+				.comment("Whether Emendatus Enigmatica should generate deposits added to the pack in already generated chunks, once they are loaded.\nChunks generated before enabling it are assumed to contain the deposits present when it was first enabled.\nWith compositeDeposits disabled, retrogenerated deposits follow the same rules, but not the same positions, as in newly generated chunks.")
+				.translation(Reference.MOD_ID + ".config.startup.retrogen")
+				.define("retrogen", false);
+			retrogenBudget = builder
+				.comment("Maximal time in milliseconds spent on retrogenerating chunks in a single server tick.")
+				.translation(Reference.MOD_ID + ".config.startup.retrogen_budget")
+				.defineInRange("retrogenBudget", 5, 1, 50);
 			builder.pop();
 		}
 	}
@@ -75,6 +148,7 @@ public class EEConfig {
 	public static class ClientConfig {
 		public final ModConfigSpec.BooleanValue showPatreonReward;
 		public final ModConfigSpec.BooleanValue oldSchoolGlint;
+		public final ModConfigSpec.IntValue oreParticleBudget;
 		ClientConfig(ModConfigSpec.@NotNull Builder builder) {
 			builder.push("Patreon Reward");
 			showPatreonReward = builder
@@ -87,6 +161,10 @@ public class EEConfig {
 				.comment("Allows for bringing back the old strength of glint for the Emendatus Enigmatica armor.\nNote that this option doesn't affect vanilla armor rendering!")
 				.translation(Reference.MOD_ID + ".config.client.old_glint")
 				.define("oldSchoolGlint", false);
+			oreParticleBudget = builder
+				.comment("Maximum amount of particles Emendatus Enigmatica ores are allowed to emit per tick.\nSet to -1 to disable the limit, or to 0 to disable ore particles entirely.")
+				.translation(Reference.MOD_ID + ".config.client.ore_particle_budget")
+				.defineInRange("oreParticleBudget", 64, -1, Integer.MAX_VALUE);
 			builder.pop();
 		}
 	}
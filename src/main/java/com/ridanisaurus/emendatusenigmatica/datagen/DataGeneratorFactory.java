@@ -25,6 +25,7 @@
 package com.ridanisaurus.emendatusenigmatica.datagen;
 
 import net.minecraft.SharedConstants;
+import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.fml.loading.FMLPaths;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -39,6 +40,18 @@ public class DataGeneratorFactory {
         ROOT_PATH = FMLPaths.CONFIGDIR.get().resolve("emendatusenigmatica/default");
     }
 
+    /**
+     * Used to check if providers of client assets (models, blockstates, lang) should be run.<br>
+     * Dedicated servers never read the assets, so only the server data (tags, recipes, loot, worldgen) is generated there.
+     * Integrated servers run on the client, and generate both. Prebaked packs always include both, to be usable by either side.
+     * @return True if the game runs on the client, or prebakes the pack.
+     * @apiNote Use it as the {@code run} parameter of {@link net.minecraft.data.DataGenerator#addProvider(boolean, net.minecraft.data.DataProvider)}.
+     * Files of skipped providers are kept in the cache, so they aren't deleted when the same pack is shared with a client.
+     */
+    public static boolean includeClient() {
+        return FMLEnvironment.dist.isClient() || EEPrebakedPack.isPrebaking();
+    }
+
     @Contract(" -> new")
     public static @NotNull EEDataGenerator createEEDataGenerator() {
         return new EEDataGenerator(ROOT_PATH, SharedConstants.getCurrentVersion(), true);
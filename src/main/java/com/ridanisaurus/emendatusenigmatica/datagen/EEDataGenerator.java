@@ -26,7 +26,9 @@ package com.ridanisaurus.emendatusenigmatica.datagen;
 
 import com.google.common.base.Stopwatch;
 import com.mojang.logging.LogUtils;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 import net.minecraft.WorldVersion;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.data.HashCache;
@@ -49,10 +51,16 @@ public class EEDataGenerator extends DataGenerator {
 
     @Override
     public void run() {
-        //TODO: Add own caching logic. Currently entire DataGen has to be executed to even know what to cache.
         if (executed) return;
         executed = true;
 
+        if (EEConfig.startup.reuseGeneratedPack.get() && EEPrebakedPack.canSkipGeneration(this.rootOutputFolder)) {
+            String msg = "EE Data Generation skipped, generated pack is up to date.";
+            StartupNotificationManager.addModMessage(msg);
+            logger.info(msg);
+            return;
+        }
+
         ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
             final Thread thread = Executors.defaultThreadFactory().newThread(r);
             thread.setDaemon(true);
@@ -85,18 +93,22 @@ public class EEDataGenerator extends DataGenerator {
             this.providersToRun.forEach((name, provider) -> {
                 logger.info("Starting provider: {}", name);
                 sPerTask.start();
-                cache.applyUpdate(cache.generateUpdate(name, provider::run).join());
+                try (var span = StartupTracer.span("Data Generation", name)) {
+                    cache.applyUpdate(cache.generateUpdate(name, provider::run).join());
+                }
                 sPerTask.stop();
                 logger.info("{} finished after {} ms", name, sPerTask.elapsed(TimeUnit.MILLISECONDS));
                 sPerTask.reset();
                 bar.increment();
             });
             cache.purgeStaleAndWrite();
+            EEPrebakedPack.writeFingerprint(this.rootOutputFolder, DataGeneratorFactory.includeClient());
             bar.complete();
             String msg = "EE Data Generation finished after %s ms.".formatted(sMain.elapsed(TimeUnit.MILLISECONDS));
             StartupNotificationManager.addModMessage(msg);
             logger.info(msg);
             Analytics.addPerformanceAnalytic("Data Generation", sMain);
+            StartupTracer.write();
         } catch (Exception e) {
             if (ModLoader.hasErrors()) {
                 // If somehow there are errors, but minecraft will load, EE will crash on later stage.
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.datagen;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import net.minecraft.Util;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Streaming replacement of {@link DataProvider#saveStable(CachedOutput, com.google.gson.JsonElement, Path)}.
+ * <br><br>
+ * Results are written with {@link IFinishedGenericJSON#writeJSON(JsonWriter)} straight into a reused, per-thread buffer,
+ * and the content hash is computed while writing.
+ * Output is byte for byte the same as the one of {@code saveStable}: two spaces indent, no nulls,
+ * and object keys ordered by {@link DataProvider#KEY_COMPARATOR}.
+ */
+public final class EEJsonSink {
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1024));
+
+    private EEJsonSink() {}
+
+    /**
+     * Used to save the result to the specified path.
+     *
+     * @param output CachedOutput of the provider.
+     * @param result Result to save.
+     * @param path Path of the file.
+     * @return CompletableFuture completed once the file is saved.
+     */
+    @SuppressWarnings({"deprecation", "UnstableApiUsage"})
+    public static CompletableFuture<?> save(CachedOutput output, IFinishedGenericJSON result, Path path) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                ByteArrayOutputStream buffer = BUFFER.get();
+                buffer.reset();
+                HashingOutputStream hashingStream = new HashingOutputStream(Hashing.sha1(), buffer);
+                try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(hashingStream, StandardCharsets.UTF_8))) {
+                    writer.setSerializeNulls(false);
+                    writer.setIndent("  ");
+                    result.writeJSON(writer);
+                }
+                output.writeIfNeeded(path, buffer.toByteArray(), hashingStream.hash());
+            } catch (IOException e) {
+                EmendatusEnigmatica.logger.error("Failed to save file to {}", path, e);
+            }
+        }, Util.backgroundExecutor());
+    }
+
+    /**
+     * Used to write an object of String values, with keys ordered by {@link DataProvider#KEY_COMPARATOR}.
+     *
+     * @param writer JsonWriter to write to.
+     * @param values Map of the values.
+     */
+    public static void writeSortedObject(JsonWriter writer, Map<String, String> values) throws IOException {
+        writer.beginObject();
+        for (String key : sortedKeys(values)) {
+            writer.name(key).value(values.get(key));
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Used to write an array of String values.
+     *
+     * @param writer JsonWriter to write to.
+     * @param values Values of the array.
+     */
+    public static void writeArray(JsonWriter writer, Collection<String> values) throws IOException {
+        writer.beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+    }
+
+    /**
+     * Used to get the keys of the map, ordered by {@link DataProvider#KEY_COMPARATOR}.
+     * @param map Map of which keys should be sorted.
+     * @return Sorted List of the keys.
+     */
+    public static List<String> sortedKeys(Map<String, ?> map) {
+        List<String> keys = new ArrayList<>(map.keySet());
+        if (keys.size() > 1) keys.sort(DataProvider.KEY_COMPARATOR);
+        return keys;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.datagen;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deduplicates generated models with identical bodies.
+ * <br><br>
+ * Tinted models only differ by their ID (the color comes from the tint index),
+ * so every tinted material would get a full copy of the same model.
+ * Instead, each body shared by multiple models is generated once as a template model,
+ * and the models themselves become a single <code>parent</code> reference to the template.
+ * @apiNote Models with <code>overrides</code> are left untouched, as those are not inherited from the parent.
+ */
+public final class EEModelDeduplicator {
+    private static final String TEMPLATE_FOLDER = "shared/";
+
+    private EEModelDeduplicator() {}
+
+    /**
+     * Used to deduplicate the models.
+     *
+     * @param results Generated models.
+     * @param modelFolder Folder of the models, inside the <code>models</code> directory (eg. <code>block</code>).
+     * @return List of the models to save, including the templates.
+     */
+    public static List<IFinishedGenericJSON> deduplicate(List<IFinishedGenericJSON> results, String modelFolder) {
+        List<IFinishedGenericJSON> deduplicated = new ArrayList<>(results.size());
+        Map<String, List<IFinishedGenericJSON>> byBody = new LinkedHashMap<>();
+        for (IFinishedGenericJSON result : results) {
+            String body = getBody(result);
+            if (body == null || hasOverrides(body)) {
+                deduplicated.add(result);
+                continue;
+            }
+            byBody.computeIfAbsent(body, s -> new ArrayList<>()).add(result);
+        }
+
+        for (Map.Entry<String, List<IFinishedGenericJSON>> entry : byBody.entrySet()) {
+            List<IFinishedGenericJSON> models = entry.getValue();
+            if (models.size() < 2) {
+                deduplicated.addAll(models);
+                continue;
+            }
+            IFinishedGenericJSON first = models.getFirst();
+            String hash = Hashing.murmur3_128().hashString(entry.getKey(), StandardCharsets.UTF_8).toString();
+            ResourceLocation templateId = ResourceLocation.fromNamespaceAndPath(first.getId().getNamespace(), TEMPLATE_FOLDER + hash);
+            String parent = templateId.getNamespace() + ":" + modelFolder + "/" + templateId.getPath();
+
+            deduplicated.add(new Template(templateId, first));
+            for (IFinishedGenericJSON model : models) {
+                deduplicated.add(new ParentReference(model.getId(), parent));
+            }
+        }
+        return deduplicated;
+    }
+
+    private static @Nullable String getBody(IFinishedGenericJSON result) {
+        StringWriter body = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(body)) {
+            writer.setSerializeNulls(false);
+            result.writeJSON(writer);
+        } catch (IOException | IllegalStateException e) {
+            return null;
+        }
+        return body.toString();
+    }
+
+    private static boolean hasOverrides(String body) {
+        JsonElement json = JsonParser.parseString(body);
+        return json.isJsonObject() && json.getAsJsonObject().has("overrides");
+    }
+
+    private record Template(ResourceLocation id, IFinishedGenericJSON model) implements IFinishedGenericJSON {
+        @Override
+        public void serializeJSONData(JsonObject json) {
+            model.serializeJSONData(json);
+        }
+
+        @Override
+        public void writeJSON(JsonWriter writer) throws IOException {
+            model.writeJSON(writer);
+        }
+
+        @Override
+        public ResourceLocation getId() {
+            return id;
+        }
+    }
+
+    private record ParentReference(ResourceLocation id, String parent) implements IFinishedGenericJSON {
+        @Override
+        public void serializeJSONData(JsonObject json) {
+            json.addProperty("parent", parent);
+        }
+
+        @Override
+        public void writeJSON(JsonWriter writer) throws IOException {
+            writer.beginObject();
+            writer.name("parent").value(parent);
+            writer.endObject();
+        }
+
+        @Override
+        public ResourceLocation getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.datagen;
+
+import com.google.common.hash.Hashing;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialColorsModel;
+import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import net.minecraft.Util;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.fml.ModList;
+import net.neoforged.neoforgespi.language.IModFileInfo;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bakes the tinted ore templates into a single, pre-tinted texture for each ore.
+ * <br><br>
+ * Tinted ores are normally rendered as a composite of the strata, five tinted template layers and a translucent shadow,
+ * so every face of the ore is drawn as seven overlapping quads.
+ * A baked texture is composed the same way the layers are rendered (cutout layers replace the pixels, the shadow is blended),
+ * so the ore can use a single, solid element instead.
+ * @apiNote Textures are read from the mod files directly, so resource packs overriding the strata or the templates are not taken into account.
+ * Strata with animated or differently sized textures can't be baked, and keep the layered model.
+ */
+public class EEOreTextureBaker {
+    /**
+     * Alpha threshold of the cutout render type; pixels below it are discarded by the shader.
+     */
+    private static final int CUTOUT_THRESHOLD = 26;
+    private static final String[] LAYERS = {"00", "01", "02", "03", "04"};
+
+    private final Map<ResourceLocation, Optional<BufferedImage>> textures = new HashMap<>();
+    private final Map<ResourceLocation, byte[]> baked = new LinkedHashMap<>();
+
+    /**
+     * Used to bake the texture of the ore.
+     * @param stratum Strata of the ore.
+     * @param colors Colors of the material.
+     * @param template Folder of the ore templates (eg. <code>block/templates/ore/gem</code>).
+     * @param name Name of the baked texture, usually the name of the ore model.
+     * @return ID of the baked texture, or null if the ore can't be baked.
+     */
+    public @Nullable ResourceLocation bake(StrataModel stratum, MaterialColorsModel colors, String template, String name) {
+        BufferedImage strata = read(stratum.getBaseTexture());
+        BufferedImage drop = read(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, template + "/shadow_drop"));
+        if (strata == null || drop == null) return null;
+
+        int width = strata.getWidth();
+        int height = strata.getHeight();
+        BufferedImage[] layers = new BufferedImage[LAYERS.length];
+        for (int i = 0; i < LAYERS.length; i++) {
+            layers[i] = read(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, template + "/" + LAYERS[i]));
+            if (layers[i] == null || layers[i].getWidth() != width || layers[i].getHeight() != height) return null;
+        }
+        if (drop.getWidth() != width || drop.getHeight() != height) return null;
+
+        // Same order as the tint indexes used by the BlockColorHandler.
+        int[] tints = {
+            colors.getHighlightColor(3),
+            colors.getHighlightColor(1),
+            colors.getMaterialColor(),
+            colors.getShadowColor(1),
+            colors.getShadowColor(2)
+        };
+
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int pixel = strata.getRGB(x, y);
+                for (int i = 0; i < layers.length; i++) {
+                    int layer = layers[i].getRGB(x, y);
+                    if (layer >>> 24 >= CUTOUT_THRESHOLD) pixel = multiply(layer, tints[i]);
+                }
+                result.setRGB(x, y, 0xFF000000 | blend(drop.getRGB(x, y), pixel));
+            }
+        }
+
+        ResourceLocation id = ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/baked/" + name);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(result, "png", out);
+            baked.put(id, out.toByteArray());
+        } catch (IOException e) {
+            EmendatusEnigmatica.logger.error("Failed to bake the texture {}", id, e);
+            return null;
+        }
+        return id;
+    }
+
+    /**
+     * Used to save all baked textures, and clear them from memory.
+     * @param output CachedOutput of the provider.
+     * @param root Root folder of the pack.
+     * @return CompletableFuture completed once all textures are saved.
+     */
+    @SuppressWarnings({"deprecation", "UnstableApiUsage"})
+    public CompletableFuture<?> save(CachedOutput output, Path root) {
+        List<CompletableFuture<?>> cs = new ArrayList<>(baked.size());
+        baked.forEach((id, bytes) -> {
+            Path path = root.resolve("assets/" + id.getNamespace() + "/textures/" + id.getPath() + ".png");
+            cs.add(CompletableFuture.runAsync(() -> {
+                try {
+                    output.writeIfNeeded(path, bytes, Hashing.sha1().hashBytes(bytes));
+                } catch (IOException e) {
+                    EmendatusEnigmatica.logger.error("Failed to save file to {}", path, e);
+                }
+            }, Util.backgroundExecutor()));
+        });
+        baked.clear();
+        textures.clear();
+        return CompletableFuture.allOf(cs.toArray(new CompletableFuture<?>[]{}));
+    }
+
+    private @Nullable BufferedImage read(ResourceLocation texture) {
+        return textures.computeIfAbsent(texture, EEOreTextureBaker::load).orElse(null);
+    }
+
+    private static Optional<BufferedImage> load(ResourceLocation texture) {
+        IModFileInfo file = ModList.get().getModFileById(texture.getNamespace());
+        if (file == null) return Optional.empty();
+        Path path = file.getFile().findResource("assets", texture.getNamespace(), "textures", texture.getPath() + ".png");
+        // Animated textures can't be flattened into a single frame.
+        if (!Files.exists(path) || Files.exists(path.resolveSibling(path.getFileName() + ".mcmeta"))) return Optional.empty();
+        try (InputStream stream = Files.newInputStream(path)) {
+            return Optional.ofNullable(ImageIO.read(stream));
+        } catch (IOException e) {
+            EmendatusEnigmatica.logger.warn("Failed to read the texture {}, ores using it won't be baked.", texture, e);
+            return Optional.empty();
+        }
+    }
+
+    private static int multiply(int argb, int tint) {
+        int r = ((argb >> 16) & 0xFF) * ((tint >> 16) & 0xFF) / 255;
+        int g = ((argb >> 8) & 0xFF) * ((tint >> 8) & 0xFF) / 255;
+        int b = (argb & 0xFF) * (tint & 0xFF) / 255;
+        return (r << 16) | (g << 8) | b;
+    }
+
+    private static int blend(int top, int bottom) {
+        int a = top >>> 24;
+        if (a == 0) return bottom;
+        int r = (((top >> 16) & 0xFF) * a + ((bottom >> 16) & 0xFF) * (255 - a)) / 255;
+        int g = (((top >> 8) & 0xFF) * a + ((bottom >> 8) & 0xFF) * (255 - a)) / 255;
+        int b = ((top & 0xFF) * a + (bottom & 0xFF) * (255 - a)) / 255;
+        return (r << 16) | (g << 8) | b;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.datagen;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.logging.LogUtils;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.api.annotation.EmendatusPluginReference;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import net.minecraft.SharedConstants;
+import net.neoforged.fml.ModList;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforgespi.language.IModFileInfo;
+import net.neoforged.neoforgespi.language.IModInfo;
+import net.neoforged.neoforgespi.language.ModFileScanData;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * A static class, used to skip the data generation when a pack generated from the same inputs is already present.
+ * <br><br>
+ * The fingerprint covers the Minecraft version, the versions of the mods that can affect the output, the startup config,
+ * and all files in the EE config directory (except the generated output).
+ * Those mods are EE itself, mods providing EE plugins, mods shipping EE configs in their files,
+ * and mods providing the base textures of the strata, so unrelated mods can be added or updated without invalidating the pack. Every finished generation writes it next to the output,
+ * so the next launch with unchanged inputs reuses the output as is.
+ * <br><br>
+ * Packs can also be prebaked ahead of time, by launching a dedicated server with the {@value PREBAKE_PROPERTY} system property
+ * (eg. through the {@code runPrebake} Gradle task). Generation then includes client assets, the finished pack is exported
+ * to the path of the property (as a zip, if it ends with {@code .zip}), and the server exits.
+ * The exported zip can be shipped as {@code config/emendatusenigmatica/prebaked.zip}, and is extracted when its fingerprint matches.
+ */
+public class EEPrebakedPack {
+    public static final String PREBAKE_PROPERTY = "emendatusenigmatica.prebake";
+    public static final String FINGERPRINT_FILE = "ee_fingerprint.json";
+    public static final String PREBAKED_ZIP = "prebaked.zip";
+    private static final Logger logger = LogUtils.getLogger();
+    private static @Nullable String fingerprint;
+
+    /**
+     * Private constructor. This class is static, and no instances of it should be created.
+     */
+    private EEPrebakedPack() {}
+
+    /**
+     * Used to check if the game was launched only to prebake the pack.
+     * @return True if the {@value PREBAKE_PROPERTY} system property is set.
+     */
+    public static boolean isPrebaking() {
+        return System.getProperty(PREBAKE_PROPERTY) != null;
+    }
+
+    /**
+     * Used to check if the data generation can be skipped, installing the prebaked zip if needed.
+     * @param root Output directory of the data generation.
+     * @return True if the output directory holds a pack with a matching fingerprint.
+     */
+    public static boolean canSkipGeneration(Path root) {
+        if (isPrebaking()) return false;
+        if (matches(readFingerprint(root.resolve(FINGERPRINT_FILE)))) return true;
+
+        Path zip = Analytics.CONFIG_DIR.resolve(PREBAKED_ZIP);
+        if (Files.notExists(zip)) return false;
+        try (FileSystem fs = FileSystems.newFileSystem(zip)) {
+            Path zipRoot = fs.getPath("/");
+            if (!matches(readFingerprint(zipRoot.resolve(FINGERPRINT_FILE)))) {
+                logger.info("Prebaked pack {} was generated from different inputs, ignoring it.", zip);
+                return false;
+            }
+            delete(root);
+            copy(zipRoot, root);
+            logger.info("Installed prebaked pack from {}.", zip);
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to install prebaked pack from {}, falling back to data generation.", zip, e);
+            return false;
+        }
+    }
+
+    /**
+     * Used to write the fingerprint of the current inputs next to the generated output.
+     * @param root Output directory of the data generation.
+     * @param client Whether the output includes the client assets.
+     * @apiNote Has to be called after the output is finalized, as {@link net.minecraft.data.HashCache} removes unknown files.
+     */
+    public static void writeFingerprint(Path root, boolean client) {
+        JsonObject json = new JsonObject();
+        json.addProperty("fingerprint", getFingerprint());
+        json.addProperty("client", client);
+        try {
+            Files.createDirectories(root);
+            Files.writeString(root.resolve(FINGERPRINT_FILE), json.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Failed to write the data generation fingerprint, the next launch will generate the pack again.", e);
+        }
+    }
+
+    /**
+     * Used to export the generated pack to the path of the {@value PREBAKE_PROPERTY} system property.
+     * @param root Output directory of the data generation.
+     */
+    public static void export(Path root) {
+        Path output = Path.of(System.getProperty(PREBAKE_PROPERTY)).toAbsolutePath();
+        try {
+            Files.createDirectories(output.getParent());
+            if (output.getFileName().toString().endsWith(".zip")) {
+                Files.deleteIfExists(output);
+                try (FileSystem fs = FileSystems.newFileSystem(URI.create("jar:" + output.toUri()), Map.of("create", "true"))) {
+                    copy(root, fs.getPath("/"));
+                }
+            } else {
+                delete(output);
+                copy(root, output);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to export the prebaked pack to %s!".formatted(output), e);
+        }
+        logger.info("Exported prebaked pack to {}.", output);
+    }
+
+    private static boolean matches(@Nullable JsonObject json) {
+        if (json == null || !json.has("fingerprint")) return false;
+        // Packs generated by dedicated servers don't include the client assets.
+        if (FMLEnvironment.dist.isClient() && !(json.has("client") && json.get("client").getAsBoolean())) return false;
+        return getFingerprint().equals(json.get("fingerprint").getAsString());
+    }
+
+    private static @Nullable JsonObject readFingerprint(Path file) {
+        if (Files.notExists(file)) return null;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (Exception e) {
+            logger.warn("Failed to read the data generation fingerprint {}.", file, e);
+            return null;
+        }
+    }
+
+    private static String getFingerprint() {
+        if (fingerprint == null) fingerprint = computeFingerprint();
+        return fingerprint;
+    }
+
+    private static String computeFingerprint() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(SharedConstants.getCurrentVersion().getId(), StandardCharsets.UTF_8);
+        getInputMods().forEach((id, version) -> hasher.putString(id, StandardCharsets.UTF_8).putString(version, StandardCharsets.UTF_8));
+
+        Path startupConfig = FMLPaths.CONFIGDIR.get().resolve("emendatusenigmatica-startup.toml");
+        Path configDir = Analytics.CONFIG_DIR;
+        try {
+            if (Files.exists(startupConfig)) hasher.putBytes(Files.readAllBytes(startupConfig));
+            if (Files.exists(configDir)) {
+                List<Path> inputs;
+                try (Stream<Path> files = Files.walk(configDir)) {
+                    inputs = files.filter(Files::isRegularFile).filter(EEPrebakedPack::isInput).sorted().toList();
+                }
+                for (Path input : inputs) {
+                    hasher.putString(configDir.relativize(input).toString().replace('\\', '/'), StandardCharsets.UTF_8);
+                    hasher.putBytes(Files.readAllBytes(input));
+                }
+            }
+        } catch (IOException e) {
+            // Unreadable inputs can't be compared, make sure nothing matches.
+            logger.error("Failed to read the data generation inputs, prebaked packs are going to be ignored.", e);
+            hasher.putLong(System.nanoTime());
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Used to get the mods that can affect the generated output.
+     * @return Sorted map of Mod ID -> Version.
+     */
+    private static Map<String, String> getInputMods() {
+        ModList mods = ModList.get();
+        Set<IModFileInfo> files = new HashSet<>();
+        IModFileInfo self = mods.getModFileById(Reference.MOD_ID);
+        if (self != null) files.add(self);
+
+        Type plugin = Type.getType(EmendatusPluginReference.class);
+        for (ModFileScanData scanData : mods.getAllScanData()) {
+            if (scanData.getAnnotations().stream().anyMatch(annotation -> plugin.equals(annotation.annotationType()))) {
+                files.addAll(scanData.getIModInfoData());
+            }
+        }
+        for (IModFileInfo file : mods.getModFiles()) {
+            if (Files.isDirectory(file.getFile().findResource(Reference.MOD_ID))) files.add(file);
+        }
+        // Base textures of the strata are read from the mod files by the ore texture baker.
+        for (StrataModel stratum : EmendatusEnigmatica.getInstance().getDataRegistry().getStrata()) {
+            IModFileInfo file = mods.getModFileById(stratum.getBaseTexture().getNamespace());
+            if (file != null) files.add(file);
+        }
+
+        Map<String, String> versions = new TreeMap<>();
+        for (IModFileInfo file : files) {
+            for (IModInfo mod : file.getMods()) {
+                versions.put(mod.getModId(), mod.getVersion().toString());
+            }
+        }
+        return versions;
+    }
+
+    private static boolean isInput(Path file) {
+        if (file.startsWith(DataGeneratorFactory.ROOT_PATH)) return false;
+        String name = file.getFileName().toString();
+        return !name.equals(PREBAKED_ZIP) && !name.equals("Validation Results.md");
+    }
+
+    private static void copy(Path from, Path to) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(from)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        Path root = to.normalize();
+        for (Path file : files) {
+            // Path of the zip file system can't be resolved against the default one directly.
+            Path target = root.resolve(from.relativize(file).toString()).normalize();
+            // Entries of a shipped zip could point outside of the output (eg. "../"), never write there.
+            if (!target.startsWith(root)) throw new IOException("Refusing to copy %s outside of %s!".formatted(file, root));
+            if (target.getParent() != null) Files.createDirectories(target.getParent());
+            Files.copy(file, target);
+        }
+    }
+
+    private static void delete(Path root) throws IOException {
+        if (Files.notExists(root)) return;
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(root)) {
+            paths = walk.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path path : paths) Files.delete(path);
+    }
+}
@@ -25,7 +25,12 @@
 package com.ridanisaurus.emendatusenigmatica.datagen;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import net.minecraft.data.DataProvider;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
+
+import java.io.IOException;
 
 public interface IFinishedGenericJSON {
 	void serializeJSONData(JsonObject genericJSON);
@@ -37,5 +42,18 @@ public interface IFinishedGenericJSON {
 		return jsonobject;
 	}
 
+	/**
+	 * Used to write the JSON directly, without building the JsonObject tree.
+	 * Default implementation writes the tree from {@link #serializeJSON()}.
+	 * @param writer JsonWriter used by {@link EEJsonSink}.
+	 * @implSpec Keys of every object must be written in the {@link DataProvider#KEY_COMPARATOR} order,
+	 * so the output matches the one of {@link DataProvider#saveStable}.
+	 * @apiNote {@link EEJsonSink} calls this on a background thread, after the builder may have been changed or reused,
+	 * so results must not share mutable state with their builders.
+	 */
+	default void writeJSON(JsonWriter writer) throws IOException {
+		GsonHelper.writeValue(writer, serializeJSON(), DataProvider.KEY_COMPARATOR);
+	}
+
 	ResourceLocation getId();
 }
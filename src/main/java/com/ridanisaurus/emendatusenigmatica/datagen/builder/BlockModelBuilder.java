@@ -28,14 +28,19 @@ import com.google.common.base.Preconditions;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.core.Direction;
+import net.minecraft.data.DataProvider;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.GsonHelper;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -120,7 +125,15 @@ public class BlockModelBuilder {
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, ResourceLocation jsonResourceLocation) {
-		consumer.accept(new Result(jsonResourceLocation, this.parent, this.customLoader, this.elements, this.textures, this.renderType, this.childModels, this.itemRenderOrder));
+		// Models with elements or children are rare, and their JsonObject tree is built here, while the builders can't change.
+		JsonObject tree = null;
+		if (!this.elements.isEmpty() || !this.childModels.isEmpty()) {
+			tree = toJson(new JsonObject());
+			if (!this.childModels.isEmpty()) {
+				childJson(tree);
+			}
+		}
+		consumer.accept(new Result(jsonResourceLocation, this.parent, this.customLoader, new LinkedHashMap<>(this.textures), this.renderType, tree));
 	}
 
 	public ResourceLocation getLocation() {
@@ -456,29 +469,65 @@ public class BlockModelBuilder {
 		private final ResourceLocation id;
 		private final String parent;
 		private final String customLoader;
-		private final List<ElementBuilder> elements;
 		private final Map<String, String> textures;
-		private final Map<String, BlockModelBuilder> childModels;
-		private final List<String> itemRenderOrder;
+		private final JsonObject tree;
 
 		protected String renderType;
 
-		public Result(ResourceLocation id, String parent, @Nullable String customLoader, List<ElementBuilder> elements, Map<String, String> textures, @Nullable String renderType, @Nullable Map<String, BlockModelBuilder> childModels, @Nullable List<String> itemRenderOrder) {
+		public Result(ResourceLocation id, String parent, @Nullable String customLoader, Map<String, String> textures, @Nullable String renderType, @Nullable JsonObject tree) {
 			this.id = id;
 			this.parent = parent;
 			this.customLoader = customLoader;
-			this.elements = elements;
 			this.textures = textures;
 			this.renderType = renderType;
-			this.childModels = childModels;
-			this.itemRenderOrder = itemRenderOrder;
+			this.tree = tree;
 		}
 
 		public void serializeJSONData(JsonObject json) {
-			toJson(json);
-			if(!this.childModels.isEmpty()) {
-				childJson(json);
+			if (this.tree != null) {
+				this.tree.asMap().forEach((key, value) -> json.add(key, value.deepCopy()));
+				return;
+			}
+			json.addProperty("parent", this.parent);
+			if (this.renderType != null) {
+				json.addProperty("render_type", this.renderType);
+			}
+			if (this.customLoader != null) {
+				json.addProperty("loader", this.customLoader);
+			}
+			if (!this.textures.isEmpty()) {
+				JsonObject textures = new JsonObject();
+				for (Map.Entry<String, String> e : this.textures.entrySet()) {
+					textures.addProperty(e.getKey(), serializeLocOrKey(e.getValue()));
+				}
+				json.add("textures", textures);
+			}
+		}
+
+		@Override
+		public void writeJSON(JsonWriter writer) throws IOException {
+			if (this.tree != null) {
+				GsonHelper.writeValue(writer, this.tree, DataProvider.KEY_COMPARATOR);
+				return;
+			}
+			writer.beginObject();
+			if (this.parent != null) {
+				writer.name("parent").value(this.parent);
+			}
+			if (this.customLoader != null) {
+				writer.name("loader").value(this.customLoader);
+			}
+			if (this.renderType != null) {
+				writer.name("render_type").value(this.renderType);
+			}
+			if (!this.textures.isEmpty()) {
+				writer.name("textures").beginObject();
+				for (String key : EEJsonSink.sortedKeys(this.textures)) {
+					writer.name(key).value(serializeLocOrKey(this.textures.get(key)));
+				}
+				writer.endObject();
 			}
+			writer.endObject();
 		}
 
 		public ResourceLocation getId() {
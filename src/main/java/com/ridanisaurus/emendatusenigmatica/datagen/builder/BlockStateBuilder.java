@@ -26,9 +26,12 @@ package com.ridanisaurus.emendatusenigmatica.datagen.builder;
 
 import com.google.common.collect.Maps;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.resources.ResourceLocation;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -44,7 +47,9 @@ public class BlockStateBuilder {
 	}
 
 	public void save(Consumer<IFinishedGenericJSON> consumer, ResourceLocation resourceLocation) {
-		consumer.accept(new Result(resourceLocation, this.variants));
+		Map<String, VariantBuilder> variants = Maps.newLinkedHashMap();
+		this.variants.forEach((faceName, variant) -> variants.put(faceName, variant.copy()));
+		consumer.accept(new Result(resourceLocation, variants));
 	}
 
 	public static class VariantBuilder {
@@ -76,6 +81,14 @@ public class BlockStateBuilder {
 			return this;
 		}
 
+		VariantBuilder copy() {
+			VariantBuilder copy = new VariantBuilder(this.faceName);
+			copy.model = this.model;
+			copy.x = this.x;
+			copy.y = this.y;
+			return copy;
+		}
+
 		JsonObject toJson() {
 			JsonObject ret = new JsonObject();
 			ret.addProperty("model", model);
@@ -87,6 +100,18 @@ public class BlockStateBuilder {
 			}
 			return ret;
 		}
+
+		void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			writer.name("model").value(model);
+			if (x != -1) {
+				writer.name("x").value(x);
+			}
+			if (y != -1) {
+				writer.name("y").value(y);
+			}
+			writer.endObject();
+		}
 	}
 
 	public static class Result implements IFinishedGenericJSON {
@@ -109,6 +134,20 @@ public class BlockStateBuilder {
 			}
 		}
 
+		@Override
+		public void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			if (!this.variants.isEmpty()) {
+				writer.name("variants").beginObject();
+				for (String key : EEJsonSink.sortedKeys(this.variants)) {
+					writer.name(key);
+					this.variants.get(key).writeJSON(writer);
+				}
+				writer.endObject();
+			}
+			writer.endObject();
+		}
+
 		@Override
 		public ResourceLocation getId() {
 			return this.id;
@@ -27,9 +27,12 @@ package com.ridanisaurus.emendatusenigmatica.datagen.builder;
 import com.google.common.collect.Lists;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.resources.ResourceLocation;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -66,7 +69,7 @@ public class FeatureBuilder {
 	}
 
 	public void save(Consumer<IFinishedGenericJSON> consumer, ResourceLocation jsonResourceLocation) {
-		consumer.accept(new Result(jsonResourceLocation, this.type, this.biomes, this.features, this.step));
+		consumer.accept(new Result(jsonResourceLocation, this.type, List.copyOf(this.biomes), List.copyOf(this.features), this.step));
 	}
 
 	public static class Result implements IFinishedGenericJSON {
@@ -118,6 +121,29 @@ public class FeatureBuilder {
 			}
 		}
 
+		@Override
+		public void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			if (!this.type.isEmpty()) {
+				writer.name("type").value(this.type);
+			}
+			writeList(writer, "biomes", this.biomes);
+			writeList(writer, "features", this.features);
+			if (!this.step.isEmpty()) {
+				writer.name("step").value(this.step);
+			}
+			writer.endObject();
+		}
+
+		private static void writeList(JsonWriter writer, String name, List<String> values) throws IOException {
+			if (values.size() > 1) {
+				writer.name(name);
+				EEJsonSink.writeArray(writer, values);
+			} else if (values.size() == 1) {
+				writer.name(name).value(values.getFirst());
+			}
+		}
+
 		public String getType() {
 			return this.type;
 		}
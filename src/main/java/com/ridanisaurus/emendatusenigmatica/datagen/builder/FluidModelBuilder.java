@@ -51,7 +51,9 @@ public class FluidModelBuilder {
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, ResourceLocation resourceLocation) {
-		consumer.accept(new Result(resourceLocation, this.textures));
+		Map<String, ObjectBuilder> textures = Maps.newLinkedHashMap();
+		this.textures.forEach((key, builder) -> textures.put(key, builder.copy()));
+		consumer.accept(new Result(resourceLocation, textures));
 	}
 
 	public static class ObjectBuilder {
@@ -80,6 +82,12 @@ public class FluidModelBuilder {
 			return addObject(Pair.of("particle", pairValue));
 		}
 
+		ObjectBuilder copy() {
+			ObjectBuilder copy = new ObjectBuilder(this.forceArray);
+			this.jsonObject.forEach(object -> copy.jsonObject.add(object.deepCopy()));
+			return copy;
+		}
+
 		public JsonElement getOutput() {
 			if (jsonObject.size() > 1 || forceArray) {
 				JsonArray array = new JsonArray();
@@ -28,12 +28,17 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
+import net.minecraft.data.DataProvider;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,7 +98,7 @@ public class ItemModelBuilder {
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, ResourceLocation jsonResourceLocation) {
-		consumer.accept(new Result(jsonResourceLocation, this.parent, this.textures, this.applyTint, this.fluid, this.loader, this.overrides));
+		consumer.accept(new Result(jsonResourceLocation, this.parent, new LinkedHashMap<>(this.textures), this.applyTint, this.fluid, this.loader, this.overrides.stream().map(OverrideBuilder::copy).toList()));
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, String namespace, String path) {
@@ -127,6 +132,13 @@ public class ItemModelBuilder {
 
 		public ItemModelBuilder end() { return ItemModelBuilder.this; }
 
+		OverrideBuilder copy() {
+			OverrideBuilder copy = new OverrideBuilder();
+			copy.model = this.model;
+			copy.predicates.putAll(this.predicates);
+			return copy;
+		}
+
 		JsonObject toJson() {
 			JsonObject ret = new JsonObject();
 			JsonObject predicatesJson = new JsonObject();
@@ -135,6 +147,19 @@ public class ItemModelBuilder {
 			ret.addProperty("model", model.toString());
 			return ret;
 		}
+
+		void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			writer.name("model").value(model.toString());
+			writer.name("predicate").beginObject();
+			List<Map.Entry<ResourceLocation, Float>> entries = new ArrayList<>(predicates.entrySet());
+			entries.sort(Map.Entry.comparingByKey(Comparator.comparing(ResourceLocation::toString, DataProvider.KEY_COMPARATOR)));
+			for (Map.Entry<ResourceLocation, Float> entry : entries) {
+				writer.name(entry.getKey().toString()).value(entry.getValue());
+			}
+			writer.endObject();
+			writer.endObject();
+		}
 	}
 
 	public static class Result implements IFinishedGenericJSON {
@@ -184,6 +209,35 @@ public class ItemModelBuilder {
 			}
 		}
 
+		@Override
+		public void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			if (!this.parent.isEmpty()) {
+				writer.name("parent").value(this.parent);
+			}
+			if (this.applyTint) {
+				writer.name("apply_tint").value(true);
+			}
+			if (this.fluid != null) {
+				writer.name("fluid").value(this.fluid);
+			}
+			if (this.loader != null) {
+				writer.name("loader").value(this.loader);
+			}
+			if (!this.overrides.isEmpty()) {
+				writer.name("overrides").beginArray();
+				for (OverrideBuilder override : this.overrides) {
+					override.writeJSON(writer);
+				}
+				writer.endArray();
+			}
+			if (!this.textures.isEmpty()) {
+				writer.name("textures");
+				EEJsonSink.writeSortedObject(writer, this.textures);
+			}
+			writer.endObject();
+		}
+
 		public ResourceLocation getId() {
 			return this.id;
 		}
@@ -26,10 +26,13 @@ package com.ridanisaurus.emendatusenigmatica.datagen.builder;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -58,7 +61,7 @@ public class TagBuilder {
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, ResourceLocation jsonResourceLocation) {
-		consumer.accept(new Result(jsonResourceLocation, this.tags));
+		consumer.accept(new Result(jsonResourceLocation, List.copyOf(this.tags)));
 	}
 
 	public void save(@NotNull Consumer<IFinishedGenericJSON> consumer, String resourceLocation) {
@@ -88,6 +91,16 @@ public class TagBuilder {
 			}
 		}
 
+		@Override
+		public void writeJSON(JsonWriter writer) throws IOException {
+			writer.beginObject();
+			if (!this.tags.isEmpty()) {
+				writer.name("values");
+				EEJsonSink.writeArray(writer, this.tags);
+			}
+			writer.endObject();
+		}
+
 		public ResourceLocation getId() {
 			return this.id;
 		}
@@ -25,16 +25,17 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EELangProvider;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.minecraft.data.DataGenerator;
+import net.minecraft.world.level.block.Block;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 public class LangGen extends EELangProvider {
 	private final EmendatusDataRegistry registry;
 
@@ -48,77 +49,76 @@ public class LangGen extends EELangProvider {
 		// Item Group
 
         for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 			// Ingots
-			if (processedType.contains("ingot"))
+			if (material.has(ProcessedType.INGOT))
 				add(EERegistrar.ingotMap.getValue(material), material.getLocalizedName() + " Ingot");
 
 			// Gems
-			if (processedType.contains("gem"))
+			if (material.has(ProcessedType.GEM))
 				add(EERegistrar.gemMap.getValue(material), material.getLocalizedName() + " Gem");
 
 			// Nuggets
-			if (processedType.contains("nugget"))
+			if (material.has(ProcessedType.NUGGET))
 				add(EERegistrar.nuggetMap.getValue(material), material.getLocalizedName() + " Nugget");
 
 			// Dusts
-			if (processedType.contains("dust"))
+			if (material.has(ProcessedType.DUST))
 				add(EERegistrar.dustMap.getValue(material), material.getLocalizedName() + " Dust");
 
 			// Plates
-			if (processedType.contains("plate"))
+			if (material.has(ProcessedType.PLATE))
 				add(EERegistrar.plateMap.getValue(material), material.getLocalizedName() + " Plate");
 
 			// Gears
-			if (processedType.contains("gear"))
+			if (material.has(ProcessedType.GEAR))
 				add(EERegistrar.gearMap.getValue(material), material.getLocalizedName() + " Gear");
 
 			// Rods
-			if (processedType.contains("rod"))
+			if (material.has(ProcessedType.ROD))
 				add(EERegistrar.rodMap.getValue(material), material.getLocalizedName() + " Rod");
 
 			// Swords
-			if (processedType.contains("sword"))
+			if (material.has(ProcessedType.SWORD))
 				add(EERegistrar.swordMap.getValue(material), material.getLocalizedName() + " Sword");
 
 			// Pickaxes
-			if (processedType.contains("pickaxe"))
+			if (material.has(ProcessedType.PICKAXE))
 				add(EERegistrar.pickaxeMap.getValue(material), material.getLocalizedName() + " Pickaxe");
 
 			// Axes
-			if (processedType.contains("axe"))
+			if (material.has(ProcessedType.AXE))
 				add(EERegistrar.axeMap.getValue(material), material.getLocalizedName() + " Axe");
 
 			// Shovels
-			if (processedType.contains("shovel"))
+			if (material.has(ProcessedType.SHOVEL))
 				add(EERegistrar.shovelMap.getValue(material), material.getLocalizedName() + " Shovel");
 
 			// Hoes
-			if (processedType.contains("hoe"))
+			if (material.has(ProcessedType.HOE))
 				add(EERegistrar.hoeMap.getValue(material), material.getLocalizedName() + " Hoe");
 
 			// Paxels
-			if (processedType.contains("paxel"))
+			if (material.has(ProcessedType.PAXEL))
 				add(EERegistrar.paxelMap.getValue(material), material.getLocalizedName() + " Paxel");
 
 			// Shields
-			if (processedType.contains("shield"))
+			if (material.has(ProcessedType.SHIELD))
 				add(EERegistrar.shieldMap.getValue(material), material.getLocalizedName() + " Shield");
 
 			// Raw
-			if (processedType.contains("raw")) {
+			if (material.has(ProcessedType.RAW)) {
 				add(EERegistrar.rawMap.getValue(material), "Raw " + material.getLocalizedName());
 				add(EERegistrar.rawBlockMap.getValue(material), "Block of Raw " + material.getLocalizedName());
 			}
 
 			// Fluids
-			if (processedType.contains("fluid")) {
+			if (material.has(ProcessedType.FLUID)) {
 				add(EERegistrar.fluidTypeMap.getValue(material).getDescriptionId(), material.getLocalizedName());
 				add(EERegistrar.fluidBucketMap.getValue(material), material.getLocalizedName() + " Bucket");
 			}
 
 			// Armor
-			if (processedType.contains("armor")) {
+			if (material.has(ProcessedType.ARMOR)) {
 				// Helmet
 				add(EERegistrar.helmetMap.getValue(material), material.getLocalizedName() + " Helmet");
 				// Chestplate
@@ -130,7 +130,7 @@ public class LangGen extends EELangProvider {
 			}
 
 			// Storage Blocks
-			if (processedType.contains("storage_block")) {
+			if (material.has(ProcessedType.STORAGE_BLOCK)) {
 				add(EERegistrar.storageBlockMap.getValue(material), "Block of " + material.getLocalizedName());
 				if (material.getProperties().hasOxidization()) {
 					add(EERegistrar.exposedBlockMap.getValue(material), "Exposed " + material.getLocalizedName());
@@ -144,7 +144,7 @@ public class LangGen extends EELangProvider {
 			}
 
 			// Cluster
-			if (processedType.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				add(EERegistrar.clusterShardBlockMap.getValue(material), "Block of " + material.getLocalizedName() + " Cluster Shard");
 				add(EERegistrar.buddingBlockMap.getValue(material), "Budding " + material.getLocalizedName());
 				add(EERegistrar.smallBudBlockMap.getValue(material), "Small " + material.getLocalizedName() + " Bud");
@@ -155,23 +155,26 @@ public class LangGen extends EELangProvider {
 			}
 
 			// Ores
-			if (processedType.contains("ore")) {
+			if (material.has(ProcessedType.ORE)) {
 				for (StrataModel strata : registry.getStrata()) {
 					if (!material.getStrata().isEmpty() && !material.getStrata().contains(strata.getId())) continue;
+					Block ore = EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get();
+					if (!StrataOreBlock.isPrimary(ore, strata.getId())) continue;
 
 					StringBuilder sb = new StringBuilder();
 					sb.append(material.getLocalizedName());
 					sb.append(" Ore");
 
-					if (!strata.getId().equals("minecraft_stone") && material.getStrata().size() != 1) {
+					// Strata variant ores are shared by multiple strata, so the name can't contain any.
+					if (!strata.getId().equals("minecraft_stone") && material.getStrata().size() != 1 && !(ore instanceof StrataOreBlock)) {
 						sb.append(" - ");
 						sb.append(strata.getLocalizedName());
 					}
 
-					add(EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get(), sb.toString());
+					add(ore, sb.toString());
 
 					//TODO: Rework Sample System.
-//					if (processedType.contains("sample")) {
+//					if (material.has("sample")) {
 //						StringBuilder sb2 = new StringBuilder();
 //						sb2.append(material.getLocalizedName());
 //						sb2.append(" Rich ");
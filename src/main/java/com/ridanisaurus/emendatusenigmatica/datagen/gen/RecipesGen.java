@@ -25,6 +25,7 @@ package com.ridanisaurus.emendatusenigmatica.datagen.gen;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.EETags;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
@@ -40,7 +41,6 @@ import net.neoforged.neoforge.common.Tags;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -72,10 +72,9 @@ public class RecipesGen extends RecipeProvider {
 				.save(out);
 
 		for(MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 			if (material.isModded()) {
-				if (processedType.contains("ingot")) {
-					if (processedType.contains("storage_block")) {
+				if (material.has(ProcessedType.INGOT)) {
+					if (material.has(ProcessedType.STORAGE_BLOCK)) {
 						// Ingot from Block
 						ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.ingotMap.getValue(material), 9)
 								.requires(EETags.MATERIAL_STORAGE_BLOCK.apply(material.getId()))
@@ -125,7 +124,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 					}
 
-					if (processedType.contains("nugget")) {
+					if (material.has(ProcessedType.NUGGET)) {
 						// Ingot from Nugget
 						ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.ingotMap.getValue(material))
 								.define('#', EETags.MATERIAL_NUGGET.apply(material.getId()))
@@ -144,7 +143,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "nugget/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("dust")) {
+					if (material.has(ProcessedType.DUST)) {
 						// Ingot from Dust
 						SimpleCookingRecipeBuilder.smelting(Ingredient.of(EETags.MATERIAL_DUST.apply(material.getId())),
 										RecipeCategory.MISC,
@@ -159,7 +158,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingot/from_dust/blasting/" + material.getId()));
 					}
 
-					if (processedType.contains("plate")) {
+					if (material.has(ProcessedType.PLATE)) {
 						// Plate from Ingot
 						ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.plateMap.getValue(material), 1)
 								.requires(EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -169,7 +168,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "plate/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("gear")) {
+					if (material.has(ProcessedType.GEAR)) {
 						// Gear from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.gearMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -182,7 +181,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gear/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("rod")) {
+					if (material.has(ProcessedType.ROD)) {
 						// Rod from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.rodMap.getValue(material), 2)
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -193,7 +192,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "rod/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("ore")) {
+					if (material.has(ProcessedType.ORE)) {
 						// Ingot from Smelting Ore
 						SimpleCookingRecipeBuilder.smelting(Ingredient.of(EETags.MATERIAL_ORE.apply(material.getId())),
 										RecipeCategory.MISC,
@@ -208,7 +207,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingot/from_ore/blasting/" + material.getId()));
 					}
 
-					if (processedType.contains("raw")) {
+					if (material.has(ProcessedType.RAW)) {
 						// Ingot from Smelting Raw Material
 						SimpleCookingRecipeBuilder.smelting(Ingredient.of(EETags.MATERIAL_RAW.apply(material.getId())),
 										RecipeCategory.MISC,
@@ -223,7 +222,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingot/from_raw/blasting/" + material.getId()));
 					}
 
-					if (processedType.contains("armor")) {
+					if (material.has(ProcessedType.ARMOR)) {
 						// Helmet from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.helmetMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -261,7 +260,7 @@ public class RecipesGen extends RecipeProvider {
 					}
 
 					/* FIXME: Smithing recipes need Smithing Templates.
-					if (processedType.contains("shield")) {
+					if (material.has(ProcessedType.SHIELD)) {
 						// Shield from Ingot
 						SmithingTransformRecipeBuilder.smithing(
 										Ingredient.of(Items.SHIELD),
@@ -272,7 +271,7 @@ public class RecipesGen extends RecipeProvider {
 					}
 					 */
 
-					if (processedType.contains("sword")) {
+					if (material.has(ProcessedType.SWORD)) {
 						// Sword from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.swordMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -285,7 +284,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "sword/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("pickaxe")) {
+					if (material.has(ProcessedType.PICKAXE)) {
 						// Pickaxe from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.pickaxeMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -298,7 +297,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "pickaxe/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("axe")) {
+					if (material.has(ProcessedType.AXE)) {
 						// Axe from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.axeMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -311,7 +310,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "axe/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("shovel")) {
+					if (material.has(ProcessedType.SHOVEL)) {
 						// Shovel from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.shovelMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -324,7 +323,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "shovel/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("hoe")) {
+					if (material.has(ProcessedType.HOE)) {
 						// Hoe from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.hoeMap.getValue(material))
 								.define('I', EETags.MATERIAL_INGOT.apply(material.getId()))
@@ -337,7 +336,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "hoe/from_ingot/" + material.getId()));
 					}
 
-					if (processedType.contains("paxel") && processedType.contains("pickaxe") && processedType.contains("axe") && processedType.contains("shovel")) {
+					if (material.has(ProcessedType.PAXEL) && material.has(ProcessedType.PICKAXE) && material.has(ProcessedType.AXE) && material.has(ProcessedType.SHOVEL)) {
 						// Paxel from Ingot
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.paxelMap.getValue(material))
 								.define('P', EERegistrar.pickaxeMap.getValue(material))
@@ -354,8 +353,8 @@ public class RecipesGen extends RecipeProvider {
 				}
 
 				// Gem recipes
-				if (processedType.contains("gem")) {
-					if (processedType.contains("storage_block")) {
+				if (material.has(ProcessedType.GEM)) {
+					if (material.has(ProcessedType.STORAGE_BLOCK)) {
 						if (material.getProperties().getBlockRecipeType() == 4) {
 							// Block from Gem x4
 							ShapedRecipeBuilder.shaped(RecipeCategory.BUILDING_BLOCKS, EERegistrar.storageBlockItemMap.getValue(material))
@@ -421,7 +420,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "waxed/from_block/oxidized_" + material.getId()));
 						}
 
-						if (processedType.contains("plate")) {
+						if (material.has(ProcessedType.PLATE)) {
 							// Plate from Gem
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.plateMap.getValue(material), 1)
 									.requires(EETags.MATERIAL_GEM.apply(material.getId()))
@@ -431,7 +430,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "plate/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("gear")) {
+						if (material.has(ProcessedType.GEAR)) {
 							// Gear from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.gearMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -444,7 +443,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gear/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("rod")) {
+						if (material.has(ProcessedType.ROD)) {
 							// Rod from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.rodMap.getValue(material), 2)
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -455,7 +454,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "rod/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("armor")) {
+						if (material.has(ProcessedType.ARMOR)) {
 							// Helmet from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.helmetMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -493,7 +492,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 
 						/* FIXME: Requires Smithing Template!
-						if (processedType.contains("shield")) {
+						if (material.has(ProcessedType.SHIELD)) {
 							// Shield from Ingot
 
 							UpgradeRecipeBuilder.smithing(
@@ -506,7 +505,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 						 */
 
-						if (processedType.contains("sword")) {
+						if (material.has(ProcessedType.SWORD)) {
 							// Sword from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.swordMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -519,7 +518,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "sword/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("pickaxe")) {
+						if (material.has(ProcessedType.PICKAXE)) {
 							// Pickaxe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.pickaxeMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -532,7 +531,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "pickaxe/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("axe")) {
+						if (material.has(ProcessedType.AXE)) {
 							// Axe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.axeMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -545,7 +544,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "axe/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("shovel")) {
+						if (material.has(ProcessedType.SHOVEL)) {
 							// Shovel from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.shovelMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -558,7 +557,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "shovel/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("hoe")) {
+						if (material.has(ProcessedType.HOE)) {
 							// Hoe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.hoeMap.getValue(material))
 									.define('G', EETags.MATERIAL_GEM.apply(material.getId()))
@@ -571,7 +570,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "hoe/from_gem/" + material.getId()));
 						}
 
-						if (processedType.contains("paxel") && processedType.contains("pickaxe") && processedType.contains("axe") && processedType.contains("shovel")) {
+						if (material.has(ProcessedType.PAXEL) && material.has(ProcessedType.PICKAXE) && material.has(ProcessedType.AXE) && material.has(ProcessedType.SHOVEL)) {
 							// Paxel from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.paxelMap.getValue(material))
 									.define('P', EERegistrar.pickaxeMap.getValue(material))
@@ -587,7 +586,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 					}
 
-					if (processedType.contains("raw")) {
+					if (material.has(ProcessedType.RAW)) {
 						// Raw Block from Raw Material
 						ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.rawBlockItemMap.getValue(material))
 								.define('#', EETags.MATERIAL_RAW.apply(material.getId()))
@@ -606,8 +605,8 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "raw/material/from_block/" + material.getId()));
 					}
 
-					if (processedType.contains("dust")) {
-						if (processedType.contains("ore")) {
+					if (material.has(ProcessedType.DUST)) {
+						if (material.has(ProcessedType.ORE)) {
 							// Dust from Ore
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.dustMap.getValue(material), 1)
 									.requires(EETags.MATERIAL_ORE.apply(material.getId()))
@@ -617,7 +616,7 @@ public class RecipesGen extends RecipeProvider {
 									.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "dust/from_ore/" + material.getId()));
 						}
 
-						if (processedType.contains("raw")) {
+						if (material.has(ProcessedType.RAW)) {
 							// Dust from Raw
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.dustMap.getValue(material), 1)
 									.requires(EETags.MATERIAL_RAW.apply(material.getId()))
@@ -628,7 +627,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 					}
 
-					if (processedType.contains("cluster")) {
+					if (material.has(ProcessedType.CLUSTER)) {
 						// Spyglass
 						ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, Items.SPYGLASS)
 								.define('#', EERegistrar.clusterShardMap.getValue(material))
@@ -674,7 +673,7 @@ public class RecipesGen extends RecipeProvider {
 					}
 
 					for (Map.Entry<String, Item> mat : vanillaGems.entrySet()) {
-						if (processedType.contains("plate")) {
+						if (material.has(ProcessedType.PLATE)) {
 							// Plate
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.plateMap.getValue(mat.getKey()), 1)
 								.requires(mat.getValue())
@@ -684,7 +683,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "plate/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("gear")) {
+						if (material.has(ProcessedType.GEAR)) {
 							// Gear
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.gearMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -697,7 +696,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gear/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("rod")) {
+						if (material.has(ProcessedType.ROD)) {
 							// Rod
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.rodMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -708,7 +707,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "rod/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("dust")) {
+						if (material.has(ProcessedType.DUST)) {
 							// Dust from Ore
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.dustMap.getValue(mat.getKey()), 1)
 								.requires(EETags.MATERIAL_ORE.apply(mat.getKey()))
@@ -718,7 +717,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "dust/from_ore/" + mat.getKey()));
 						}
 
-						if (processedType.contains("ore")) {
+						if (material.has(ProcessedType.ORE)) {
 							// Ore Smelting
 							SimpleCookingRecipeBuilder.smelting(Ingredient.of(EETags.MATERIAL_ORE.apply(mat.getKey())),
 									RecipeCategory.MISC,
@@ -734,7 +733,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gem/from_ore/blasting/" + mat.getKey()));
 						}
 
-						if (processedType.contains("armor")) {
+						if (material.has(ProcessedType.ARMOR)) {
 							// Helmet from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.helmetMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -772,7 +771,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 
 							/* FIXME: Smithing requires Smithing Template.
-							if (processedType.contains("shield")) {
+							if (material.has(ProcessedType.SHIELD)) {
 								// Shield from Ingot
 								UpgradeRecipeBuilder.smithing(
 												Ingredient.of(Items.SHIELD),
@@ -783,7 +782,7 @@ public class RecipesGen extends RecipeProvider {
 							}
 							 */
 
-						if (processedType.contains("sword")) {
+						if (material.has(ProcessedType.SWORD)) {
 							// Sword from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.swordMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -796,7 +795,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "sword/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("pickaxe")) {
+						if (material.has(ProcessedType.PICKAXE)) {
 							// Pickaxe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.pickaxeMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -809,7 +808,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "pickaxe/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("axe")) {
+						if (material.has(ProcessedType.AXE)) {
 							// Axe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.axeMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -822,7 +821,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "axe/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("shovel")) {
+						if (material.has(ProcessedType.SHOVEL)) {
 							// Shovel from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.shovelMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -835,7 +834,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "shovel/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("hoe")) {
+						if (material.has(ProcessedType.HOE)) {
 							// Hoe from Gem
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.hoeMap.getValue(mat.getKey()))
 								.define('G', mat.getValue())
@@ -848,7 +847,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "hoe/from_gem/" + mat.getKey()));
 						}
 
-						if (processedType.contains("paxel") && processedType.contains("pickaxe") && processedType.contains("axe") && processedType.contains("shovel")) {
+						if (material.has(ProcessedType.PAXEL) && material.has(ProcessedType.PICKAXE) && material.has(ProcessedType.AXE) && material.has(ProcessedType.SHOVEL)) {
 							// Paxel from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.paxelMap.getValue(mat.getKey()))
 								.define('P', EERegistrar.pickaxeMap.getValue(mat.getKey()))
@@ -875,7 +874,7 @@ public class RecipesGen extends RecipeProvider {
 					}
 
 					for (Map.Entry<String, Item> mat : vanillaMetals.entrySet()) {
-						if (processedType.contains("plate")) {
+						if (material.has(ProcessedType.PLATE)) {
 							// Plate
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.plateMap.getValue(mat.getKey()), 1)
 								.requires(mat.getValue())
@@ -885,7 +884,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "plate/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("gear")) {
+						if (material.has(ProcessedType.GEAR)) {
 							// Gear
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.gearMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -898,7 +897,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gear/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("rod")) {
+						if (material.has(ProcessedType.ROD)) {
 							// Rod
 							ShapedRecipeBuilder.shaped(RecipeCategory.MISC, EERegistrar.rodMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -909,7 +908,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "rod/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("dust")) {
+						if (material.has(ProcessedType.DUST)) {
 							// Dust from Ore
 							ShapelessRecipeBuilder.shapeless(RecipeCategory.MISC, EERegistrar.dustMap.getValue(mat.getKey()), 1)
 								.requires(EETags.MATERIAL_ORE.apply(mat.getKey()))
@@ -941,7 +940,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingot/from_dust/blasting/" + mat.getKey()));
 						}
 
-						if (processedType.contains("ore")) {
+						if (material.has(ProcessedType.ORE)) {
 							// Ore Smelting
 							SimpleCookingRecipeBuilder.smelting(Ingredient.of(EETags.MATERIAL_ORE.apply(mat.getKey())),
 									RecipeCategory.MISC,
@@ -957,7 +956,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingot/from_ore/blasting/" + mat.getKey()));
 						}
 
-						if (processedType.contains("armor")) {
+						if (material.has(ProcessedType.ARMOR)) {
 							// Helmet from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.helmetMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -995,7 +994,7 @@ public class RecipesGen extends RecipeProvider {
 						}
 
 							/* FIXME: Smithing recipes need Smithing Templates.
-							if (processedType.contains("shield")) {
+							if (material.has(ProcessedType.SHIELD)) {
 								// Shield from Ingot
 								UpgradeRecipeBuilder.smithing(
 												Ingredient.of(Items.SHIELD),
@@ -1006,7 +1005,7 @@ public class RecipesGen extends RecipeProvider {
 							}
 							 */
 
-						if (processedType.contains("sword")) {
+						if (material.has(ProcessedType.SWORD)) {
 							// Sword from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.swordMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -1019,7 +1018,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "sword/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("pickaxe")) {
+						if (material.has(ProcessedType.PICKAXE)) {
 							// Pickaxe from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.pickaxeMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -1032,7 +1031,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "pickaxe/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("axe")) {
+						if (material.has(ProcessedType.AXE)) {
 							// Axe from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.axeMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -1045,7 +1044,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "axe/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("shovel")) {
+						if (material.has(ProcessedType.SHOVEL)) {
 							// Shovel from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.shovelMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -1058,7 +1057,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "shovel/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("hoe")) {
+						if (material.has(ProcessedType.HOE)) {
 							// Hoe from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.hoeMap.getValue(mat.getKey()))
 								.define('I', mat.getValue())
@@ -1071,7 +1070,7 @@ public class RecipesGen extends RecipeProvider {
 								.save(out, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "hoe/from_ingot/" + mat.getKey()));
 						}
 
-						if (processedType.contains("paxel") && processedType.contains("pickaxe") && processedType.contains("axe") && processedType.contains("shovel")) {
+						if (material.has(ProcessedType.PAXEL) && material.has(ProcessedType.PICKAXE) && material.has(ProcessedType.AXE) && material.has(ProcessedType.SHOVEL)) {
 							// Paxel from Ingot
 							ShapedRecipeBuilder.shaped(RecipeCategory.TOOLS, EERegistrar.paxelMap.getValue(mat.getKey()))
 								.define('P', EERegistrar.pickaxeMap.getValue(mat.getKey()))
@@ -25,8 +25,10 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.block;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialOreDropModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
@@ -47,8 +49,10 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.storage.loot.LootPool;
 import net.minecraft.world.level.storage.loot.LootTable;
 import net.minecraft.world.level.storage.loot.entries.LootItem;
+import net.minecraft.world.level.storage.loot.entries.LootPoolSingletonContainer;
 import net.minecraft.world.level.storage.loot.functions.ApplyBonusCount;
 import net.minecraft.world.level.storage.loot.functions.ApplyExplosionDecay;
+import net.minecraft.world.level.storage.loot.functions.CopyBlockState;
 import net.minecraft.world.level.storage.loot.functions.SetItemCountFunction;
 import net.minecraft.world.level.storage.loot.predicates.ExplosionCondition;
 import net.minecraft.world.level.storage.loot.predicates.MatchTool;
@@ -56,7 +60,6 @@ import net.minecraft.world.level.storage.loot.providers.number.ConstantValue;
 import net.minecraft.world.level.storage.loot.providers.number.UniformGenerator;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.Set;
 
 public class BlockLootGen extends BlockLootSubProvider {
@@ -70,13 +73,12 @@ public class BlockLootGen extends BlockLootSubProvider {
 	@Override
 	protected void generate() {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 
 			// Storage Blocks
-			if (processedType.contains("storage_block")) this.selfDrop(EERegistrar.storageBlockMap.getValue(material));
+			if (material.has(ProcessedType.STORAGE_BLOCK)) this.selfDrop(EERegistrar.storageBlockMap.getValue(material));
 
 			// Clusters
-			if (processedType.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				// Block
 				this.selfDrop(EERegistrar.clusterShardBlockMap.getValue(material));
 				// Small Bud
@@ -92,22 +94,23 @@ public class BlockLootGen extends BlockLootSubProvider {
 			}
 
 			// Raw Storage Blocks
-			if (processedType.contains("raw")) selfDrop(EERegistrar.rawBlockMap.getValue(material));
+			if (material.has(ProcessedType.RAW)) selfDrop(EERegistrar.rawBlockMap.getValue(material));
 
 			// Ores
-			if (!processedType.contains("ore")) continue;
+			if (!material.has(ProcessedType.ORE)) continue;
 			MaterialOreDropModel oreDrop = material.getOreDrop();
 
 			for (StrataModel strata : registry.getStrata()) {
 				if (!(material.getStrata().isEmpty() || material.getStrata().contains(strata.getId()))) continue;
 
 				Block block = EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get();
+				if (!StrataOreBlock.isPrimary(block, strata.getId())) continue;
 				Item dropItem;
 				if (!oreDrop.getDrop().isBlank()) {
 					dropItem = oreDrop.getDefaultItemDropAsItem().asItem();
-				} else if (material.getProperties().getMaterialType().equals("metal") && processedType.contains("raw")) {
+				} else if (material.getProperties().getMaterialType().equals("metal") && material.has(ProcessedType.RAW)) {
 					dropItem = EERegistrar.rawMap.getValue(material);
-				} else if (processedType.contains("gem")) {
+				} else if (material.has(ProcessedType.GEM)) {
 					dropItem = EERegistrar.gemMap.getValue(material);
 				} else {
 					// Validation shouldn't ever let this happen.
@@ -123,18 +126,18 @@ public class BlockLootGen extends BlockLootSubProvider {
 				}
 
 				//TODO: Rework Sample System.
-//				if (processedType.contains("sample")) {
+//				if (material.has("sample")) {
 //					if (oreDrop.getMax() == 1) {
-//						oreDrop(EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).get(), (processedType.contains("raw") && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem().asItem()));
+//						oreDrop(EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).get(), (material.has(ProcessedType.RAW) && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem().asItem()));
 //					} else {
 //						if (oreDrop.isUniformCount()) {
 //							oreUniformedDrop(EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).get(),
-//							(processedType.contains("raw") && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem()),
+//							(material.has(ProcessedType.RAW) && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem()),
 //							UniformGenerator.between(oreDrop.getMin(), oreDrop.getMax()));
 //						}
 //						else {
 //							oreCountDrop(EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).get(),
-//							(processedType.contains("raw") && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem()),
+//							(material.has(ProcessedType.RAW) && oreDrop.getDrop().isEmpty() ? EERegistrar.rawMap.get(material.getId()).get() : oreDrop.getDefaultItemDropAsItem()),
 //							UniformGenerator.between(oreDrop.getMin(), oreDrop.getMax()));
 //						}
 //					}
@@ -185,10 +188,17 @@ public class BlockLootGen extends BlockLootSubProvider {
 		add(block, table);
 	}
 
+	private LootPoolSingletonContainer.Builder<?> silkTouchDrop(Block block) {
+		LootPoolSingletonContainer.Builder<?> drop = LootItem.lootTableItem(block);
+		// Strata variant ores have to keep the strata of the mined block.
+		if (block instanceof StrataOreBlock ore) drop.apply(CopyBlockState.copyState(block).copy(ore.getStrataProperty()));
+		return drop;
+	}
+
 	private void oreDrop(Block block, @NotNull Item item) {
 		var table = LootTable.lootTable().withPool(LootPool.lootPool()
 			.setRolls(ConstantValue.exactly(1))
-			.add(LootItem.lootTableItem(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
+			.add(silkTouchDrop(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
 				.apply(ApplyBonusCount.addOreBonusCount(getEnchantment(Enchantments.FORTUNE)))
 				.apply(ApplyExplosionDecay.explosionDecay())
 			))
@@ -199,7 +209,7 @@ public class BlockLootGen extends BlockLootSubProvider {
 	private void oreCountDrop(Block block, @NotNull ItemLike item, UniformGenerator range) {
 		var table = LootTable.lootTable().withPool(LootPool.lootPool()
 			.setRolls(ConstantValue.exactly(1.0F))
-			.add(LootItem.lootTableItem(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
+			.add(silkTouchDrop(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
 				.apply(SetItemCountFunction.setCount(range))
 				.apply(ApplyBonusCount.addOreBonusCount(getEnchantment(Enchantments.FORTUNE)))
 				.apply(ApplyExplosionDecay.explosionDecay())
@@ -211,7 +221,7 @@ public class BlockLootGen extends BlockLootSubProvider {
 	private void oreUniformedDrop(Block block, @NotNull ItemLike item, UniformGenerator range) {
 		var table = LootTable.lootTable().withPool(LootPool.lootPool()
 			.setRolls(ConstantValue.exactly(1.0F))
-			.add(LootItem.lootTableItem(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
+			.add(silkTouchDrop(block).when(hasSilkTouch()).otherwise(LootItem.lootTableItem(item.asItem())
 				.apply(SetItemCountFunction.setCount(range))
 				.apply(ApplyBonusCount.addUniformBonusCount(getEnchantment(Enchantments.FORTUNE)))
 				.apply(ApplyExplosionDecay.explosionDecay())
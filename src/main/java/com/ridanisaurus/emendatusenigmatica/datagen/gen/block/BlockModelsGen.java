@@ -25,33 +25,45 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.block;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEOreTextureBaker;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.BlockModelBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EEBlockModelProvider;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class BlockModelsGen extends EEBlockModelProvider {
 	private final EmendatusDataRegistry registry;
+	private final EEOreTextureBaker baker = new EEOreTextureBaker();
 
 	public BlockModelsGen(DataGenerator gen, EmendatusDataRegistry registry) {
 		super(gen);
 		this.registry = registry;
 	}
 
+	@Override
+	public @NotNull CompletableFuture<?> run(@NotNull CachedOutput directoryCache) {
+		// Models are built synchronously by the super call, so all textures are baked once it returns.
+		CompletableFuture<?> models = super.run(directoryCache);
+		return CompletableFuture.allOf(models, baker.save(directoryCache, this.generator.getPackOutput().getOutputFolder()));
+	}
+
 	@Override
 	protected void buildBlockModel(Consumer<IFinishedGenericJSON> consumer) {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 			// Storage Blocks
-			if (processedType.contains("storage_block")) {
+			if (material.has(ProcessedType.STORAGE_BLOCK)) {
 				if (!material.getColors().hasMaterialColor()) {
 
 					if (material.getProperties().hasOxidization()) {
@@ -221,7 +233,7 @@ public class BlockModelsGen extends EEBlockModelProvider {
 				}
 			}
 			// Shard Blocks
-			if (processedType.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				if (!material.getColors().hasMaterialColor()) {
 					// Cluster Shard Block
 					storageBlock(consumer, "blocks/" + material.getId() + "_cluster_shard_block", material.getId() + "_cluster_shard_block");
@@ -287,7 +299,7 @@ public class BlockModelsGen extends EEBlockModelProvider {
 				}
 			}
 			// Raw Storage Blocks
-			if (processedType.contains("raw")) {
+			if (material.has(ProcessedType.RAW)) {
 				if (!material.getColors().hasMaterialColor()) {
 					storageBlock(consumer, "blocks/raw_" + material.getId() + "_block", "raw_" + material.getId() + "_block");
 				} else {
@@ -301,15 +313,18 @@ public class BlockModelsGen extends EEBlockModelProvider {
 				}
 			}
 			// Ores
-			if (processedType.contains("ore")) {
+			if (material.has(ProcessedType.ORE)) {
 				for (StrataModel stratum : registry.getStrata()) {
 					if (!material.getStrata().isEmpty() && !material.getStrata().contains(stratum.getId())) continue;
+					ResourceLocation bakedTexture = getBakedOreTexture(stratum, material);
 					if (!material.getColors().hasMaterialColor()) {
 						if (material.getProperties().isEmissive()) {
 							oreEmissiveBlock(consumer, stratum.getBaseTexture().toString(), "block/overlays/" + material.getId(), getOreModelName(stratum, material));
 						} else {
 							oreBlock(consumer, stratum.getBaseTexture().toString(), "block/overlays/" + material.getId(), getOreModelName(stratum, material));
 						}
+					} else if (bakedTexture != null) {
+						oreBakedBlock(consumer, stratum.getBaseTexture().toString(), bakedTexture, getOreModelName(stratum, material));
 					} else {
 						if (material.getProperties().getMaterialType().equals("gem")) {
 							if (material.getProperties().isEmissive()) {
@@ -354,7 +369,7 @@ public class BlockModelsGen extends EEBlockModelProvider {
 						}
 					}
 					//TODO: Rework Sample System
-//					if (processedType.contains("sample")) {
+//					if (material.has("sample")) {
 //						if (!material.getColors().hasMaterialColor()) {
 //							if (material.getProperties().isEmissive()) {
 //								oreEmissiveBlock(consumer, stratum.getBaseTexture().toString(), "block/overlays/" + material.getId() + "_sample", getSampleModelName(stratum, material));
@@ -705,6 +720,33 @@ public class BlockModelsGen extends EEBlockModelProvider {
 				.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, path));
 	}
 
+	/**
+	 * Used to bake the texture of a tinted ore, if enabled in the config.
+	 * @param stratum Strata of the ore.
+	 * @param material Material of the ore.
+	 * @return ID of the baked texture, or null if the ore should use the layered model.
+	 * @apiNote Emissive ores are never baked, as the strata of those is not emissive.
+	 */
+	private @Nullable ResourceLocation getBakedOreTexture(@NotNull StrataModel stratum, @NotNull MaterialModel material) {
+		if (!EEConfig.startup.bakeOreTextures.get() || !material.getColors().hasMaterialColor() || material.getProperties().isEmissive()) return null;
+		String template = material.getProperties().getMaterialType().equals("gem") ? "block/templates/ore/gem" : "block/templates/ore/metal";
+		return baker.bake(stratum, material.getColors(), template, getOreModelName(stratum, material));
+	}
+
+	public void oreBakedBlock(Consumer<IFinishedGenericJSON> consumer, String strata, ResourceLocation texture, String path) {
+		new BlockModelBuilder("minecraft:block/block")
+				.texture("particle", strata)
+				.texture("ore", texture)
+				.element()
+				.from(0, 0, 0)
+				.to(16, 16, 16)
+				.cube("#ore")
+				.allFaces((dir, uv) -> uv.tintindex(-1))
+				.end()
+				.renderType("solid")
+				.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, path));
+	}
+
 	public static @NotNull String getOreModelName(@NotNull StrataModel stratum, @NotNull MaterialModel material) {
 		return material.getId() + (!stratum.getId().equals("minecraft_stone") ? "_" + stratum.getSuffix() : "") + "_ore";
 	}
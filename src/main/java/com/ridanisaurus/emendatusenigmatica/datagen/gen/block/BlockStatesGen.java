@@ -25,17 +25,18 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.block;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.BlockStateBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EEBlockStateProvider;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 public class BlockStatesGen extends EEBlockStateProvider {
@@ -49,10 +50,9 @@ public class BlockStatesGen extends EEBlockStateProvider {
 	@Override
 	protected void buildBlockState(Consumer<IFinishedGenericJSON> consumer) {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 
 			// Storage Blocks
-			if (processedType.contains("storage_block")) {
+			if (material.has(ProcessedType.STORAGE_BLOCK)) {
 				new BlockStateBuilder()
 					.variant(new BlockStateBuilder.VariantBuilder("")
 						.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + material.getId() + "_block").toString())
@@ -97,7 +97,7 @@ public class BlockStatesGen extends EEBlockStateProvider {
 				}
 			}
 			// Shard Blocks
-			if (processedType.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				new BlockStateBuilder()
 					.variant(new BlockStateBuilder.VariantBuilder("")
 						.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + material.getId() + "_cluster_shard_block").toString())
@@ -189,29 +189,34 @@ public class BlockStatesGen extends EEBlockStateProvider {
 					.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "budding_" + material.getId()));
 			}
 			// Raw Blocks
-			if (processedType.contains("raw")) {
+			if (material.has(ProcessedType.RAW)) {
 				new BlockStateBuilder()
 					.variant(new BlockStateBuilder.VariantBuilder("")
 						.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/raw_" + material.getId() + "_block").toString()))
 					.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "raw_" + material.getId() + "_block"));
 			}
 			// Fluids
-			if (processedType.contains("fluid")) {
+			if (material.has(ProcessedType.FLUID)) {
 				new BlockStateBuilder()
 					.variant(new BlockStateBuilder.VariantBuilder("")
 						.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + material.getId()).toString()))
 					.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, material.getId()));
 			}
 			// Ores
-			if (processedType.contains("ore")) {
+			if (material.has(ProcessedType.ORE)) {
 				for (StrataModel stratum : registry.getStrata()) {
 					if (!material.getStrata().isEmpty() && !material.getStrata().contains(stratum.getId())) continue;
+					DeferredBlock<Block> ore = EERegistrar.oreBlockTable.get(stratum, material);
+					if (ore != null && ore.get() instanceof StrataOreBlock variantOre) {
+						if (StrataOreBlock.isPrimary(variantOre, stratum.getId())) strataVariantOre(consumer, variantOre, material, ore.getId());
+						continue;
+					}
 					new BlockStateBuilder()
 						.variant(new BlockStateBuilder.VariantBuilder("")
 							.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + getOreModelName(stratum, material)).toString()))
 						.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, getOreModelName(stratum, material)));
 					//TODO: Rework Sample System.
-//					if (processedType.contains("sample")) {
+//					if (material.has("sample")) {
 //						new BlockStateBuilder()
 //							.variant(new BlockStateBuilder.VariantBuilder("")
 //								.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + getSampleModelName(stratum, material)).toString()))
@@ -222,6 +227,19 @@ public class BlockStatesGen extends EEBlockStateProvider {
 		}
 	}
 
+	/**
+	 * Used to generate the block state of a strata variant ore, using the model of each strata for its variant.
+	 */
+	private void strataVariantOre(Consumer<IFinishedGenericJSON> consumer, @NotNull StrataOreBlock ore, @NotNull MaterialModel material, ResourceLocation id) {
+		BlockStateBuilder builder = new BlockStateBuilder();
+		for (String strata : ore.getStrata()) {
+			StrataModel stratum = Objects.requireNonNull(registry.getStrata(strata), "Strata %s of %s is not registered!".formatted(strata, id));
+			builder.variant(new BlockStateBuilder.VariantBuilder(ore.getStrataProperty().getName() + "=" + strata)
+				.setModel(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/" + getOreModelName(stratum, material)).toString()));
+		}
+		builder.save(consumer, id);
+	}
+
 	public static @NotNull String getOreModelName(@NotNull StrataModel stratum, @NotNull MaterialModel material) {
 		return material.getId() + (!stratum.getId().equals("minecraft_stone") ? "_" + stratum.getSuffix() : "") + "_ore";
 	}
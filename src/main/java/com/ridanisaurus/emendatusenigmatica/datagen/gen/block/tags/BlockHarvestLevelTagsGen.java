@@ -26,11 +26,13 @@ package com.ridanisaurus.emendatusenigmatica.datagen.gen.block.tags;
 
 import com.google.common.collect.Lists;
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.TagBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EETagProvider;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
@@ -58,9 +60,8 @@ public class BlockHarvestLevelTagsGen extends EETagProvider {
     @Override
     protected void buildTags(Consumer<IFinishedGenericJSON> consumer) {
         for (MaterialModel material : registry.getMaterials()) {
-            List<String> processedType = material.getProcessedTypes();
 
-            if (processedType.contains("storage_block")) {
+            if (material.has(ProcessedType.STORAGE_BLOCK)) {
                 harvestLevelSwitch(material, EERegistrar.storageBlockMap.getId(material));
                 if (material.getProperties().hasOxidization()) {
                     harvestLevelSwitch(material, EERegistrar.exposedBlockMap.getId(material));
@@ -73,10 +74,10 @@ public class BlockHarvestLevelTagsGen extends EETagProvider {
                 }
             }
 
-            if (processedType.contains("raw"))
+            if (material.has(ProcessedType.RAW))
                 harvestLevelSwitch(material, EERegistrar.rawBlockMap.getId(material));
 
-            if (processedType.contains("cluster")) {
+            if (material.has(ProcessedType.CLUSTER)) {
                 harvestLevelSwitch(material, EERegistrar.buddingBlockMap.getId(material));
                 harvestLevelSwitch(material, EERegistrar.smallBudBlockMap.getId(material));
                 harvestLevelSwitch(material, EERegistrar.mediumBudBlockMap.getId(material));
@@ -85,9 +86,10 @@ public class BlockHarvestLevelTagsGen extends EETagProvider {
                 harvestLevelSwitch(material, EERegistrar.clusterShardBlockMap.getId(material));
             }
 
-            if (processedType.contains("ore")) {
+            if (material.has(ProcessedType.ORE)) {
                 for (StrataModel strata : registry.getStrata()) {
                     if (!material.getStrata().isEmpty() && !material.getStrata().contains(strata.getId())) continue;
+                    if (!StrataOreBlock.isPrimary(EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get(), strata.getId())) continue;
                     harvestLevelSwitch(material, EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).getId());
 
                     // Why in case there is no strata specified, was this adding harvest levels to stone?
@@ -98,7 +100,7 @@ public class BlockHarvestLevelTagsGen extends EETagProvider {
 //                    harvestLevelSwitch(material, ore);
 
                     //TODO: Rework Sample System.
-//                    if (processedType.contains("sample")) {
+//                    if (material.has("sample")) {
 //                        ResourceLocation sample = STONE;
 //                        if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId()))
 //                            sample = EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).getId();
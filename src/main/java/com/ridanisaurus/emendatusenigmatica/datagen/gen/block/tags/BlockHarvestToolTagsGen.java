@@ -26,11 +26,13 @@ package com.ridanisaurus.emendatusenigmatica.datagen.gen.block.tags;
 
 import com.google.common.collect.Lists;
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.TagBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EETagProvider;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
@@ -58,9 +60,8 @@ public class BlockHarvestToolTagsGen extends EETagProvider {
     @Override
     protected void buildTags(Consumer<IFinishedGenericJSON> consumer) {
         for (MaterialModel material : registry.getMaterials()) {
-            List<String> processedType = material.getProcessedTypes();
 
-            if (processedType.contains("storage_block")) {
+            if (material.has(ProcessedType.STORAGE_BLOCK)) {
                 pickaxe.add(EERegistrar.storageBlockMap.getIdAsString(material));
                 if (material.getProperties().hasOxidization()) {
                     pickaxe.add(EERegistrar.exposedBlockMap.getIdAsString(material));
@@ -73,10 +74,10 @@ public class BlockHarvestToolTagsGen extends EETagProvider {
                 }
             }
 
-            if (processedType.contains("raw"))
+            if (material.has(ProcessedType.RAW))
                 pickaxe.add(EERegistrar.rawBlockMap.getIdAsString(material));
 
-            if (processedType.contains("cluster")) {
+            if (material.has(ProcessedType.CLUSTER)) {
                 pickaxe.add(EERegistrar.buddingBlockMap.getIdAsString(material));
                 pickaxe.add(EERegistrar.smallBudBlockMap.getIdAsString(material));
                 pickaxe.add(EERegistrar.mediumBudBlockMap.getIdAsString(material));
@@ -85,9 +86,10 @@ public class BlockHarvestToolTagsGen extends EETagProvider {
                 pickaxe.add(EERegistrar.clusterShardBlockMap.getIdAsString(material));
             }
 
-            if (processedType.contains("ore")) {
+            if (material.has(ProcessedType.ORE)) {
                 for (StrataModel strata : registry.getStrata()) {
                     if (!material.getStrata().isEmpty() &&! material.getStrata().contains(strata.getId())) continue;
+                    if (!StrataOreBlock.isPrimary(EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get(), strata.getId())) continue;
                     ResourceLocation ore = EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).getId();
                     switch (strata.getHarvestTool()) {
                         case "shovel" -> shovel.add(ore.toString());
@@ -99,7 +101,7 @@ public class BlockHarvestToolTagsGen extends EETagProvider {
                     }
 
                     //TODO: Rework Sample System.
-//                    if (processedType.contains("sample")) {
+//                    if (material.has("sample")) {
 ////							ResourceLocation sample = ResourceLocation.parse("minecraft:stone");
 //                        if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())) {
 //                            ResourceLocation sample = EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).getId();
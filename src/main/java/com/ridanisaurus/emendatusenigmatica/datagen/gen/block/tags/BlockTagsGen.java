@@ -25,11 +25,13 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.block.tags;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.TagBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EETagProvider;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.data.EEBlockMap;
 import net.minecraft.data.DataGenerator;
@@ -56,13 +58,12 @@ public class BlockTagsGen extends EETagProvider {
 	@Override
 	protected void buildTags(Consumer<IFinishedGenericJSON> consumer) {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> types = material.getProcessedTypes();
 
-			if (types.contains("storage_block")) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.storageBlockMap, material);
-			if (types.contains("raw")) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.rawBlockMap.getIdAsString(material), "raw_" + material.getId());
+			if (material.has(ProcessedType.STORAGE_BLOCK)) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.storageBlockMap, material);
+			if (material.has(ProcessedType.RAW)) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.rawBlockMap.getIdAsString(material), "raw_" + material.getId());
 
 			// Buds
-			if (types.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				addTag(COMMON, "buds", EERegistrar.smallBudBlockMap.getIdAsString(material));
 				addTag(COMMON, "buds", EERegistrar.mediumBudBlockMap.getIdAsString(material));
 				addTag(COMMON, "buds", EERegistrar.largeBudBlockMap.getIdAsString(material));
@@ -76,16 +77,16 @@ public class BlockTagsGen extends EETagProvider {
 			}
 
 			// Ores
-			if (!types.contains("ore")) continue;
+			if (!material.has(ProcessedType.ORE)) continue;
 			List<String> strataList = material.getStrata();
 			for (StrataModel strata : registry.getStrata()) {
 				if (!strataList.isEmpty() && !strataList.contains(strata.getId())) continue;
 				String id = EERegistrar.oreBlockItemTable.get(strata.getId(), material.getId()).getId().toString();
-				addMaterialSpecificTag(COMMON, "ores", id, material);
+				if (StrataOreBlock.isPrimary(EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get(), strata.getId())) addMaterialSpecificTag(COMMON, "ores", id, material);
 				addTag(COMMON, "ores_in_ground/" + strata.getSuffix(), id);
 
 				//TODO: Rework Sample System.
-//				if (types.contains("sample")) {
+//				if (material.has("sample")) {
 //					if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())) {
 //						ResourceLocation sample = EERegistrar.oreSampleBlockTable.get(strata.getId(), material.getId()).getId();
 //						if (!forgeOres.contains(C_TAG + ":ores/" + material.getId())) forgeOres.add(C_TAG + ":ores/" + material.getId());
@@ -29,12 +29,12 @@ import com.ridanisaurus.emendatusenigmatica.datagen.builder.FluidModelBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EEBlockModelProvider;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 public class FluidModelsGen extends EEBlockModelProvider {
@@ -48,9 +48,8 @@ public class FluidModelsGen extends EEBlockModelProvider {
 	@Override
 	protected void buildBlockModel(Consumer<IFinishedGenericJSON> consumer) {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 			// Fluids
-			if (processedType.contains("fluid")) {
+			if (material.has(ProcessedType.FLUID)) {
 				new FluidModelBuilder()
                     .textures(new FluidModelBuilder.ObjectBuilder(false)
                         .particle(ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/fluid_still").toString())
@@ -25,18 +25,20 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.item;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EEItemModelProvider;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.ItemModelBuilder;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 public class ItemModelsGen extends EEItemModelProvider {
@@ -50,10 +52,9 @@ public class ItemModelsGen extends EEItemModelProvider {
 	@Override
 	protected void buildItemModels(Consumer<IFinishedGenericJSON> consumer) {
 		for (MaterialModel material : registry.getMaterials()) {
-			List<String> processedType = material.getProcessedTypes();
 
 			// Storage Blocks
-			if (processedType.contains("storage_block")) {
+			if (material.has(ProcessedType.STORAGE_BLOCK)) {
 				if (material.getProperties().hasOxidization()) {
 					new ItemModelBuilder(Reference.MOD_ID, "block/exposed_" + material.getId())
 						.save(consumer, Reference.MOD_ID, "exposed_" + material.getId());
@@ -75,7 +76,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Shard Blocks
-			if (processedType.contains("cluster")) {
+			if (material.has(ProcessedType.CLUSTER)) {
 				new ItemModelBuilder(Reference.MOD_ID, "block/" + material.getId() + "_cluster_shard_block")
 						.save(consumer, Reference.MOD_ID, material.getId() + "_cluster_shard_block");
 				new ItemModelBuilder(Reference.MOD_ID, "block/budding_" + material.getId())
@@ -138,7 +139,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Ingots
-			if (processedType.contains("ingot")) {
+			if (material.has(ProcessedType.INGOT)) {
 				ItemModelBuilder ingotBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					ingotBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_ingot");
@@ -153,7 +154,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Nuggets
-			if (processedType.contains("nugget")) {
+			if (material.has(ProcessedType.NUGGET)) {
 				ItemModelBuilder nuggetBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					nuggetBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_nugget");
@@ -168,7 +169,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Gems
-			if (processedType.contains("gem")) {
+			if (material.has(ProcessedType.GEM)) {
 				ItemModelBuilder gemBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					gemBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_gem");
@@ -183,7 +184,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Dusts
-			if (processedType.contains("dust")) {
+			if (material.has(ProcessedType.DUST)) {
 				ItemModelBuilder dustBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					dustBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_dust");
@@ -198,7 +199,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Plates
-			if (processedType.contains("plate")) {
+			if (material.has(ProcessedType.PLATE)) {
 				ItemModelBuilder plateBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					plateBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_plate");
@@ -213,7 +214,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Gears
-			if (processedType.contains("gear")) {
+			if (material.has(ProcessedType.GEAR)) {
 				ItemModelBuilder gearBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					gearBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_gear");
@@ -228,7 +229,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Rods
-			if (processedType.contains("rod")) {
+			if (material.has(ProcessedType.ROD)) {
 				ItemModelBuilder rodBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					rodBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_rod");
@@ -243,7 +244,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Raw Materials
-			if (processedType.contains("raw")) {
+			if (material.has(ProcessedType.RAW)) {
 				ItemModelBuilder rawBuilder = new ItemModelBuilder("minecraft:item/generated");
 				if (!material.getColors().hasMaterialColor()) {
 					rawBuilder.texture("layer0", Reference.MOD_ID, "item/raw_" + material.getId());
@@ -261,7 +262,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Swords
-			if (processedType.contains("sword")) {
+			if (material.has(ProcessedType.SWORD)) {
 				ItemModelBuilder swordBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					swordBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_sword");
@@ -276,7 +277,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Pickaxes
-			if (processedType.contains("pickaxe")) {
+			if (material.has(ProcessedType.PICKAXE)) {
 				ItemModelBuilder pickaxeBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					pickaxeBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_pickaxe");
@@ -291,7 +292,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Axes
-			if (processedType.contains("axe")) {
+			if (material.has(ProcessedType.AXE)) {
 				ItemModelBuilder axeBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					axeBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_axe");
@@ -307,7 +308,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Shovels
-			if (processedType.contains("shovel")) {
+			if (material.has(ProcessedType.SHOVEL)) {
 				ItemModelBuilder shovelBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					shovelBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_shovel");
@@ -322,7 +323,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Hoes
-			if (processedType.contains("hoe")) {
+			if (material.has(ProcessedType.HOE)) {
 				ItemModelBuilder hoeBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					hoeBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_hoe");
@@ -337,7 +338,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Paxels
-			if (processedType.contains("paxel")) {
+			if (material.has(ProcessedType.PAXEL)) {
 				ItemModelBuilder paxelBuilder = new ItemModelBuilder("minecraft:item/handheld");
 				if (!material.getColors().hasMaterialColor()) {
 					paxelBuilder.texture("layer0", Reference.MOD_ID, "item/" + material.getId() + "_paxel");
@@ -352,7 +353,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Shields
-			if (processedType.contains("shield")) {
+			if (material.has(ProcessedType.SHIELD)) {
 				ItemModelBuilder shieldBlockingBuilder = new ItemModelBuilder("minecraft:item/shield_blocking")
 					.texture("particle", Reference.MINECRAFT, "block/dark_oak_planks");
 				shieldBlockingBuilder.save(consumer, Reference.MOD_ID, material.getId() + "_shield_blocking");
@@ -367,7 +368,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Fluid Buckets
-			if (processedType.contains("fluid")) {
+			if (material.has(ProcessedType.FLUID)) {
 				new ItemModelBuilder("neoforge:item/bucket_drip")
 						.applyTint(true)
 						.fluid(EERegistrar.fluidSourceMap.getIdAsString(material))
@@ -376,7 +377,7 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Armor
-			if (processedType.contains("armor")) {
+			if (material.has(ProcessedType.ARMOR)) {
 				ItemModelBuilder helmetBuilder = new ItemModelBuilder("minecraft:item/generated");
 				ItemModelBuilder chestplateBuilder = new ItemModelBuilder("minecraft:item/generated");
 				ItemModelBuilder leggingsBuilder = new ItemModelBuilder("minecraft:item/generated");
@@ -417,13 +418,16 @@ public class ItemModelsGen extends EEItemModelProvider {
 			}
 
 			// Ores
-			if (processedType.contains("ore")) {
+			if (material.has(ProcessedType.ORE)) {
 				for (StrataModel stratum : registry.getStrata()) {
 					if (!material.getStrata().isEmpty() && !material.getStrata().contains(stratum.getId())) continue;
+					Block ore = EERegistrar.oreBlockTable.get(stratum, material).get();
+					if (!StrataOreBlock.isPrimary(ore, stratum.getId())) continue;
+					// Strata variant ores have a single item, using the model of the first strata.
 					new ItemModelBuilder(Reference.MOD_ID, "block/" + getOreModelName(stratum, material))
-						.save(consumer, Reference.MOD_ID, getOreModelName(stratum, material));
+						.save(consumer, Reference.MOD_ID, EERegistrar.oreBlockItemTable.get(stratum, material).getId().getPath());
 					//TODO: Rework Sample System
-//					if (processedType.contains("sample")) {
+//					if (material.has("sample")) {
 //						new ItemModelBuilder(Reference.MOD_ID, "block/" + getSampleModelName(stratum, material))
 //						.save(consumer, Reference.MOD_ID, getSampleModelName(stratum, material));
 //					}
@@ -25,11 +25,13 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.item;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.blocks.StrataOreBlock;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.TagBuilder;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EETagProvider;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.data.EEItemMap;
 import net.minecraft.data.DataGenerator;
@@ -56,33 +58,32 @@ public class ItemTagsGen extends EETagProvider {
     @Override
     protected void buildTags(Consumer<IFinishedGenericJSON> consumer) {
         registry.getMaterials().forEach(material -> {
-            var types = material.getProcessedTypes();
-            resourceTags(material, types);
-            toolTags(material, types);
-            armorTags(material, types);
+            resourceTags(material);
+            toolTags(material);
+            armorTags(material);
         });
 
         tags.forEach((tag, values) -> new TagBuilder(values).save(consumer, tag));
         tags.clear();
     }
 
-    private void resourceTags(@NotNull MaterialModel material, @NotNull List<String> types) {
-        if (types.contains("storage_block")) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.storageBlockItemMap, material);
-        if (types.contains("ingot"))         addMaterialSpecificTag(COMMON, "ingots", EERegistrar.ingotMap, material);
-        if (types.contains("gem"))           addMaterialSpecificTag(COMMON, "gems", EERegistrar.gemMap, material);
-        if (types.contains("nugget"))        addMaterialSpecificTag(COMMON, "nuggets", EERegistrar.nuggetMap, material);
-        if (types.contains("dust"))          addMaterialSpecificTag(COMMON, "dusts", EERegistrar.dustMap, material);
-        if (types.contains("plate"))         addMaterialSpecificTag(COMMON, "plates", EERegistrar.plateMap, material);
-        if (types.contains("gear"))          addMaterialSpecificTag(COMMON, "gears", EERegistrar.gearMap, material);
-        if (types.contains("rod"))           addMaterialSpecificTag(COMMON, "rods", EERegistrar.rodMap, material);
-        if (types.contains("fluid"))         addMaterialSpecificTag(COMMON, "buckets", EERegistrar.fluidBucketMap, material);
-
-        if (types.contains("raw")) {
+    private void resourceTags(@NotNull MaterialModel material) {
+        if (material.has(ProcessedType.STORAGE_BLOCK)) addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.storageBlockItemMap, material);
+        if (material.has(ProcessedType.INGOT))         addMaterialSpecificTag(COMMON, "ingots", EERegistrar.ingotMap, material);
+        if (material.has(ProcessedType.GEM))           addMaterialSpecificTag(COMMON, "gems", EERegistrar.gemMap, material);
+        if (material.has(ProcessedType.NUGGET))        addMaterialSpecificTag(COMMON, "nuggets", EERegistrar.nuggetMap, material);
+        if (material.has(ProcessedType.DUST))          addMaterialSpecificTag(COMMON, "dusts", EERegistrar.dustMap, material);
+        if (material.has(ProcessedType.PLATE))         addMaterialSpecificTag(COMMON, "plates", EERegistrar.plateMap, material);
+        if (material.has(ProcessedType.GEAR))          addMaterialSpecificTag(COMMON, "gears", EERegistrar.gearMap, material);
+        if (material.has(ProcessedType.ROD))           addMaterialSpecificTag(COMMON, "rods", EERegistrar.rodMap, material);
+        if (material.has(ProcessedType.FLUID))         addMaterialSpecificTag(COMMON, "buckets", EERegistrar.fluidBucketMap, material);
+
+        if (material.has(ProcessedType.RAW)) {
             addMaterialSpecificTag(COMMON, "raw_materials", EERegistrar.rawMap, material);
             addMaterialSpecificTag(COMMON, "storage_blocks", EERegistrar.rawBlockItemMap.getIdAsString(material), "raw_" + material.getId());
         }
 
-        if (types.contains("cluster")) {
+        if (material.has(ProcessedType.CLUSTER)) {
             addTag(COMMON, "buds", EERegistrar.smallBudBlockItemMap.getIdAsString(material));
             addTag(COMMON, "buds", EERegistrar.mediumBudBlockItemMap.getIdAsString(material));
             addTag(COMMON, "buds", EERegistrar.largeBudBlockItemMap.getIdAsString(material));
@@ -93,12 +94,12 @@ public class ItemTagsGen extends EETagProvider {
         }
 
         // Ores
-        if (!types.contains("ore")) return;
+        if (!material.has(ProcessedType.ORE)) return;
         List<String> strataList = material.getStrata();
         for (StrataModel strata : registry.getStrata()) {
             if (!strataList.isEmpty() && !strataList.contains(strata.getId())) continue;
             String id = EERegistrar.oreBlockItemTable.get(strata.getId(), material.getId()).getId().toString();
-            addMaterialSpecificTag(COMMON, "ores", id, material);
+            if (StrataOreBlock.isPrimary(EERegistrar.oreBlockTable.get(strata.getId(), material.getId()).get(), strata.getId())) addMaterialSpecificTag(COMMON, "ores", id, material);
             addTag(COMMON, "ores_in_ground/" + strata.getSuffix(), id);
 
             //TODO: Rework Sample System.
@@ -113,8 +114,8 @@ public class ItemTagsGen extends EETagProvider {
         }
     }
 
-    private void armorTags(@NotNull MaterialModel material, @NotNull List<String> types) {
-        if (types.contains("armor")) {
+    private void armorTags(@NotNull MaterialModel material) {
+        if (material.has(ProcessedType.ARMOR)) {
             addTag(MINECRAFT, "head_armor", EERegistrar.helmetMap.getIdAsString(material));
             addTag(MINECRAFT, "chest_armor", EERegistrar.chestplateMap.getIdAsString(material));
             addTag(MINECRAFT, "leg_armor", EERegistrar.leggingsMap.getIdAsString(material));
@@ -122,30 +123,30 @@ public class ItemTagsGen extends EETagProvider {
         }
     }
 
-    private void toolTags(@NotNull MaterialModel material, @NotNull List<String> types) {
-        if (types.contains("shovel")) addTag(MINECRAFT, "shovels", EERegistrar.shovelMap.getIdAsString(material));
-        if (types.contains("hoe")) addTag(MINECRAFT, "hoes", EERegistrar.hoeMap.getIdAsString(material));
+    private void toolTags(@NotNull MaterialModel material) {
+        if (material.has(ProcessedType.SHOVEL)) addTag(MINECRAFT, "shovels", EERegistrar.shovelMap.getIdAsString(material));
+        if (material.has(ProcessedType.HOE)) addTag(MINECRAFT, "hoes", EERegistrar.hoeMap.getIdAsString(material));
 
-        if (types.contains("sword")) {
+        if (material.has(ProcessedType.SWORD)) {
             String id = EERegistrar.swordMap.getIdAsString(material);
             addTag(MINECRAFT, "swords", id);
             addTag(COMMON, "tools/melee_weapon", id);
         }
 
-        if (types.contains("axe")) {
+        if (material.has(ProcessedType.AXE)) {
             String id = EERegistrar.axeMap.getIdAsString(material);
             addTag(MINECRAFT, "axes", id);
             addTag(COMMON, "tools/melee_weapon", id);
         }
 
-        if (types.contains("pickaxe")) {
+        if (material.has(ProcessedType.PICKAXE)) {
             String id = EERegistrar.pickaxeMap.getIdAsString(material);
             addTag(MINECRAFT, "pickaxes", id);
             addTag(MINECRAFT, "cluster_max_harvestables", id);
             addTag(COMMON, "tools/mining_tool", id);
         }
 
-        if (types.contains("paxel")) {
+        if (material.has(ProcessedType.PAXEL)) {
             String id = EERegistrar.paxelMap.getIdAsString(material);
             addTag(MINECRAFT, "axes", id);
             addTag(MINECRAFT, "pickaxes", id);
@@ -154,7 +155,7 @@ public class ItemTagsGen extends EETagProvider {
             addTag(COMMON, "tools/mining_tool", id);
         }
 
-        if (types.contains("shield")) {
+        if (material.has(ProcessedType.SHIELD)) {
             String id = EERegistrar.shieldMap.getIdAsString(material);
             addTag(MINECRAFT, "enchantable/durability", id);
             addTag(COMMON, "tools/shield", id);
@@ -25,21 +25,28 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.world;
 
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import com.ridanisaurus.emendatusenigmatica.datagen.provider.EENeoFeatureProvider;
 import com.ridanisaurus.emendatusenigmatica.datagen.builder.FeatureBuilder;
 import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
+import com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors.VeinDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import com.ridanisaurus.emendatusenigmatica.util.WorldGenHelper;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.resources.ResourceLocation;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -122,7 +129,14 @@ public class NeoFeatureGen extends EENeoFeatureProvider {
 			}
 		}
 
+		if (EEConfig.startup.compositeDeposits.get()) {
+			buildCompositeFeatures(consumer);
+			return;
+		}
+
 		for (IDepositProcessor processor : DefaultLoader.ACTIVE_PROCESSORS) {
+			// Veins are generated by the noise router, there is no feature to add.
+			if (processor instanceof VeinDepositProcessor) continue;
 			CommonDepositModelBase model = processor.getCommonModel();
 			List<String> biomes = new ArrayList<>();
 			List<String> features = new ArrayList<>();
@@ -177,6 +191,31 @@ public class NeoFeatureGen extends EENeoFeatureProvider {
 		}
 	}
 
+	/**
+	 * Used to add a single composite feature to each dimension, instead of a feature for every deposit.
+	 * @param consumer Consumer of the biome modifiers.
+	 * @apiNote Composite features filter biomes of each deposit on their own,
+	 * so the modifier only needs to reach every biome any of the deposits can generate in.
+	 * @see OreFeatureGen
+	 */
+	private void buildCompositeFeatures(Consumer<IFinishedGenericJSON> consumer) {
+		Map<String, Set<String>> dimensions = new LinkedHashMap<>();
+		for (IDepositProcessor processor : DefaultLoader.ACTIVE_PROCESSORS) {
+			// Veins are generated by the noise router, there is no feature to add.
+			if (processor instanceof VeinDepositProcessor) continue;
+			CommonDepositModelBase model = processor.getCommonModel();
+			dimensions.computeIfAbsent(model.getDimension(), dim -> new LinkedHashSet<>()).addAll(WorldGenHelper.getDepositBiomes(model));
+		}
+
+		dimensions.forEach((dimension, biomes) -> {
+			String name = WorldGenHelper.getCompositeName(dimension);
+			new FeatureBuilder("neoforge:add_features", "underground_ores")
+					.biomes(new ArrayList<>(biomes))
+					.feature(Reference.MOD_ID + ":" + name)
+					.save(consumer, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, name + "_ore_features"));
+		});
+	}
+
 	@Override
 	public @NotNull String getName() {
 		return "Emendatus Enigmatica: Neo Features";
@@ -25,6 +25,7 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.gen.world;
 
 import com.mojang.datafixers.util.Pair;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.DepositType;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors.*;
@@ -47,7 +48,9 @@ import net.neoforged.neoforge.common.data.DatapackBuiltinEntriesProvider;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -66,6 +69,8 @@ public class OreFeatureGen implements DataProvider {
     public @NotNull CompletableFuture<?> run(@NotNull CachedOutput output) {
         var builder = new RegistrySetBuilder();
         List<Pair<ResourceKey<PlacedFeature>, PlacedFeature>> PLACED_FEATURES = new ArrayList<>();
+        boolean composite = EEConfig.startup.compositeDeposits.get();
+        Map<String, List<CompositeOreFeatureConfig.Entry>> COMPOSITE_ENTRIES = new LinkedHashMap<>();
 
         //TODO:
         // Add rest of the generation types
@@ -74,6 +79,8 @@ public class OreFeatureGen implements DataProvider {
             for (IDepositProcessor activeProcessor : ACTIVE_PROCESSORS) {
                 // If Type is not recognized - Skip. It's from an addon.
                 if (DepositType.typeOf(activeProcessor.getType()) == null) continue;
+                // Veins are generated by the noise router, not by a feature.
+                if (DepositType.typeOf(activeProcessor.getType()) == DepositType.VEIN) continue;
 
                 var configuredFeature = bt.register(ResourceKey.create(
                         Registries.CONFIGURED_FEATURE,
@@ -81,11 +88,37 @@ public class OreFeatureGen implements DataProvider {
                     getConfiguredFeature(activeProcessor)
                 );
 
+                if (composite) {
+                    var model = activeProcessor.getCommonModel();
+                    COMPOSITE_ENTRIES.computeIfAbsent(model.getDimension(), dim -> new ArrayList<>()).add(new CompositeOreFeatureConfig.Entry(
+                        activeProcessor.getName(),
+                        configuredFeature,
+                        WorldGenHelper.getCompositeOrePlacement(activeProcessor),
+                        WorldGenHelper.getDepositBiomes(model)
+                    ));
+                    continue;
+                }
+
                 PLACED_FEATURES.add(new Pair<>(
                     ResourceKey.create(Registries.PLACED_FEATURE, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, activeProcessor.getName())),
                     new PlacedFeature(configuredFeature, WorldGenHelper.getFullOrePlacement(activeProcessor)
                 )));
             }
+
+            // One feature per dimension, placing every deposit of it. Placement of each deposit is kept in the entry.
+            COMPOSITE_ENTRIES.forEach((dimension, entries) -> {
+                String name = WorldGenHelper.getCompositeName(dimension);
+                var configuredFeature = bt.register(ResourceKey.create(
+                        Registries.CONFIGURED_FEATURE,
+                        ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, name)),
+                    new ConfiguredFeature<>(EERegistrar.COMPOSITE_ORE_FEATURE.get(), new CompositeOreFeatureConfig(entries))
+                );
+
+                PLACED_FEATURES.add(new Pair<>(
+                    ResourceKey.create(Registries.PLACED_FEATURE, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, name)),
+                    new PlacedFeature(configuredFeature, List.of())
+                ));
+            });
         });
 
         builder.add(Registries.PLACED_FEATURE, bt -> PLACED_FEATURES.forEach(pair -> bt.register(pair.getFirst(), pair.getSecond())));
@@ -105,7 +138,7 @@ public class OreFeatureGen implements DataProvider {
             case GEODE ->   new ConfiguredFeature<>(EERegistrar.GEODE_ORE_FEATURE.get(),   new GeodeOreFeatureConfig(((GeodeDepositProcessor) processor).getGeodeModel()));
             case DIKE ->    new ConfiguredFeature<>(EERegistrar.DIKE_ORE_FEATURE.get(),    new DikeOreFeatureConfig(((DikeDepositProcessor) processor).getDikeModel()));
             case DENSE ->   new ConfiguredFeature<>(EERegistrar.DENSE_ORE_FEATURE.get(),   new DenseOreFeatureConfig(((DenseDepositProcessor) processor).getDenseModel()));
-            case null -> null;
+            case VEIN, null -> null;
         };
     }
 }
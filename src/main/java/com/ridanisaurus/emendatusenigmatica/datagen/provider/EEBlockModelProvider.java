@@ -25,6 +25,9 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.provider;
 
 import com.google.common.collect.Sets;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEModelDeduplicator;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataGenerator;
@@ -50,15 +53,21 @@ public abstract class EEBlockModelProvider implements DataProvider {
 	public @NotNull CompletableFuture<?> run(@NotNull CachedOutput directoryCache) {
 		Path path = this.generator.getPackOutput().getOutputFolder();
 		Set<ResourceLocation> set = Sets.newHashSet();
-		List<CompletableFuture<?>> cs = new ArrayList<>();
+		List<IFinishedGenericJSON> results = new ArrayList<>();
 		buildBlockModel((consumer) -> {
 			if (!set.add(consumer.getId())) throw new IllegalStateException("Duplicate JSON " + consumer.getId());
-			cs.add(DataProvider.saveStable(
+			results.add(consumer);
+		});
+		if (EEConfig.startup.deduplicateModels.get()) results = EEModelDeduplicator.deduplicate(results, "block");
+
+		List<CompletableFuture<?>> cs = new ArrayList<>();
+		for (IFinishedGenericJSON result : results) {
+			cs.add(EEJsonSink.save(
 				directoryCache,
-				consumer.serializeJSON(),
-				path.resolve("assets/" + consumer.getId().getNamespace() + "/models/block/" + consumer.getId().getPath() + ".json")
+				result,
+				path.resolve("assets/" + result.getId().getNamespace() + "/models/block/" + result.getId().getPath() + ".json")
 			));
-		});
+		}
 		return CompletableFuture.allOf(cs.toArray(new CompletableFuture<?>[]{}));
 	}
 
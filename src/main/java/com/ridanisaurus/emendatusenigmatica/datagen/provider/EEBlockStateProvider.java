@@ -25,6 +25,7 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.provider;
 
 import com.google.common.collect.Sets;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataGenerator;
@@ -53,9 +54,9 @@ public abstract class EEBlockStateProvider implements DataProvider {
 		List<CompletableFuture<?>> cs = new ArrayList<>();
 		buildBlockState((consumer) -> {
 			if (!set.add(consumer.getId())) throw new IllegalStateException("Duplicate JSON " + consumer.getId());
-			cs.add(DataProvider.saveStable(
+			cs.add(EEJsonSink.save(
 				directoryCache,
-				consumer.serializeJSON(),
+				consumer,
 				path.resolve("assets/" + consumer.getId().getNamespace() + "/blockstates/" + consumer.getId().getPath() + ".json")
 			));
 		});
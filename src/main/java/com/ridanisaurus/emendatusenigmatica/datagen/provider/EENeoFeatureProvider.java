@@ -25,6 +25,7 @@
 package com.ridanisaurus.emendatusenigmatica.datagen.provider;
 
 import com.google.common.collect.Sets;
+import com.ridanisaurus.emendatusenigmatica.datagen.EEJsonSink;
 import com.ridanisaurus.emendatusenigmatica.datagen.IFinishedGenericJSON;
 import net.minecraft.data.CachedOutput;
 import net.minecraft.data.DataGenerator;
@@ -54,9 +55,9 @@ public abstract class EENeoFeatureProvider implements DataProvider {
 
 		buildFeatures((consumer) -> {
 			if (!set.add(consumer.getId())) throw new IllegalStateException("Duplicate JSON " + consumer.getId());
-			cs.add(DataProvider.saveStable(
+			cs.add(EEJsonSink.save(
 				directoryCache,
-				consumer.serializeJSON(),
+				consumer,
 				path.resolve("data/" + consumer.getId().getNamespace() + "/neoforge/biome_modifier/" + consumer.getId().getPath() + ".json")
 			));
 		});
@@ -25,20 +25,17 @@
 package com.ridanisaurus.emendatusenigmatica.events;
 
 import com.ridanisaurus.emendatusenigmatica.blocks.handlers.BlockColorHandler;
-import com.ridanisaurus.emendatusenigmatica.blocks.handlers.IColorable;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
-import net.minecraft.world.level.block.Block;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
-import net.neoforged.neoforge.registries.DeferredHolder;
 
 @EventBusSubscriber(modid = Reference.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
 public class BlockColorEvent {
 	@SubscribeEvent
 	public static void blockColorEvent(RegisterColorHandlersEvent.Block event) {
-		event.register(new BlockColorHandler(), EERegistrar.BLOCKS.getEntries().stream().filter(x -> x.get() instanceof IColorable).map(DeferredHolder::get).toArray(Block[]::new));
+		event.register(new BlockColorHandler(), EERegistrar.COLOR_INDEX.getBlocks());
 	}
 }
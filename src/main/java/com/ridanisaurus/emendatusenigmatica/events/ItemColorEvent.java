@@ -24,17 +24,12 @@
 
 package com.ridanisaurus.emendatusenigmatica.events;
 
-import com.ridanisaurus.emendatusenigmatica.blocks.templates.BasicStorageBlockItem;
-import com.ridanisaurus.emendatusenigmatica.items.templates.*;
 import com.ridanisaurus.emendatusenigmatica.items.handlers.BlockItemColorHandler;
 import com.ridanisaurus.emendatusenigmatica.items.handlers.ItemColorHandler;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import com.ridanisaurus.emendatusenigmatica.registries.data.EEColorIndex;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
-import net.minecraft.world.item.BlockItem;
-import net.minecraft.world.item.BucketItem;
-import net.minecraft.world.item.Item;
 import net.neoforged.neoforge.client.model.DynamicFluidContainerModel;
-import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
@@ -44,15 +39,8 @@ import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
 public class ItemColorEvent {
 	@SubscribeEvent
 	public static void itemColorEvent(RegisterColorHandlersEvent.Item event) {
-		event.register(new DynamicFluidContainerModel.Colors(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BucketItem).map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicItem)		.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicSwordItem)	.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicPickaxeItem)	.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicAxeItem)		.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicShovelItem)	.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicHoeItem)		.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicPaxelItem)	.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new ItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BasicArmorItem)	.map(DeferredHolder::get).toArray(Item[]::new));
-		event.register(new BlockItemColorHandler(), EERegistrar.ITEMS.getEntries().stream().filter(x -> x.get() instanceof BlockItem || x.get() instanceof BasicStorageBlockItem).map(DeferredHolder::get).toArray(Item[]::new));
+		event.register(new DynamicFluidContainerModel.Colors(), EERegistrar.COLOR_INDEX.getItems(EEColorIndex.ItemKind.FLUID_CONTAINER));
+		event.register(new ItemColorHandler(), EERegistrar.COLOR_INDEX.getItems(EEColorIndex.ItemKind.ITEM));
+		event.register(new BlockItemColorHandler(), EERegistrar.COLOR_INDEX.getItems(EEColorIndex.ItemKind.BLOCK_ITEM));
 	}
 }
@@ -0,0 +1,307 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.gametest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dense.DenseDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dike.DikeDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sphere.SphereDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vanilla.VanillaDepositModel;
+import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.DenseOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.DikeOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.GeodeOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.SphereOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.VanillaOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DenseOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DikeOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.GeodeOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.SphereOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.VanillaOreFeatureConfig;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worldgen regression and performance tests of the deposit features.
+ * <br><br>
+ * Each test fills the {@code deposit_area} template with layers of deepslate, stone and granite, from the bottom up,
+ * and places a deposit from the fixture {@code data/emendatusenigmatica/gametest/deposit/<type>.json} in the middle of it a few times.
+ * Deepslate and stone are the filler types of the fixtures, granite is a registered strata that isn't,
+ * so it must never be replaced by the deposit blocks.
+ * <br><br>
+ * Y levels of the fixtures are relative to the bottom of the template.
+ * The {@code gametest} object of the fixture holds the expected range of placed blocks per placement,
+ * optionally the minimum amount of blocks placed over all placements ({@code minTotalBlocks}),
+ * and the time budget of the median placement in milliseconds.
+ * The budget can be overridden with the {@code emendatusenigmatica.gametest.budget.<type>} system property.
+ */
+@GameTestHolder(Reference.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class DepositGameTests {
+	private static final String TEMPLATE = "deposit_area";
+	private static final int SIZE_X = 48;
+	private static final int SIZE_Y = 40;
+	private static final int SIZE_Z = 48;
+	private static final BlockPos ORIGIN = new BlockPos(24, 20, 24);
+	private static final int RUNS = 5;
+
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void vanillaDeposit(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "vanilla");
+		VanillaDepositModel model = fixture.decode(VanillaDepositModel.CODEC);
+		VanillaOreFeatureConfig config = new VanillaOreFeatureConfig(model, fixture.registry());
+		run(helper, fixture, new VanillaOreFeature(), config, blocks(List.of(model.getBlock())));
+	}
+
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void sphereDeposit(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "sphere");
+		SphereDepositModel model = fixture.decode(SphereDepositModel.CODEC);
+		SphereOreFeatureConfig config = new SphereOreFeatureConfig(model, new MultiStrataRuleTest(model.getFillerTypes(), fixture.registry()));
+		run(helper, fixture, new SphereOreFeature(), config, definitions(model.getBlocks()));
+	}
+
+	/**
+	 * Sphere deposit whose only filler (deepslate) lies below its Y range,
+	 * reached only by the positions mirrored below the center of the sphere.
+	 * Pins the bounding box of the filler pre-check, which must not skip such deposits.
+	 */
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void sphereDepositBelowRange(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "sphere_below_range");
+		SphereDepositModel model = fixture.decode(SphereDepositModel.CODEC);
+		SphereOreFeatureConfig config = new SphereOreFeatureConfig(model, new MultiStrataRuleTest(model.getFillerTypes(), fixture.registry()));
+		run(helper, fixture, new SphereOreFeature(), config, definitions(model.getBlocks()));
+	}
+
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void denseDeposit(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "dense");
+		DenseDepositModel model = fixture.decode(DenseDepositModel.CODEC);
+		DenseOreFeatureConfig config = new DenseOreFeatureConfig(model, new MultiStrataRuleTest(model.getFillerTypes(), fixture.registry()));
+		run(helper, fixture, new DenseOreFeature(), config, definitions(model.getBlocks()));
+	}
+
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void dikeDeposit(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "dike");
+		DikeDepositModel model = fixture.decode(DikeDepositModel.CODEC);
+		DikeOreFeatureConfig config = new DikeOreFeatureConfig(model, new MultiStrataRuleTest(model.getFillerTypes(), fixture.registry()));
+		run(helper, fixture, new DikeOreFeature(), config, definitions(model.getBlocks()));
+	}
+
+	@GameTest(template = TEMPLATE, timeoutTicks = 200)
+	public static void geodeDeposit(GameTestHelper helper) {
+		Fixture fixture = Fixture.load(helper, "geode");
+		GeodeDepositModel model = fixture.decode(GeodeDepositModel.CODEC);
+		GeodeOreFeatureConfig config = new GeodeOreFeatureConfig(model, new MultiStrataRuleTest(model.getFillerTypes(), fixture.registry()));
+
+		Set<Block> placed = new HashSet<>();
+		placed.addAll(definitions(model.getOuterShellBlocks()));
+		placed.addAll(definitions(model.getInnerShellBlocks()));
+		placed.addAll(definitions(model.getInnerBlocks()));
+		placed.addAll(definitions(model.getFillBlocks()));
+		// Clusters grow on the inner blocks, after the shell is placed.
+		Set<Block> anywhere = blocks(model.getClusters());
+		anywhere.add(Blocks.AIR);
+		run(helper, fixture, new GeodeOreFeature(), config, placed, anywhere);
+	}
+
+	private static <C extends FeatureConfiguration> void run(GameTestHelper helper, Fixture fixture, Feature<C> feature, C config, Set<Block> placed) {
+		run(helper, fixture, feature, config, placed, Set.of());
+	}
+
+	/**
+	 * Used to place the deposit {@link #RUNS} times, each time into freshly filled terrain, and check the results.
+	 * @param placed Blocks the deposit places, which may only replace the filler blocks of the fixture.
+	 * @param anywhere Blocks the deposit may place without a strata check, like geode cracks and clusters.
+	 */
+	private static <C extends FeatureConfiguration> void run(GameTestHelper helper, Fixture fixture, Feature<C> feature, C config, Set<Block> placed, Set<Block> anywhere) {
+		ServerLevel level = helper.getLevel();
+		BlockPos origin = helper.absolutePos(ORIGIN);
+		long[] times = new long[RUNS];
+		int[] counts = new int[RUNS];
+
+		for (int run = 0; run < RUNS; run++) {
+			BlockState[] terrain = fill(helper);
+			FeaturePlaceContext<C> context = new FeaturePlaceContext<>(Optional.empty(), level, level.getChunkSource().getGenerator(), RandomSource.create(run), origin, config);
+
+			long start = System.nanoTime();
+			feature.place(context);
+			times[run] = System.nanoTime() - start;
+
+			int count = 0;
+			for (int i = 0; i < terrain.length; i++) {
+				BlockPos pos = helper.absolutePos(relativePos(i));
+				BlockState state = level.getBlockState(pos);
+				if (state == terrain[i]) continue;
+				count++;
+
+				Block block = state.getBlock();
+				if (anywhere.contains(block)) continue;
+				if (!placed.contains(block)) {
+					helper.fail("%s deposit placed unexpected block %s".formatted(fixture.type(), BuiltInRegistries.BLOCK.getKey(block)), relativePos(i));
+				}
+				if (!fixture.fillers().contains(terrain[i].getBlock())) {
+					helper.fail("%s deposit replaced %s, which isn't one of its filler types".formatted(fixture.type(), BuiltInRegistries.BLOCK.getKey(terrain[i].getBlock())), relativePos(i));
+				}
+			}
+			counts[run] = count;
+			helper.assertTrue(count >= fixture.minBlocks() && count <= fixture.maxBlocks(),
+				"%s deposit placed %d blocks, expected between %d and %d".formatted(fixture.type(), count, fixture.minBlocks(), fixture.maxBlocks()));
+		}
+
+		int total = Arrays.stream(counts).sum();
+		helper.assertTrue(total >= fixture.minTotalBlocks(),
+			"%s deposit placed %d blocks over %d placements, expected at least %d".formatted(fixture.type(), total, RUNS, fixture.minTotalBlocks()));
+
+		Arrays.sort(times);
+		Arrays.sort(counts);
+		long median = TimeUnit.NANOSECONDS.toMicros(times[RUNS / 2]);
+		EmendatusEnigmatica.logger.info("GameTest {} deposit: median of {} blocks placed in {} us, budget {} ms.", fixture.type(), counts[RUNS / 2], median, fixture.budgetMs());
+		helper.assertTrue(median <= fixture.budgetMs() * 1000,
+			"%s deposit median placement took %d us, over the budget of %d ms".formatted(fixture.type(), median, fixture.budgetMs()));
+		helper.succeed();
+	}
+
+	/**
+	 * Used to fill the test area with the strata layers.
+	 * @return Block states of the area, indexed by {@link #relativePos(int)}.
+	 */
+	private static BlockState[] fill(GameTestHelper helper) {
+		ServerLevel level = helper.getLevel();
+		BlockState[] terrain = new BlockState[SIZE_X * SIZE_Y * SIZE_Z];
+		for (int i = 0; i < terrain.length; i++) {
+			BlockPos pos = relativePos(i);
+			BlockState state = pos.getY() < 20 ? Blocks.DEEPSLATE.defaultBlockState()
+				: pos.getY() < 34 ? Blocks.STONE.defaultBlockState()
+				: Blocks.GRANITE.defaultBlockState();
+			// Skip neighbor updates and block drops, only the terrain itself is relevant.
+			level.setBlock(helper.absolutePos(pos), state, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+			terrain[i] = state;
+		}
+		return terrain;
+	}
+
+	private static BlockPos relativePos(int index) {
+		return new BlockPos(index % SIZE_X, index / (SIZE_X * SIZE_Z), (index / SIZE_X) % SIZE_Z);
+	}
+
+	private static Set<Block> definitions(List<CommonBlockDefinitionModel> definitions) {
+		return blocks(definitions.stream().map(CommonBlockDefinitionModel::getBlock).toList());
+	}
+
+	private static Set<Block> blocks(List<String> ids) {
+		Set<Block> blocks = new HashSet<>();
+		for (String id : ids) {
+			if (id != null) blocks.add(BuiltInRegistries.BLOCK.get(ResourceLocation.parse(id)));
+		}
+		return blocks;
+	}
+
+	/**
+	 * Fixture of a single deposit type.
+	 * @param type Deposit type, name of the fixture file.
+	 * @param json Deposit JSON, with Y levels moved to the test area.
+	 * @param registry Data registry with the test strata.
+	 * @param fillers Filler blocks of the strata the deposit may replace.
+	 * @param minBlocks Minimum amount of blocks placed per placement.
+	 * @param maxBlocks Maximum amount of blocks placed per placement.
+	 * @param minTotalBlocks Minimum amount of blocks placed over all placements.
+	 * @param budgetMs Time budget of the median placement.
+	 */
+	private record Fixture(String type, JsonObject json, EmendatusDataRegistry registry, Set<Block> fillers, int minBlocks, int maxBlocks, int minTotalBlocks, long budgetMs) {
+		private static final List<String> STRATA = List.of("minecraft:stone", "minecraft:deepslate", "minecraft:granite");
+
+		static Fixture load(GameTestHelper helper, String type) {
+			ResourceLocation location = ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "gametest/deposit/" + type + ".json");
+			JsonObject json;
+			try (Reader reader = helper.getLevel().getServer().getResourceManager().openAsReader(location)) {
+				json = JsonParser.parseReader(reader).getAsJsonObject();
+			} catch (IOException e) {
+				throw new GameTestAssertException("Unable to read fixture %s: %s".formatted(location, e.getMessage()));
+			}
+
+			JsonObject expectations = json.remove("gametest").getAsJsonObject();
+			JsonObject config = json.getAsJsonObject("config");
+			int bottom = helper.absolutePos(BlockPos.ZERO).getY();
+			config.addProperty("minYLevel", config.get("minYLevel").getAsInt() + bottom);
+			config.addProperty("maxYLevel", config.get("maxYLevel").getAsInt() + bottom);
+
+			EmendatusDataRegistry registry = new EmendatusDataRegistry();
+			for (String filler : STRATA) {
+				registry.registerStrata(new StrataModel(filler.replace(':', '_'), ResourceLocation.parse(filler.replace(":", ":block/")), filler.replace(':', '_'),
+					ResourceLocation.parse(filler), filler, "pickaxe", 3f, 3f, false));
+			}
+			registry.freeze();
+
+			Set<Block> fillers = new HashSet<>();
+			config.getAsJsonArray("fillerTypes").forEach(strata -> {
+				StrataModel model = registry.getStrata(strata.getAsString());
+				if (model != null) fillers.add(BuiltInRegistries.BLOCK.get(model.getFillerType()));
+			});
+
+			long budget = Long.getLong("emendatusenigmatica.gametest.budget." + type, expectations.get("budgetMs").getAsLong());
+			int minTotal = expectations.has("minTotalBlocks") ? expectations.get("minTotalBlocks").getAsInt() : 0;
+			return new Fixture(type, json, registry, fillers, expectations.get("minBlocks").getAsInt(), expectations.get("maxBlocks").getAsInt(), minTotal, budget);
+		}
+
+		<T> T decode(Codec<T> codec) {
+			return codec.parse(JsonOps.INSTANCE, json).getOrThrow(error -> new GameTestAssertException("Invalid %s fixture: %s".formatted(type, error)));
+		}
+	}
+}
@@ -31,6 +31,7 @@ import com.ridanisaurus.emendatusenigmatica.api.IEmendatusPlugin;
 import com.ridanisaurus.emendatusenigmatica.api.annotation.EmendatusPluginReference;
 import com.ridanisaurus.emendatusenigmatica.plugin.DefaultConfigPlugin;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 import net.minecraft.Util;
 import net.minecraft.data.DataGenerator;
 import net.minecraft.data.registries.VanillaRegistries;
@@ -63,6 +64,7 @@ public class EELoader {
      */
     private void scanForClasses(){
         Stopwatch s = Stopwatch.createStarted();
+        StartupTracer.Span span = StartupTracer.span("Loader", "Scanning for plugins");
         for (Class<?> annotatedClass : AnnotationUtil.getAnnotatedClasses(EmendatusPluginReference.class)) {
             if (IEmendatusPlugin.class.isAssignableFrom(annotatedClass)) {
                 var annotation = (EmendatusPluginReference) annotatedClass.getAnnotation(EmendatusPluginReference.class);
@@ -82,27 +84,48 @@ public class EELoader {
             }
         }
         s.stop();
+        span.close();
         logger.info("Finished scanning for plugins, took " + s.elapsed(TimeUnit.MILLISECONDS) + "ms.");
         Analytics.addPerformanceAnalytic("Scanning and registration of addons", s);
     }
 
     public void loadData() {
-		this.plugins.forEach(iEmendatusPlugin -> iEmendatusPlugin.load(this.dataRegistry));
+		this.plugins.forEach(iEmendatusPlugin -> {
+			try (var span = StartupTracer.span("Plugin: Load", getPluginName(iEmendatusPlugin))) {
+				iEmendatusPlugin.load(this.dataRegistry);
+			}
+		});
+		this.dataRegistry.freeze();
 
-		this.plugins.forEach(iEmendatusPlugin -> iEmendatusPlugin.registerMinecraft(this.dataRegistry.getMaterials(), this.dataRegistry.getStrata()));
+		this.plugins.forEach(iEmendatusPlugin -> {
+			try (var span = StartupTracer.span("Plugin: Registration", getPluginName(iEmendatusPlugin))) {
+				iEmendatusPlugin.registerMinecraft(this.dataRegistry.getMaterials(), this.dataRegistry.getStrata());
+			}
+		});
     }
 
     public void registerDatagen(DataGenerator dataGenerator) {
-        this.plugins.forEach(iEmendatusPlugin ->
-            iEmendatusPlugin.registerDynamicDataGen(dataGenerator, this.dataRegistry, CompletableFuture.supplyAsync(VanillaRegistries::createLookup, Util.backgroundExecutor()))
-        );
+        this.plugins.forEach(iEmendatusPlugin -> {
+            try (var span = StartupTracer.span("Plugin: Data Generation", getPluginName(iEmendatusPlugin))) {
+                iEmendatusPlugin.registerDynamicDataGen(dataGenerator, this.dataRegistry, CompletableFuture.supplyAsync(VanillaRegistries::createLookup, Util.backgroundExecutor()));
+            }
+        });
     }
 
     public void finish() {
-        this.plugins.forEach(iEmendatusPlugin -> iEmendatusPlugin.finish(this.dataRegistry));
+        this.plugins.forEach(iEmendatusPlugin -> {
+            try (var span = StartupTracer.span("Plugin: Finish", getPluginName(iEmendatusPlugin))) {
+                iEmendatusPlugin.finish(this.dataRegistry);
+            }
+        });
         this.finished = true;
     }
 
+    private static String getPluginName(IEmendatusPlugin plugin) {
+        EmendatusPluginReference reference = plugin.getClass().getAnnotation(EmendatusPluginReference.class);
+        return reference == null ? plugin.getClass().getSimpleName() : reference.modid() + ":" + reference.name();
+    }
+
     public EmendatusDataRegistry getDataRegistry() {
         return dataRegistry;
     }
@@ -27,6 +27,7 @@ package com.ridanisaurus.emendatusenigmatica.loader.validation;
 import com.google.common.base.Stopwatch;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registry.AbstractRegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +47,7 @@ public class RegistryValidationManager {
     public static boolean validate() {
         //TODO: Run in parallel.
         Stopwatch s = Stopwatch.createStarted();
+        StartupTracer.Span span = StartupTracer.span("Validation: Registry", "Registry validators");
         AtomicBoolean result = new AtomicBoolean(true);
         validators.forEach((validator, list) -> list.forEach(registryData -> {
             var data = registryData.validationData();
@@ -62,6 +64,7 @@ public class RegistryValidationManager {
         }));
         // Clearing validator's map, which holds references to the ValidationData objects.
         validators.clear();
+        span.close();
         Analytics.addPerformanceAnalytic("Validation: Registry", s);
         return result.get();
     }
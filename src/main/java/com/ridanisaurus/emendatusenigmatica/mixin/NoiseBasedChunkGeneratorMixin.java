@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.mixin;
+
+import com.ridanisaurus.emendatusenigmatica.util.jfr.VeinReplacementEvent;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator;
+import net.minecraft.world.level.levelgen.NoiseChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(NoiseBasedChunkGenerator.class)
+public class NoiseBasedChunkGeneratorMixin {
+
+    /**
+     * Ore veins are only placed while the noise is filled, so the vein replacements of the chunk are committed once it's done.
+     */
+    @Inject(method = "doFill", at = @At("RETURN"), remap = false)
+    private void emendatusenigmatica$commitVeinReplacements(CallbackInfoReturnable<ChunkAccess> cir) {
+        NoiseChunk noiseChunk = ((ChunkAccessAccessor) cir.getReturnValue()).getNoiseChunk();
+        if (noiseChunk == null) return;
+        VeinReplacementEvent.BatchHolder holder = (VeinReplacementEvent.BatchHolder) noiseChunk;
+        VeinReplacementEvent.Batch batch = holder.emendatusenigmatica$getVeinBatch();
+        if (batch == null) return;
+        holder.emendatusenigmatica$setVeinBatch(null);
+        batch.commit();
+    }
+}
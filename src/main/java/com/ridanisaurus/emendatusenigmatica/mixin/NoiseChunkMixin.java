@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.mixin;
+
+import com.ridanisaurus.emendatusenigmatica.util.jfr.VeinReplacementEvent;
+import com.ridanisaurus.emendatusenigmatica.world.gen.vein.EEOreVeins;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.Aquifer;
+import net.minecraft.world.level.levelgen.DensityFunctions;
+import net.minecraft.world.level.levelgen.NoiseChunk;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.blending.Blender;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(NoiseChunk.class)
+public class NoiseChunkMixin implements VeinReplacementEvent.BatchHolder {
+    @Unique
+    private @Nullable VeinReplacementEvent.Batch emendatusenigmatica$veinBatch;
+
+    /**
+     * Ore vein filler is created inside the noise chunk constructor, which doesn't know the level.
+     * The dimension of the chunk, and the batch of vein replacements, are exposed to {@link OreVeinifierMixin} until the noise chunk is created.
+     */
+    @Inject(method = "forChunk", at = @At("HEAD"), remap = false)
+    private static void emendatusenigmatica$setDimension(ChunkAccess chunk, RandomState state, DensityFunctions.BeardifierOrMarker beardifier, NoiseGeneratorSettings settings, Aquifer.FluidPicker fluidPicker, Blender blender, CallbackInfoReturnable<NoiseChunk> cir) {
+        ResourceLocation dimension = ((ChunkAccessAccessor) chunk).getLevelHeightAccessor() instanceof Level level ? level.dimension().location() : null;
+        EEOreVeins.setGeneratingDimension(dimension);
+        VeinReplacementEvent.startBatch(chunk.getPos(), dimension);
+    }
+
+    /**
+     * The noise chunk can be created in the biome step, on another thread than the noise fill, so the batch is kept on the noise chunk itself.
+     */
+    @Inject(method = "forChunk", at = @At("RETURN"), remap = false)
+    private static void emendatusenigmatica$clearDimension(ChunkAccess chunk, RandomState state, DensityFunctions.BeardifierOrMarker beardifier, NoiseGeneratorSettings settings, Aquifer.FluidPicker fluidPicker, Blender blender, CallbackInfoReturnable<NoiseChunk> cir) {
+        EEOreVeins.setGeneratingDimension(null);
+        ((VeinReplacementEvent.BatchHolder) cir.getReturnValue()).emendatusenigmatica$setVeinBatch(VeinReplacementEvent.endBatch());
+    }
+
+    @Override
+    public @Nullable VeinReplacementEvent.Batch emendatusenigmatica$getVeinBatch() {
+        return emendatusenigmatica$veinBatch;
+    }
+
+    @Override
+    public void emendatusenigmatica$setVeinBatch(@Nullable VeinReplacementEvent.Batch batch) {
+        emendatusenigmatica$veinBatch = batch;
+    }
+}
@@ -24,12 +24,11 @@
 
 package com.ridanisaurus.emendatusenigmatica.mixin;
 
-import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
-import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
-import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.VeinReplacementEvent;
+import com.ridanisaurus.emendatusenigmatica.world.gen.vein.EEOreVeinType;
+import com.ridanisaurus.emendatusenigmatica.world.gen.vein.EEOreVeins;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.DensityFunction;
 import net.minecraft.world.level.levelgen.NoiseChunk;
@@ -38,8 +37,6 @@ import net.minecraft.world.level.levelgen.PositionalRandomFactory;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 
-import java.util.Objects;
-
 @Mixin(OreVeinifier.class)
 public class OreVeinifierMixin {
 
@@ -51,52 +48,41 @@ public class OreVeinifierMixin {
     @Overwrite(remap = false)
     protected static NoiseChunk.BlockStateFiller create(DensityFunction dFunction1, DensityFunction dFunction2, DensityFunction dFunction3, PositionalRandomFactory randomFactory) {
         BlockState blockstate = null;
+        // Vanilla veins (including their replacements) and vein deposits of the generating dimension, resolved once instead of per filler.
+        final EEOreVeins.DimensionVeins veins = EEOreVeins.get().getGeneratingVeins();
+        // Replacements are only counted when the JFR event is enabled, and committed once the noise chunk is filled.
+        final VeinReplacementEvent.Batch batch = VeinReplacementEvent.getCreatingBatch();
         return (filler) -> {
             double d0 = dFunction1.compute(filler);
             int i = filler.blockY();
-            OreVeinifier.VeinType oreveinifier$veintype = d0 > 0.0D ? OreVeinifier.VeinType.COPPER : OreVeinifier.VeinType.IRON;
-            double d1 = Math.abs(d0);
-            int j = oreveinifier$veintype.maxY - i;
-            int k = i - oreveinifier$veintype.minY;
+            EEOreVeinType veintype = veins.select(d0 > 0.0D, filler.blockX(), i, filler.blockZ());
+            if (veintype == null) return blockstate;
 
-            if (k >= 0 && j >= 0) {
-                int l = Math.min(j, k);
-                double d2 = Mth.clampedMap((double)l, 0.0D, 20.0D, -0.2D, 0.0D);
-                if (d1 + d2 < (double)0.4F) {
+            double d1 = Math.abs(d0);
+            int j = veintype.maxY() - i;
+            int k = i - veintype.minY();
+            int l = Math.min(j, k);
+            double d2 = Mth.clampedMap((double)l, 0.0D, 20.0D, -0.2D, 0.0D);
+            if (d1 + d2 < (double)0.4F) {
+                return blockstate;
+            } else {
+                RandomSource randomsource = randomFactory.at(filler.blockX(), i, filler.blockZ());
+                if (randomsource.nextFloat() > 0.7F) {
+                    return blockstate;
+                } else if (dFunction2.compute(filler) >= 0.0D) {
                     return blockstate;
                 } else {
-                    RandomSource randomsource = randomFactory.at(filler.blockX(), i, filler.blockZ());
-                    if (randomsource.nextFloat() > 0.7F) {
-                        return blockstate;
-                    } else if (dFunction2.compute(filler) >= 0.0D) {
-                        return blockstate;
+                    double d3 = Mth.clampedMap(d1, (double)0.4F, (double)0.6F, (double)0.1F, (double)0.3F);
+                    if ((double)randomsource.nextFloat() < d3 && dFunction3.compute(filler) > (double)-0.3F) {
+                        BlockState ore = randomsource.nextFloat() < veintype.rawOreChance() ? veintype.rawOre() : veintype.ore();
+                        if (batch != null) batch.record(veintype, true);
+                        return ore;
                     } else {
-                        double d3 = Mth.clampedMap(d1, (double)0.4F, (double)0.6F, (double)0.1F, (double)0.3F);
-                        if ((double)randomsource.nextFloat() < d3 && dFunction3.compute(filler) > (double)-0.3F) {
-                            BlockState mixinRawOreBlock = oreveinifier$veintype.rawOreBlock;
-                            BlockState mixinOreBlock = oreveinifier$veintype.ore;
-
-                            EmendatusDataRegistry registry = EmendatusEnigmatica.getInstance().getLoader().getDataRegistry();
-                            MaterialModel copper = registry.getMaterial("copper");
-                            MaterialModel iron = registry.getMaterial("iron");
-
-                            if (oreveinifier$veintype == OreVeinifier.VeinType.COPPER && Objects.nonNull(copper) && copper.getDisableDefaultOre()) {
-                                mixinRawOreBlock = Blocks.STONE.defaultBlockState();
-                                mixinOreBlock = Blocks.STONE.defaultBlockState();
-                            } else if (oreveinifier$veintype == OreVeinifier.VeinType.IRON && Objects.nonNull(iron) && iron.getDisableDefaultOre()) {
-                                mixinRawOreBlock = Blocks.DEEPSLATE.defaultBlockState();
-                                mixinOreBlock = Blocks.DEEPSLATE.defaultBlockState();
-                            }
-
-                            return randomsource.nextFloat() < 0.02F ? mixinRawOreBlock : mixinOreBlock;
-                        } else {
-                            return oreveinifier$veintype.filler;
-                        }
+                        if (batch != null) batch.record(veintype, false);
+                        return veintype.filler();
                     }
                 }
-            } else {
-                return blockstate;
             }
         };
     }
-}
\ No newline at end of file
+}
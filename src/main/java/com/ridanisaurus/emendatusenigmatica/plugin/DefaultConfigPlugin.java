@@ -27,6 +27,8 @@ package com.ridanisaurus.emendatusenigmatica.plugin;
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.api.IEmendatusPlugin;
 import com.ridanisaurus.emendatusenigmatica.api.annotation.EmendatusPluginReference;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.datagen.DataGeneratorFactory;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.block.*;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.block.tags.BlockHarvestLevelTagsGen;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.block.tags.BlockHarvestToolTagsGen;
@@ -38,9 +40,11 @@ import com.ridanisaurus.emendatusenigmatica.datagen.gen.item.ItemTagsGen;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.world.NeoFeatureGen;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.world.OreFeatureGen;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.data.DataGenerator;
 import com.ridanisaurus.emendatusenigmatica.datagen.gen.*;
@@ -64,50 +68,56 @@ public class DefaultConfigPlugin implements IEmendatusPlugin {
     @Override
     public void registerMinecraft(List<MaterialModel> materialModels, List<StrataModel> strataModels) {
         for (MaterialModel material : materialModels) {
-            List<String> types = material.getProcessedTypes();
-            if (types.contains("storage_block")) EERegistrar.registerStorageBlocks(material);
-            if (types.contains("ingot"))    EERegistrar.registerIngots(material);
-            if (types.contains("nugget"))   EERegistrar.registerNuggets(material);
-            if (types.contains("gem"))      EERegistrar.registerGems(material);
-            if (types.contains("dust"))     EERegistrar.registerDusts(material);
-            if (types.contains("plate"))    EERegistrar.registerPlates(material);
-            if (types.contains("gear"))     EERegistrar.registerGears(material);
-            if (types.contains("rod"))      EERegistrar.registerRods(material);
-            if (types.contains("sword"))    EERegistrar.registerSwords(material);
-            if (types.contains("pickaxe"))  EERegistrar.registerPickaxes(material);
-            if (types.contains("axe"))      EERegistrar.registerAxes(material);
-            if (types.contains("shovel"))   EERegistrar.registerShovels(material);
-            if (types.contains("hoe"))      EERegistrar.registerHoes(material);
-            if (types.contains("paxel"))    EERegistrar.registerPaxels(material);
-            if (types.contains("armor"))    EERegistrar.registerArmor(material);
-            if (types.contains("shield"))   EERegistrar.registerShields(material);
-            if (types.contains("fluid"))    EERegistrar.registerFluids(material);
+            try (var span = StartupTracer.span("Registration", material.getId())) {
+                if (material.has(ProcessedType.STORAGE_BLOCK)) EERegistrar.registerStorageBlocks(material);
+                if (material.has(ProcessedType.INGOT))         EERegistrar.registerIngots(material);
+                if (material.has(ProcessedType.NUGGET))        EERegistrar.registerNuggets(material);
+                if (material.has(ProcessedType.GEM))           EERegistrar.registerGems(material);
+                if (material.has(ProcessedType.DUST))          EERegistrar.registerDusts(material);
+                if (material.has(ProcessedType.PLATE))         EERegistrar.registerPlates(material);
+                if (material.has(ProcessedType.GEAR))          EERegistrar.registerGears(material);
+                if (material.has(ProcessedType.ROD))           EERegistrar.registerRods(material);
+                if (material.has(ProcessedType.SWORD))         EERegistrar.registerSwords(material);
+                if (material.has(ProcessedType.PICKAXE))       EERegistrar.registerPickaxes(material);
+                if (material.has(ProcessedType.AXE))           EERegistrar.registerAxes(material);
+                if (material.has(ProcessedType.SHOVEL))        EERegistrar.registerShovels(material);
+                if (material.has(ProcessedType.HOE))           EERegistrar.registerHoes(material);
+                if (material.has(ProcessedType.PAXEL))         EERegistrar.registerPaxels(material);
+                if (material.has(ProcessedType.ARMOR))         EERegistrar.registerArmor(material);
+                if (material.has(ProcessedType.SHIELD))        EERegistrar.registerShields(material);
+                if (material.has(ProcessedType.FLUID))         EERegistrar.registerFluids(material);
 
-            if (types.contains("raw")) {
-                EERegistrar.registerRaw(material);
-                EERegistrar.registerRawBlocks(material);
-            }
+                if (material.has(ProcessedType.RAW)) {
+                    EERegistrar.registerRaw(material);
+                    EERegistrar.registerRawBlocks(material);
+                }
 
-            if (types.contains("cluster")) {
-                EERegistrar.registerSmallBudBlocks(material);
-                EERegistrar.registerMediumBudBlocks(material);
-                EERegistrar.registerLargeBudBlocks(material);
-                EERegistrar.registerClusterBlocks(material);
-                EERegistrar.registerBuddingBlocks(material);
-                EERegistrar.registerClusterShardBlocks(material);
-                EERegistrar.registerClusterShards(material);
-            }
+                if (material.has(ProcessedType.CLUSTER)) {
+                    EERegistrar.registerSmallBudBlocks(material);
+                    EERegistrar.registerMediumBudBlocks(material);
+                    EERegistrar.registerLargeBudBlocks(material);
+                    EERegistrar.registerClusterBlocks(material);
+                    EERegistrar.registerBuddingBlocks(material);
+                    EERegistrar.registerClusterShardBlocks(material);
+                    EERegistrar.registerClusterShards(material);
+                }
+
+                if (material.has(ProcessedType.ORE) && EEConfig.startup.strataVariantOres.get()) {
+                    EERegistrar.registerStrataOres(strataModels.stream().filter(strata -> material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())).toList(), material);
+                    continue;
+                }
 
-            for (StrataModel strata : strataModels) {
-                if (types.contains("ore")) {
-                    if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())) EERegistrar.registerOre(strata, material);
+                for (StrataModel strata : strataModels) {
+                    if (material.has(ProcessedType.ORE)) {
+                        if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())) EERegistrar.registerOre(strata, material);
 
-                    //TODO: Rework Sample System.
-//                    if (types.contains("sample")) {
+                        //TODO: Rework Sample System.
+//                    if (material.has("sample")) {
 //                        if (material.getStrata().isEmpty() || material.getStrata().contains(strata.getId())) {
 //                            EERegistrar.registerSample(strata, material);
 //                        }
 //                    }
+                    }
                 }
             }
         }
@@ -115,16 +125,17 @@ public class DefaultConfigPlugin implements IEmendatusPlugin {
 
     @Override
     public void registerDynamicDataGen(DataGenerator generator, EmendatusDataRegistry registry, CompletableFuture<HolderLookup.Provider> providers) {
-        generator.addProvider(true, new BlockStatesGen(generator, registry));
-        generator.addProvider(true, new BlockModelsGen(generator, registry));
+        boolean client = DataGeneratorFactory.includeClient();
+        generator.addProvider(client, new BlockStatesGen(generator, registry));
+        generator.addProvider(client, new BlockModelsGen(generator, registry));
         generator.addProvider(true, new BlockTagsGen(generator, registry));
         generator.addProvider(true, new BlockHarvestLevelTagsGen(generator, registry));
         generator.addProvider(true, new BlockHarvestToolTagsGen(generator, registry));
-        generator.addProvider(true, new ItemModelsGen(generator, registry));
+        generator.addProvider(client, new ItemModelsGen(generator, registry));
         generator.addProvider(true, new ItemTagsGen(generator, registry));
-        generator.addProvider(true, new FluidModelsGen(generator, registry));
+        generator.addProvider(client, new FluidModelsGen(generator, registry));
         generator.addProvider(true, new FluidTagsGen(generator, registry));
-        generator.addProvider(true, new LangGen(generator, registry));
+        generator.addProvider(client, new LangGen(generator, registry));
         generator.addProvider(true, new RecipesGen(generator, registry, providers));
         generator.addProvider(true, new LootGen(generator, registry, providers));
         generator.addProvider(true, new NeoFeatureGen(generator, registry));
@@ -28,7 +28,6 @@ import com.google.common.base.Stopwatch;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
 import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.DepositType;
@@ -39,7 +38,9 @@ import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer;
 import com.ridanisaurus.emendatusenigmatica.util.FileHelper;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
@@ -77,10 +78,16 @@ public class DefaultLoader {
         File depositDir = configDir.resolve("deposit/").toFile();
         if (!depositDir.exists() && depositDir.mkdirs()) EmendatusEnigmatica.logger.info("Created /config/emendatusenigmatica/deposit/");
 
-        Map<Path, JsonObject> strataDefinition = FileHelper.loadJsonsWithPaths(strataDir.toPath());
-        Map<Path, JsonObject> materialDefinition = FileHelper.loadJsonsWithPaths(materialDir.toPath());
-        Map<Path, JsonObject> compatDefinition = FileHelper.loadJsonsWithPaths(compatDir.toPath());
-        Map<Path, JsonObject> depositJsonDefinitionsMap = FileHelper.loadJsonsWithPaths(depositDir.toPath());
+        Map<Path, JsonObject> strataDefinition;
+        Map<Path, JsonObject> materialDefinition;
+        Map<Path, JsonObject> compatDefinition;
+        Map<Path, JsonObject> depositJsonDefinitionsMap;
+        try (var span = StartupTracer.span("Loading", "Loading and parsing JSON Files")) {
+            strataDefinition = FileHelper.loadJsonsWithPaths(strataDir.toPath());
+            materialDefinition = FileHelper.loadJsonsWithPaths(materialDir.toPath());
+            compatDefinition = FileHelper.loadJsonsWithPaths(compatDir.toPath());
+            depositJsonDefinitionsMap = FileHelper.loadJsonsWithPaths(depositDir.toPath());
+        }
 
         Analytics.addPerformanceAnalytic("Loading and parsing JSON Files", s);
 
@@ -88,19 +95,23 @@ public class DefaultLoader {
         registerMaterials(materialDefinition, registry);
         registerCompat(compatDefinition, registry);
         registerDeposits(depositJsonDefinitionsMap, registry);
+
+        if (Analytics.isEnabled()) Analytics.registerAddon(new FootprintAnalyticsAddon(registry));
     }
 
     private static void registerStrata(@NotNull Map<Path, JsonObject> definitions, EmendatusDataRegistry registry) {
         Stopwatch s = Stopwatch.createStarted();
         definitions.forEach((path, object) -> {
-            if (!StrataModel.VALIDATION_MANAGER.validate(object, path)) return;
+            try (var span = StartupTracer.span("Validation: Strata", path.getFileName().toString())) {
+                if (!StrataModel.VALIDATION_MANAGER.validate(object, path)) return;
 
-            Optional<Pair<StrataModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(StrataModel.CODEC).apply(object).result();
-            if (result.isEmpty()) return;
+                Optional<Pair<StrataModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(StrataModel.CODEC).apply(object).result();
+                if (result.isEmpty()) return;
 
-            StrataModel strataModel = result.get().getFirst();
-            registry.registerStrata(strataModel);
-            STRATA_IDS.add(strataModel.getId());
+                StrataModel strataModel = result.get().getFirst();
+                registry.registerStrata(strataModel);
+                STRATA_IDS.add(strataModel.getId());
+            }
         });
         Analytics.addPerformanceAnalytic("Validation: Strata", s);
     }
@@ -108,14 +119,16 @@ public class DefaultLoader {
     private static void registerMaterials(@NotNull Map<Path, JsonObject> definitions, EmendatusDataRegistry registry) {
         Stopwatch s = Stopwatch.createStarted();
         definitions.forEach((path, object) -> {
-            if (!MaterialModel.VALIDATION_MANAGER.validate(object, path)) return;
+            try (var span = StartupTracer.span("Validation: Material", path.getFileName().toString())) {
+                if (!MaterialModel.VALIDATION_MANAGER.validate(object, path)) return;
 
-            Optional<Pair<MaterialModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(MaterialModel.CODEC).apply(object).result();
-            if (result.isEmpty()) return;
+                Optional<Pair<MaterialModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(MaterialModel.CODEC).apply(object).result();
+                if (result.isEmpty()) return;
 
-            MaterialModel materialModel = result.get().getFirst();
-            registry.getMaterialOrRegister(materialModel.getId(), materialModel);
-            MATERIAL_IDS.add(materialModel.getId());
+                MaterialModel materialModel = result.get().getFirst();
+                registry.getMaterialOrRegister(materialModel.getId(), materialModel);
+                MATERIAL_IDS.add(materialModel.getId());
+            }
         });
         Analytics.addPerformanceAnalytic("Validation: Material", s);
     }
@@ -123,13 +136,15 @@ public class DefaultLoader {
     private static void registerCompat(@NotNull Map<Path, JsonObject> definitions, EmendatusDataRegistry registry) {
         Stopwatch s = Stopwatch.createStarted();
         definitions.forEach((path, object) -> {
-            if (!CompatModel.VALIDATION_MANAGER.validate(object, path)) return;
+            try (var span = StartupTracer.span("Validation: Compat", path.getFileName().toString())) {
+                if (!CompatModel.VALIDATION_MANAGER.validate(object, path)) return;
 
-            Optional<Pair<CompatModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(CompatModel.CODEC).apply(object).result();
-            if (result.isEmpty()) return;
+                Optional<Pair<CompatModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(CompatModel.CODEC).apply(object).result();
+                if (result.isEmpty()) return;
 
-            CompatModel compatModel = result.get().getFirst();
-            registry.registerCompat(compatModel);
+                CompatModel compatModel = result.get().getFirst();
+                registry.registerCompat(compatModel);
+            }
         });
         Analytics.addPerformanceAnalytic("Validation: Compat", s);
     }
@@ -144,10 +159,12 @@ public class DefaultLoader {
         }
 
         definitions.forEach((path, object) -> {
-            if (!DepositValidationManager.VALIDATION_MANAGER.validate(object, path)) return;
+            try (var span = StartupTracer.span("Validation: Deposits", path.getFileName().toString())) {
+                if (!DepositValidationManager.VALIDATION_MANAGER.validate(object, path)) return;
 
-            ACTIVE_PROCESSORS.add(DEPOSIT_PROCESSORS.get(object.get("type").getAsString()).apply(object));
-            DEPOSIT_IDS.add(object.get("registryName").getAsString());
+                ACTIVE_PROCESSORS.add(DEPOSIT_PROCESSORS.get(object.get("type").getAsString()).apply(object));
+                DEPOSIT_IDS.add(InternHelper.intern(object.get("registryName").getAsString()));
+            }
         });
 
         ACTIVE_PROCESSORS.forEach(IDepositProcessor::load);
@@ -161,5 +178,6 @@ public class DefaultLoader {
         DEPOSIT_PROCESSORS.put(DepositType.GEODE.getType(), GeodeDepositProcessor::new);
         DEPOSIT_PROCESSORS.put(DepositType.DIKE.getType(), DikeDepositProcessor::new);
         DEPOSIT_PROCESSORS.put(DepositType.DENSE.getType(), DenseDepositProcessor::new);
+        DEPOSIT_PROCESSORS.put(DepositType.VEIN.getType(), VeinDepositProcessor::new);
     }
 }
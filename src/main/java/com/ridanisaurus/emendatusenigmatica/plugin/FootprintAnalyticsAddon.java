@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.plugin;
+
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.compat.CompatRecipesModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.AnalyticsAddon;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.AnalyticsWriteContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analytics addon, used to report the heap footprint of the loaded registry.<br>
+ * Lists the amount of models retained for the whole session, and the strings and resource locations shared between them.
+ * @see InternHelper
+ */
+public class FootprintAnalyticsAddon implements AnalyticsAddon {
+    private final EmendatusDataRegistry registry;
+
+    public FootprintAnalyticsAddon(EmendatusDataRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Method executed by the {@link com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics} with write context provided.
+     *
+     * @param cx Write Context for the file.
+     */
+    @Override
+    public void accept(AnalyticsWriteContext cx) {
+        Map<String, String> rows = new LinkedHashMap<>();
+        rows.put("Materials", String.valueOf(registry.getMaterials().size()));
+        rows.put("Strata", String.valueOf(registry.getStrata().size()));
+        rows.put("Compat files", String.valueOf(registry.getCompat().size()));
+        rows.put("Compat values", String.valueOf(registry.getCompat().stream()
+            .map(CompatModel::getRecipes)
+            .flatMap(recipes -> recipes.stream().map(CompatRecipesModel::getValues))
+            .mapToInt(List::size)
+            .sum()));
+        rows.put("Deposits", String.valueOf(DefaultLoader.ACTIVE_PROCESSORS.size()));
+        rows.putAll(InternHelper.getReport());
+
+        cx.writeHeader("Registry Footprint", 3);
+        StringBuilder table = new StringBuilder();
+        table.append("<table>");
+        rows.forEach((category, value) -> table
+            .append("<tr><td>")
+            .append(category)
+            .append("</td><td>")
+            .append(value)
+            .append("</td></tr>"));
+        table.append("</table>\n");
+        cx.write(table.toString());
+        cx.writeComment("""
+        Sizes are estimates, assuming compact strings and compressed object pointers.
+        Duplicates released are the repeated ids, paths and names, which are shared between models instead of being copied.
+        """);
+    }
+}
@@ -31,7 +31,8 @@ public enum DepositType {
     SPHERE  ("emendatusenigmatica:sphere_deposit"),
     GEODE   ("emendatusenigmatica:geode_deposit"),
     DIKE    ("emendatusenigmatica:dike_deposit"),
-    DENSE   ("emendatusenigmatica:dense_deposit");
+    DENSE   ("emendatusenigmatica:dense_deposit"),
+    VEIN    ("emendatusenigmatica:vein_deposit");
 
     private final String type;
 
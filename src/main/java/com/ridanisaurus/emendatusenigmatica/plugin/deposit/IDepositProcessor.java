@@ -30,6 +30,11 @@ import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDe
 import java.util.List;
 
 public interface IDepositProcessor {
+	/**
+	 * Used to decode the deposit model from the JSON tree passed to the processor.
+	 * @implSpec Processors are kept for the whole session, while the tree is only needed to decode the model,
+	 * so implementations should drop their reference to it once loaded.
+	 */
 	void load();
 	String getType();
 	CommonDepositModelBase getCommonModel();
@@ -27,11 +27,11 @@ package com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,7 +39,7 @@ import java.util.Optional;
 
 public class GeodeDepositProcessor implements IDepositProcessor {
 
-	private final JsonObject object;
+	private JsonObject object;
 	private GeodeDepositModel model;
 
 	public GeodeDepositProcessor(JsonObject object) {
@@ -49,7 +49,8 @@ public class GeodeDepositProcessor implements IDepositProcessor {
 
 	@Override
 	public void load() {
-		Optional<Pair<GeodeDepositModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(GeodeDepositModel.CODEC).apply(object).result();
+		Optional<Pair<GeodeDepositModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(GeodeDepositModel.CODEC).apply(object).result();
+		object = null;
 		if (result.isEmpty()) return;
 		model = result.get().getFirst();
 	}
@@ -27,18 +27,18 @@ package com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sphere.SphereDepositModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 
 import java.util.List;
 import java.util.Optional;
 
 public class SphereDepositProcessor implements IDepositProcessor {
 
-	private final JsonObject object;
+	private JsonObject object;
 	private SphereDepositModel model;
 
 	public SphereDepositProcessor(JsonObject object) {
@@ -47,7 +47,8 @@ public class SphereDepositProcessor implements IDepositProcessor {
 
 	@Override
 	public void load() {
-		Optional<Pair<SphereDepositModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(SphereDepositModel.CODEC).apply(object).result();
+		Optional<Pair<SphereDepositModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(SphereDepositModel.CODEC).apply(object).result();
+		object = null;
 		if (result.isEmpty()) return;
 		model = result.get().getFirst();
 	}
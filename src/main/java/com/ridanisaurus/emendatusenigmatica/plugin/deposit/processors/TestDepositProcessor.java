@@ -27,18 +27,18 @@ package com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.test.TestDepositModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 
 import java.util.List;
 import java.util.Optional;
 
 public class TestDepositProcessor implements IDepositProcessor {
 
-	private final JsonObject object;
+	private JsonObject object;
 	private TestDepositModel model;
 
 	public TestDepositProcessor(JsonObject object) {
@@ -47,7 +47,8 @@ public class TestDepositProcessor implements IDepositProcessor {
 
 	@Override
 	public void load() {
-		Optional<Pair<TestDepositModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(TestDepositModel.CODEC).apply(object).result();
+		Optional<Pair<TestDepositModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(TestDepositModel.CODEC).apply(object).result();
+		object = null;
 		if (result.isEmpty()) return;
 		model = result.get().getFirst();
 	}
@@ -27,18 +27,18 @@ package com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vanilla.VanillaDepositModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 
 import java.util.List;
 import java.util.Optional;
 
 public class VanillaDepositProcessor implements IDepositProcessor {
 
-    private final JsonObject object;
+    private JsonObject object;
     private VanillaDepositModel model;
 
     public VanillaDepositProcessor(JsonObject object) {
@@ -47,7 +47,8 @@ public class VanillaDepositProcessor implements IDepositProcessor {
 
     @Override
     public void load() {
-        Optional<Pair<VanillaDepositModel, JsonElement>> result = JsonOps.INSTANCE.withDecoder(VanillaDepositModel.CODEC).apply(object).result();
+        Optional<Pair<VanillaDepositModel, JsonElement>> result = InternHelper.JSON_OPS.withDecoder(VanillaDepositModel.CODEC).apply(object).result();
+        object = null;
         if (result.isEmpty()) return;
         model = result.get().getFirst();
     }
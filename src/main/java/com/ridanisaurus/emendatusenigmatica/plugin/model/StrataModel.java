@@ -34,6 +34,7 @@ import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registr
 import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registry.TextureRegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.EERegistryValidator;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.List;
@@ -52,9 +53,9 @@ public class StrataModel {
 			Codec.BOOL.optionalFieldOf("sampleStrata").forGetter(i -> Optional.of(i.sampleStrata))
 	).apply(x, (s, s2, s3, s4, s5, s6, f, f2, b) -> new StrataModel(
 			s,
-			ResourceLocation.parse(s2),
+			InternHelper.location(s2),
 			s3,
-			ResourceLocation.parse(s4),
+			InternHelper.location(s4),
 			s5,
 			s6.orElse("pickaxe"),
 			f.orElse(3f),
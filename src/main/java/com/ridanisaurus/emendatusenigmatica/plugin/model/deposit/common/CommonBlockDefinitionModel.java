@@ -35,6 +35,7 @@ import com.ridanisaurus.emendatusenigmatica.plugin.deposit.DepositType;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.FieldSetValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.MaxValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.deposit.MaterialValidator;
+import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
@@ -64,12 +65,15 @@ public class CommonBlockDefinitionModel {
 			new MaxValidator(Types.INTEGER, -64, 320, false), true)
 		);
 
+	private static final int UNRESOLVED = -2;
+
 	private final String material;
 	protected final String block;
 	protected final String tag;
 	protected final int weight;
 	protected final int min;
 	protected final int max;
+	private int materialOrdinal = UNRESOLVED;
 
 	public CommonBlockDefinitionModel(@Nullable String block, @Nullable String tag, @Nullable String material, int weight, int min, int max) {
 		this.block = block;
@@ -92,6 +96,17 @@ public class CommonBlockDefinitionModel {
 		return material;
 	}
 
+	/**
+	 * Used to get the ordinal of the material in the {@link EERegistrar#oreBlockTable}, resolved on the first call.
+	 * @return Ordinal of the material, or -1 if no ore of the material is registered.
+	 * @apiNote Must be called after the registration of blocks.
+	 * @see EERegistrar#getOreState(int, int)
+	 */
+	public int getMaterialOrdinal() {
+		if (materialOrdinal == UNRESOLVED) materialOrdinal = material == null ? -1 : EERegistrar.oreBlockTable.getMaterialOrdinal(material);
+		return materialOrdinal;
+	}
+
 	public int getWeight() {
 		return weight;
 	}
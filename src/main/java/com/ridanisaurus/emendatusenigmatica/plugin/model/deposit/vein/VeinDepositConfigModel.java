@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vein;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.ValidationManager;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.enums.FilterMode;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.enums.Types;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.NumberRangeValidator;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.RequiredValidator;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.ResourceLocationValidator;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.ValuesValidator;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registry.BlockRegistryValidator;
+import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
+import com.ridanisaurus.emendatusenigmatica.plugin.validators.EERegistryValidator;
+import com.ridanisaurus.emendatusenigmatica.plugin.validators.FieldPresentValidator;
+import com.ridanisaurus.emendatusenigmatica.plugin.validators.MaxValidator;
+import com.ridanisaurus.emendatusenigmatica.plugin.validators.deposit.MaterialValidator;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+public class VeinDepositConfigModel {
+	public static final Codec<VeinDepositConfigModel> CODEC = RecordCodecBuilder.create(x -> x.group(
+			Codec.STRING.optionalFieldOf("block").forGetter(it -> Optional.ofNullable(it.block)),
+			Codec.STRING.optionalFieldOf("material").forGetter(it -> Optional.ofNullable(it.material)),
+			Codec.STRING.fieldOf("strata").orElse("minecraft_stone").forGetter(it -> it.strata),
+			Codec.STRING.optionalFieldOf("rawBlock").forGetter(it -> Optional.ofNullable(it.rawBlock)),
+			Codec.STRING.fieldOf("fillerBlock").forGetter(it -> it.fillerBlock),
+			Codec.FLOAT.fieldOf("rawBlockChance").orElse(0.02F).forGetter(it -> it.rawBlockChance),
+			Codec.INT.fieldOf("minYLevel").orElse(0).forGetter(it -> it.minYLevel),
+			Codec.INT.fieldOf("maxYLevel").orElse(0).forGetter(it -> it.maxYLevel),
+			Codec.STRING.fieldOf("veinToggle").orElse("positive").forGetter(it -> it.veinToggle)
+	).apply(x, (s, s2, s3, s4, s5, f, i, i2, s6) -> new VeinDepositConfigModel(s.orElse(null), s2.orElse(null), s3, s4.orElse(null), s5, f, i, i2, s6)));
+
+	public static final ValidationManager VALIDATION_MANAGER = ValidationManager.create()
+		.addValidator("material",        new MaterialValidator(false, true, "root.config.strata"))
+		.addValidator("block",           new RequiredValidator(false))
+		.addValidator("strata",          new FieldPresentValidator("material", new EERegistryValidator(DefaultLoader.STRATA_IDS, EERegistryValidator.REFERENCE, "Strata", false)))
+		.addValidator("rawBlock",        new ResourceLocationValidator(false, new BlockRegistryValidator()))
+		.addValidator("fillerBlock",     new ResourceLocationValidator(true, new BlockRegistryValidator()))
+		.addValidator("rawBlockChance",  new NumberRangeValidator(Types.FLOAT, 0, 1, false))
+		.addValidator("minYLevel",       new NumberRangeValidator(Types.INTEGER, -64, 320, true))
+		.addValidator("maxYLevel",       new MaxValidator(Types.INTEGER, "minYLevel", -64, 320, true))
+		.addValidator("veinToggle",      new ValuesValidator(List.of("positive", "negative"), FilterMode.WHITELIST, false));
+
+	public final String block;
+	public final String material;
+	public final String strata;
+	public final String rawBlock;
+	public final String fillerBlock;
+	public final float rawBlockChance;
+	public final int minYLevel;
+	public final int maxYLevel;
+	public final String veinToggle;
+
+	public VeinDepositConfigModel(@Nullable String block, @Nullable String material, String strata, @Nullable String rawBlock, String fillerBlock, float rawBlockChance, int minYLevel, int maxYLevel, String veinToggle) {
+		this.block = block;
+		this.material = material;
+		this.strata = strata;
+		this.rawBlock = rawBlock;
+		this.fillerBlock = fillerBlock;
+		this.rawBlockChance = rawBlockChance;
+		this.minYLevel = minYLevel;
+		this.maxYLevel = maxYLevel;
+		this.veinToggle = veinToggle;
+	}
+}
@@ -30,15 +30,20 @@ import com.ridanisaurus.emendatusenigmatica.loader.validation.ValidationManager;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.enums.ArrayPolicy;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.enums.FilterMode;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.enums.Types;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.ResourceLocationValidator;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.TypeValidator;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.ValuesValidator;
+import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registry.BlockRegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.EERegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.material.*;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ItemLike;
+import net.minecraft.world.level.block.state.BlockState;
 import java.util.*;
 
 public class MaterialModel {
@@ -47,6 +52,7 @@ public class MaterialModel {
 			Codec.STRING.fieldOf("source").forGetter(i -> i.source),
 			Codec.STRING.fieldOf("localizedName").forGetter(i -> i.localizedName),
 			Codec.BOOL.optionalFieldOf("disableDefaultOre").forGetter(i -> Optional.of(i.disableDefaultOre)),
+			Codec.STRING.optionalFieldOf("defaultOreReplacement").forGetter(i -> Optional.ofNullable(i.defaultOreReplacement).map(ResourceLocation::toString)),
 			Codec.list(Codec.STRING).fieldOf("processedTypes").forGetter(i -> i.processedTypes),
 			Codec.list(Codec.STRING).optionalFieldOf("strata").forGetter(i -> Optional.of(i.strata)),
 			MaterialPropertiesModel.CODEC.optionalFieldOf("properties").forGetter(i -> Optional.of(i.properties)),
@@ -56,11 +62,12 @@ public class MaterialModel {
 			MaterialColorsModel.CODEC.optionalFieldOf("colors").forGetter(i -> Optional.of(i.colors)),
 			MaterialToolsModel.CODEC.optionalFieldOf("tools").forGetter(i -> Optional.of(i.tools)),
 			MaterialArmorModel.CODEC.optionalFieldOf("armor").forGetter(i -> Optional.of(i.armor))
-	).apply(x, (id, source, localizedName, disableDefaultOre, processedTypes, strata, properties, gas, oreDrop, compat, colors, tools, armor) -> new MaterialModel(
+	).apply(x, (id, source, localizedName, disableDefaultOre, defaultOreReplacement, processedTypes, strata, properties, gas, oreDrop, compat, colors, tools, armor) -> new MaterialModel(
 			id,
 			source,
 			localizedName,
 			disableDefaultOre.orElse(false),
+			defaultOreReplacement.map(InternHelper::location).orElse(null),
 			processedTypes,
 			strata.orElse(List.of()),
 			properties.orElse(new MaterialPropertiesModel()),
@@ -76,7 +83,10 @@ public class MaterialModel {
 	private final String source;
 	private final String localizedName;
 	private final boolean disableDefaultOre;
+	private final ResourceLocation defaultOreReplacement;
 	private final List<String> processedTypes;
+	private final EnumSet<ProcessedType> coreProcessedTypes = EnumSet.noneOf(ProcessedType.class);
+	private final Set<String> addonProcessedTypes = new HashSet<>();
 	private final List<String> strata;
 	private final MaterialPropertiesModel properties;
 	private final MaterialGasPropertiesModel gas;
@@ -91,6 +101,7 @@ public class MaterialModel {
 		.addValidator("id",					new EERegistryValidator(DefaultLoader.MATERIAL_IDS, EERegistryValidator.REGISTRATION, true))
 		.addValidator("source",				new ValuesValidator(List.of("vanilla", "modded"), FilterMode.WHITELIST, true))
 		.addValidator("disableDefaultOre",	new TypeValidator(Types.BOOLEAN, false))
+		.addValidator("defaultOreReplacement", new ResourceLocationValidator(false, new BlockRegistryValidator()))
 		.addValidator("localizedName",		new TypeValidator(Types.STRING, true))
 		.addValidator("processedTypes",		new ProcessedTypesValidator(), ArrayPolicy.REQUIRES_ARRAY)
 		.addValidator("tools",				new ToolsFieldValidator())
@@ -101,13 +112,19 @@ public class MaterialModel {
 		.addValidator("colors",				MaterialColorsModel.VALIDATION_MANAGER.getAsValidator(false))
 		.addValidator("compat",				MaterialCompatModel.VALIDATION_MANAGER.getAsValidator(false));
 
-	public MaterialModel(String id, String source, String localizedName, boolean disableDefaultOre, List<String> processedTypes, List<String> strata,
+	public MaterialModel(String id, String source, String localizedName, boolean disableDefaultOre, ResourceLocation defaultOreReplacement, List<String> processedTypes, List<String> strata,
 	                     MaterialPropertiesModel properties, MaterialGasPropertiesModel gas, MaterialOreDropModel oreDrop, MaterialCompatModel compat, MaterialColorsModel colors, MaterialToolsModel tools, MaterialArmorModel armor) {
 		this.id = id;
 		this.source = source;
 		this.localizedName = localizedName;
 		this.disableDefaultOre = disableDefaultOre;
-		this.processedTypes = processedTypes;
+		this.defaultOreReplacement = defaultOreReplacement;
+		this.processedTypes = Collections.unmodifiableList(processedTypes);
+		for (String type : processedTypes) {
+			ProcessedType coreType = ProcessedType.byId(type);
+			if (Objects.isNull(coreType)) addonProcessedTypes.add(type);
+			else coreProcessedTypes.add(coreType);
+		}
 		this.strata = strata;
 		this.properties = properties;
 		this.gas = gas;
@@ -142,10 +159,44 @@ public class MaterialModel {
 		return disableDefaultOre;
 	}
 
+	/**
+	 * Used to get the block that replaces the ore in the vanilla ore veins when the default ore is disabled.
+	 * @param fallback BlockState used when the material doesn't define a custom replacement.
+	 * @return BlockState of the replacement block.
+	 */
+	public BlockState getDefaultOreReplacement(BlockState fallback) {
+		if (Objects.isNull(defaultOreReplacement)) return fallback;
+		return BuiltInRegistries.BLOCK.get(defaultOreReplacement).defaultBlockState();
+	}
+
+	/**
+	 * Used to get the Processed Types of the material, as specified in the material file.
+	 * @return Unmodifiable List of Processed Type IDs.
+	 * @apiNote Prefer {@link #has(ProcessedType)} for checking if the material has a Processed Type.
+	 */
 	public List<String> getProcessedTypes() {
 		return processedTypes;
 	}
 
+	/**
+	 * Used to check if the material has the specified core Processed Type.
+	 * @param type Processed Type to check.
+	 * @return True if the material has the Processed Type, false otherwise.
+	 */
+	public boolean has(ProcessedType type) {
+		return coreProcessedTypes.contains(type);
+	}
+
+	/**
+	 * Used to check if the material has the specified Processed Type, including the ones defined by the addons.
+	 * @param type ID of the Processed Type to check.
+	 * @return True if the material has the Processed Type, false otherwise.
+	 */
+	public boolean has(String type) {
+		ProcessedType coreType = ProcessedType.byId(type);
+		return Objects.isNull(coreType) ? addonProcessedTypes.contains(type) : coreProcessedTypes.contains(coreType);
+	}
+
 	public List<String> getStrata() {
 		return strata;
 	}
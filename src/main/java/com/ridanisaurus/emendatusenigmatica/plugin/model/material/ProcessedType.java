@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.plugin.model.material;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Processed Types handled by the core of the mod.
+ * @apiNote Processed Types defined by the addons are not listed here, and are checked by their ID instead.
+ * @see MaterialModel#has(ProcessedType)
+ * @see MaterialModel#has(String)
+ */
+public enum ProcessedType {
+	STORAGE_BLOCK	("storage_block"),
+	INGOT			("ingot"),
+	GEM				("gem"),
+	ORE				("ore"),
+	RAW				("raw"),
+	NUGGET			("nugget"),
+	DUST			("dust"),
+	PLATE			("plate"),
+	GEAR			("gear"),
+	ROD				("rod"),
+	FLUID			("fluid"),
+	CLUSTER			("cluster"),
+	SWORD			("sword"),
+	PICKAXE			("pickaxe"),
+	AXE				("axe"),
+	SHOVEL			("shovel"),
+	HOE				("hoe"),
+	PAXEL			("paxel"),
+	SHIELD			("shield"),
+	ARMOR			("armor");
+
+	private static final Map<String, ProcessedType> BY_ID = new HashMap<>();
+	private final String id;
+
+	static {
+		for (ProcessedType type : values()) BY_ID.put(type.id, type);
+	}
+
+	ProcessedType(String id) {
+		this.id = id;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Used to get the core Processed Type of the specified ID.
+	 * @param id ID of the Processed Type, as used in the material files.
+	 * @return ProcessedType, or null if the type is not handled by the core (eg. defined by an addon).
+	 */
+	public static @Nullable ProcessedType byId(String id) {
+		return BY_ID.get(id);
+	}
+}
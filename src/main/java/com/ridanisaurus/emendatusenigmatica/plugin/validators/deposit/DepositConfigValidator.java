@@ -34,6 +34,8 @@ import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dike.DikeDeposi
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositConfigModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sphere.SphereDepositConfigModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vanilla.VanillaDepositConfigModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vein.VeinDepositConfigModel;
+import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -45,7 +47,8 @@ public class DepositConfigValidator extends AbstractValidator {
         DepositType.SPHERE.getType(), SphereDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false),
         DepositType.DENSE.getType(), DenseDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false),
         DepositType.GEODE.getType(), GeodeDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false),
-        DepositType.DIKE.getType(), DikeDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false)
+        DepositType.DIKE.getType(), DikeDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false),
+        DepositType.VEIN.getType(), VeinDepositConfigModel.VALIDATION_MANAGER.getAsValidator(false)
     ));
 
     /**
@@ -71,6 +74,24 @@ public class DepositConfigValidator extends AbstractValidator {
         if (typeElement == null) return false;
         var validator = DEPOSIT_VALIDATORS.get(typeElement.getAsString());
         if (validator == null) return false;
+        if (typeElement.getAsString().equals(DepositType.VEIN.getType()) && !validateVeinBiomes(data)) return false;
         return validator.validate(data);
     }
+
+    /**
+     * Used to reject biomes of the vein deposits, which are filled per noise chunk, before biomes are known.
+     * @param data ValidationData of the config element.
+     * @return True if no biomes are specified, false otherwise.
+     */
+    private static boolean validateVeinBiomes(@NotNull ValidationData data) {
+        JsonElement biomes = data.getParentField("biomes");
+        if (biomes == null || !biomes.isJsonArray() || biomes.getAsJsonArray().isEmpty()) return true;
+        Analytics.error(
+            "Vein deposits can't be limited to biomes!",
+            "Veins are filled together with the terrain noise, before biomes are placed. Remove the field, or leave it empty.",
+            data.getParentFieldPath("biomes"),
+            data.jsonFilePath()
+        );
+        return false;
+    }
 }
@@ -24,6 +24,7 @@
 
 package com.ridanisaurus.emendatusenigmatica.plugin.validators.deposit;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
 import com.ridanisaurus.emendatusenigmatica.loader.validation.ValidationData;
@@ -34,6 +35,7 @@ import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.Require
 import com.ridanisaurus.emendatusenigmatica.loader.validation.validators.registry.BlockRegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.validators.EERegistryValidator;
 import com.ridanisaurus.emendatusenigmatica.util.analytics.Analytics;
 
@@ -53,6 +55,7 @@ public class MaterialValidator implements IValidationFunction {
     private static final IValidationFunction tagValidator = new ResourceLocationValidator(false);
     private final boolean includeTag;
     private final boolean includeBlock;
+    private final String strataPath;
 
     /**
      * Constructs MaterialValidator, with <code>tag</code> and <code>block</code> validation enabled.
@@ -71,8 +74,21 @@ public class MaterialValidator implements IValidationFunction {
      * @see MaterialValidator Documentation of the validator.
      */
     public MaterialValidator(boolean includeTag, boolean includeBlock) {
+        this(includeTag, includeBlock, "root.config.fillerTypes");
+    }
+
+    /**
+     * Constructs MaterialValidator.
+     *
+     * @param includeTag Should <code>tag</code> field be validated of the parent object.
+     * @param includeBlock Should <code>block</code> field be validated of the parent object.
+     * @param strataPath Path to the strata field (a single strata ID, or an array of them) used to check Per-Material strata.
+     * @see MaterialValidator Documentation of the validator.
+     */
+    public MaterialValidator(boolean includeTag, boolean includeBlock, String strataPath) {
         this.includeBlock = includeBlock;
         this.includeTag = includeTag;
+        this.strataPath = strataPath;
     }
 
     /**
@@ -134,7 +150,7 @@ public class MaterialValidator implements IValidationFunction {
             if (materialValidator.apply(data)) {
                 String id = data.validationElement().getAsString();
                 MaterialModel model = Objects.requireNonNull(EmendatusEnigmatica.getInstance().getDataRegistry().getMaterial(id));
-                if (!model.getProcessedTypes().contains("ore")) {
+                if (!model.has(ProcessedType.ORE)) {
                     Analytics.error(
                         "This material can't be used for ore generation!",
                         "Material <code>%s</code> is missing an <code>ore</code> processed type, which is required for use in the deposits.".formatted(id),
@@ -146,8 +162,14 @@ public class MaterialValidator implements IValidationFunction {
                 // all strata are valid, no need to check if combos are valid.
                 if (model.getStrata().isEmpty()) return true;
 
-                var fillerTypes = ValidationHelper.getElementFromPath(data.rootObject(), "root.config.fillerTypes");
-                if (fillerTypes == null || !fillerTypes.isJsonArray()) return false;
+                var fillerTypes = ValidationHelper.getElementFromPath(data.rootObject(), strataPath);
+                if (fillerTypes == null) return false;
+                if (fillerTypes.isJsonPrimitive()) {
+                    JsonArray single = new JsonArray();
+                    single.add(fillerTypes);
+                    fillerTypes = single;
+                }
+                if (!fillerTypes.isJsonArray()) return false;
 
                 List<String> missingStratas = new ArrayList<>();
                 for (JsonElement entry : fillerTypes.getAsJsonArray()) {
@@ -160,8 +182,8 @@ public class MaterialValidator implements IValidationFunction {
                     "Missing Per-Material strata!",
                     """
                     Material <code>%s</code> is missing strata for ids: <code>%s</code>, which makes it illegal for this deposit.<br>
-                    Consider adding specified IDs to the <code>%s</code> material, or removing them from <code>root.config.fillerTypes</code> array.
-                    """.formatted(id, String.join(", ", missingStratas), id),
+                    Consider adding specified IDs to the <code>%s</code> material, or removing them from <code>%s</code>.
+                    """.formatted(id, String.join(", ", missingStratas), id, strataPath),
                     data
                 );
                 return false;
@@ -24,11 +24,7 @@
 
 package com.ridanisaurus.emendatusenigmatica.registries;
 
-import com.google.common.base.Suppliers;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.ImmutableBiMap;
-import com.google.common.collect.Table;
+import com.mojang.serialization.Codec;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
 import com.ridanisaurus.emendatusenigmatica.blocks.*;
 import com.ridanisaurus.emendatusenigmatica.blocks.templates.*;
@@ -36,10 +32,13 @@ import com.ridanisaurus.emendatusenigmatica.fluids.BasicFluidType;
 import com.ridanisaurus.emendatusenigmatica.items.*;
 import com.ridanisaurus.emendatusenigmatica.items.templates.*;
 import com.ridanisaurus.emendatusenigmatica.registries.data.EEBlockMap;
+import com.ridanisaurus.emendatusenigmatica.registries.data.EEColorIndex;
 import com.ridanisaurus.emendatusenigmatica.registries.data.EEDeferredHolderMap;
 import com.ridanisaurus.emendatusenigmatica.registries.data.EEItemMap;
+import com.ridanisaurus.emendatusenigmatica.registries.data.EEOreTable;
 import com.ridanisaurus.emendatusenigmatica.util.Reference;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.ProcessedType;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.*;
 import net.minecraft.core.registries.Registries;
@@ -52,20 +51,26 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.material.FlowingFluid;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.common.SoundAction;
 import net.neoforged.neoforge.event.BuildCreativeModeTabContentsEvent;
 import net.neoforged.neoforge.fluids.BaseFlowingFluid;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.registries.*;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -80,6 +85,7 @@ public class EERegistrar
     public static final DeferredRegister<FluidType> FLUID_TYPES = DeferredRegister.create(NeoForgeRegistries.FLUID_TYPES, Reference.MOD_ID);
     public static final DeferredRegister<ArmorMaterial> ARMOR_MATERIALS = DeferredRegister.create(Registries.ARMOR_MATERIAL, Reference.MOD_ID);
     public static final DeferredRegister<Feature<?>> FEATURES = DeferredRegister.create(Registries.FEATURE, Reference.MOD_ID);
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES = DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, Reference.MOD_ID);
 
     // Existing items.
     public static final DeferredItem<Item> ENIGMATIC_HAMMER = ITEMS.register("enigmatic_hammer", HammerItem::new);
@@ -91,15 +97,22 @@ public class EERegistrar
     public static final DeferredHolder<Feature<?>, DenseOreFeature> DENSE_ORE_FEATURE = FEATURES.register("dense_feature", DenseOreFeature::new);
     public static final DeferredHolder<Feature<?>, GeodeOreFeature> GEODE_ORE_FEATURE = FEATURES.register("geode_feature", GeodeOreFeature::new);
     public static final DeferredHolder<Feature<?>, DikeOreFeature> DIKE_ORE_FEATURE = FEATURES.register("dike_feature", DikeOreFeature::new);
+    public static final DeferredHolder<Feature<?>, CompositeOreFeature> COMPOSITE_ORE_FEATURE = FEATURES.register("composite_feature", CompositeOreFeature::new);
+
+    // Attachments
+    /**
+     * Version of the deposit set the chunk was generated (or retrogenerated) with.
+     * @see com.ridanisaurus.emendatusenigmatica.world.gen.retrogen.EERetrogen
+     */
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<Integer>> DEPOSIT_VERSION = ATTACHMENT_TYPES.register("deposit_version", () -> AttachmentType.builder(() -> 0).serialize(Codec.INT).build());
 
     // Ore Blocks
-    // QoL changes for tables are not possible without AT or custom table impl - Thanks google!
-    public static Table<String, String, DeferredBlock<Block>> oreBlockTable = HashBasedTable.create();
-    public static Table<String, String, DeferredItem<Item>> oreBlockItemTable = HashBasedTable.create();
+    public static EEOreTable<DeferredBlock<Block>> oreBlockTable = new EEOreTable<>();
+    public static EEOreTable<DeferredItem<Item>> oreBlockItemTable = new EEOreTable<>();
 
     // Ore Sample Blocks
-    public static Table<String, String, DeferredBlock<Block>> oreSampleBlockTable = HashBasedTable.create();
-    public static Table<String, String, DeferredItem<Item>> oreSampleBlockItemTable = HashBasedTable.create();
+    public static EEOreTable<DeferredBlock<Block>> oreSampleBlockTable = new EEOreTable<>();
+    public static EEOreTable<DeferredItem<Item>> oreSampleBlockItemTable = new EEOreTable<>();
 
     // Storage Blocks
     public static EEBlockMap<Block> storageBlockMap = new EEBlockMap<>();
@@ -174,6 +187,9 @@ public class EERegistrar
     public static EEDeferredHolderMap<FluidType, BasicFluidType> fluidTypeMap = new EEDeferredHolderMap<>();
     public static EEItemMap<BucketItem> fluidBucketMap = new EEItemMap<>();
 
+    // Color Handlers
+    public static final EEColorIndex COLOR_INDEX = new EEColorIndex();
+
     public static final ResourceLocation FLUID_STILL_RL = ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/fluid_still");
     public static final ResourceLocation FLUID_FLOWING_RL = ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/fluid_flow");
     public static final ResourceLocation FLUID_OVERLAY_RL = ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "block/fluid_overlay");
@@ -186,6 +202,36 @@ public class EERegistrar
         FLUIDS.register(eventBus);
         ARMOR_MATERIALS.register(eventBus);
         FEATURES.register(eventBus);
+        ATTACHMENT_TYPES.register(eventBus);
+        eventBus.addListener(EventPriority.LOWEST, EERegistrar::linkWeatheringBlocks);
+    }
+
+    private static void linkWeatheringBlocks(RegisterEvent event) {
+        if (!event.getRegistryKey().equals(Registries.BLOCK)) return;
+        // Weathering chains are flattened into the blocks once, so ticks and interactions don't have to look them up.
+        for (String material : exposedBlockMap.keySet()) {
+            Block[] chain = {
+                storageBlockMap.getValue(material),
+                exposedBlockMap.getValue(material),
+                weatheredBlockMap.getValue(material),
+                oxidizedBlockMap.getValue(material)
+            };
+            Block[] waxed = {
+                waxedStorageBlockMap.getValue(material),
+                waxedExposedBlockMap.getValue(material),
+                waxedWeatheredBlockMap.getValue(material),
+                waxedOxidizedBlockMap.getValue(material)
+            };
+            for (int i = 0; i < chain.length; i++) {
+                ((BasicWeatheringBlock) chain[i]).linkWeatheringChain(
+                    i > 0 ? chain[i - 1] : null,
+                    i < chain.length - 1 ? chain[i + 1] : null,
+                    chain[0],
+                    waxed[i]
+                );
+                ((BasicWaxedBlock) waxed[i]).linkUnwaxed(chain[i]);
+            }
+        }
     }
 
     public static void registerToCreativeTabs(BuildCreativeModeTabContentsEvent event) {
@@ -203,7 +249,14 @@ public class EERegistrar
             shieldMap       .values().forEach(event::accept);
         }
         if (event.getTab() == EmendatusEnigmatica.RESOURCES_TAB.get()) {
-            oreBlockItemTable           .values().forEach(event::accept);
+            oreBlockItemTable           .values().forEach(item -> {
+                // Strata variant ores have a single item, with the strata stored in the block state component.
+                if (item.get() instanceof BlockItem blockItem && blockItem.getBlock() instanceof StrataOreBlock ore) {
+                    ore.getStrata().forEach(strata -> event.accept(ore.getItemStack(strata)));
+                } else {
+                    event.accept(item);
+                }
+            });
             oreSampleBlockItemTable     .values().forEach(event::accept);
             storageBlockItemMap         .values().forEach(event::accept);
             exposedBlockItemMap         .values().forEach(event::accept);
@@ -239,19 +292,70 @@ public class EERegistrar
         DeferredBlock<Block> oreBlock;
         if (material.getProperties().getMaterialType().equals("gem")) {
             if(material.getProperties().hasParticles()) {
-                oreBlock = BLOCKS.register(oreName, () -> new GemOreBlockWithParticles(strata, material));
+                oreBlock = registerColoredBlock(oreName, () -> new GemOreBlockWithParticles(strata, material));
             } else {
-                oreBlock = BLOCKS.register(oreName, () -> new GemOreBlock(strata, material));
+                oreBlock = registerColoredBlock(oreName, () -> new GemOreBlock(strata, material));
             }
         } else {
             if (material.getProperties().hasParticles()) {
-                oreBlock = BLOCKS.register(oreName, () -> new MetalOreBlockWithParticles(strata, material));
+                oreBlock = registerColoredBlock(oreName, () -> new MetalOreBlockWithParticles(strata, material));
             } else {
-                oreBlock = BLOCKS.register(oreName, () -> new MetalOreBlock(strata, material));
+                oreBlock = registerColoredBlock(oreName, () -> new MetalOreBlock(strata, material));
             }
         }
         oreBlockTable.put(strata.getId(), material.getId(), oreBlock);
-        oreBlockItemTable.put(strata.getId(), material.getId(), ITEMS.register(oreName, () -> new BlockItem(oreBlock.get(), new Item.Properties())));
+        oreBlockItemTable.put(strata.getId(), material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, oreName, () -> new BlockItem(oreBlock.get(), new Item.Properties())));
+    }
+
+    /**
+     * Used to register ores of the material, sharing a single block for multiple strata.<br>
+     * Strata are grouped by their harvest tool, as tools are assigned to the whole block through tags.
+     * Groups with a single strata are registered the same way as {@link #registerOre(StrataModel, MaterialModel)} does.
+     * @param strata List of strata of the material.
+     * @param material Material of the ores.
+     * @see StrataOreBlock
+     */
+    public static void registerStrataOres(List<StrataModel> strata, MaterialModel material) {
+        Map<String, List<StrataModel>> byTool = new LinkedHashMap<>();
+        strata.forEach(stratum -> byTool.computeIfAbsent(stratum.getHarvestTool(), s -> new ArrayList<>()).add(stratum));
+        byTool.forEach((tool, group) -> {
+            if (group.size() == 1) {
+                registerOre(group.getFirst(), material);
+                return;
+            }
+            String oreName = material.getId() + (tool.equals("pickaxe") ? "" : "_" + tool) + "_ore";
+            DeferredBlock<Block> oreBlock = registerColoredBlock(oreName, () -> new StrataOreBlock(group, material));
+            DeferredItem<Item> oreItem = registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, oreName, () -> new BlockItem(oreBlock.get(), new Item.Properties()));
+            for (StrataModel stratum : group) {
+                oreBlockTable.put(stratum.getId(), material.getId(), oreBlock);
+                oreBlockItemTable.put(stratum.getId(), material.getId(), oreItem);
+            }
+        });
+    }
+
+    /**
+     * Used to get the ore state of the specified strata and material.
+     * @param strata Strata ID.
+     * @param material Material ID.
+     * @return BlockState of the ore, or null if the ore of the strata and material wasn't registered.
+     * @apiNote Prefer this over the {@link #oreBlockTable}, as strata variant ores share the block, and only differ by the state.
+     * For repeated lookups, resolve the ordinals once and use {@link #getOreState(int, int)} instead.
+     */
+    public static @Nullable BlockState getOreState(String strata, String material) {
+        return getOreState(oreBlockTable.getStrataOrdinal(strata), oreBlockTable.getMaterialOrdinal(material));
+    }
+
+    /**
+     * Used to get the ore state of the specified strata and material ordinals of the {@link #oreBlockTable}.
+     * @param strata Ordinal of the strata.
+     * @param material Ordinal of the material.
+     * @return BlockState of the ore, or null if the ore of the strata and material wasn't registered.
+     */
+    public static @Nullable BlockState getOreState(int strata, int material) {
+        DeferredBlock<Block> ore = oreBlockTable.get(strata, material);
+        if (ore == null) return null;
+        if (ore.get() instanceof StrataOreBlock variant) return variant.getState(oreBlockTable.getStrata(strata));
+        return ore.get().defaultBlockState();
     }
 
     @Deprecated
@@ -260,39 +364,23 @@ public class EERegistrar
         String oreSampleName = material.getId() + "_" + strata.getSuffix() + "_ore_sample";
         DeferredBlock<Block> oreSampleBlock;
         if (material.getProperties().getMaterialType().equals("sample") && material.getProperties().hasParticles()) {
-            oreSampleBlock = BLOCKS.register(oreSampleName, () -> new SampleOreBlockWithParticles(strata, material));
+            oreSampleBlock = registerColoredBlock(oreSampleName, () -> new SampleOreBlockWithParticles(strata, material));
         } else {
-            oreSampleBlock = BLOCKS.register(oreSampleName, () -> new SampleOreBlock(strata, material));
+            oreSampleBlock = registerColoredBlock(oreSampleName, () -> new SampleOreBlock(strata, material));
         }
         oreSampleBlockTable.put(strata.getId(), material.getId(), oreSampleBlock);
-        oreSampleBlockItemTable.put(strata.getId(), material.getId(), ITEMS.register(oreSampleName, () -> new BlockItem(oreSampleBlock.get(), new Item.Properties())));
+        oreSampleBlockItemTable.put(strata.getId(), material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, oreSampleName, () -> new BlockItem(oreSampleBlock.get(), new Item.Properties())));
     }
 
     public static void registerStorageBlocks(MaterialModel material) {
         if (!material.getProperties().hasOxidization()) {
             String storageBlockName = material.getId() + "_block";
-            DeferredBlock<Block> storageBlock = BLOCKS.register(storageBlockName, () -> new BasicStorageBlock(material));
+            DeferredBlock<Block> storageBlock = registerColoredBlock(storageBlockName, () -> new BasicStorageBlock(material));
             storageBlockMap.put(material.getId(), storageBlock);
-            storageBlockItemMap.put(material.getId(), ITEMS.register(storageBlockName, () -> new BasicStorageBlockItem(storageBlock.get(), getBurnTime(material, it -> it * 10))));
+            storageBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, storageBlockName, () -> new BasicStorageBlockItem(storageBlock.get(), getBurnTime(material, it -> it * 10))));
             return;
         }
 
-        Supplier<BiMap<Block, Block>> oxidizationBlockMap = Suppliers.memoize(
-            () -> ImmutableBiMap.<Block, Block>builder()
-                .put(storageBlockMap.getValue(material), exposedBlockMap.getValue(material))
-                .put(exposedBlockMap.getValue(material), weatheredBlockMap.getValue(material))
-                .put(weatheredBlockMap.getValue(material), oxidizedBlockMap.getValue(material))
-                .build()
-        );
-        Supplier<BiMap<Block, Block>> waxableBlockMap = Suppliers.memoize(
-            () -> ImmutableBiMap.<Block, Block>builder()
-                .put(storageBlockMap.getValue(material), waxedStorageBlockMap.getValue(material))
-                .put(exposedBlockMap.getValue(material), waxedExposedBlockMap.getValue(material))
-                .put(weatheredBlockMap.getValue(material), waxedWeatheredBlockMap.getValue(material))
-                .put(oxidizedBlockMap.getValue(material), waxedOxidizedBlockMap.getValue(material))
-                .build()
-        );
-
         String storageBlockName = material.getId() + "_block";
         String exposedBlockName = "exposed_" + material.getId();
         String weatheredBlockName = "weathered_" + material.getId();
@@ -301,14 +389,14 @@ public class EERegistrar
         String waxedExposedBlockName = "waxed_exposed_" + material.getId();
         String waxedWeatheredBlockName = "waxed_weathered_" + material.getId();
         String waxedOxidizedBlockName = "waxed_oxidized_" + material.getId();
-        DeferredBlock<Block> storageBlock = BLOCKS.register(storageBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.UNAFFECTED, oxidizationBlockMap, waxableBlockMap));
-        DeferredBlock<Block> exposedBlock = BLOCKS.register(exposedBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.EXPOSED, oxidizationBlockMap, waxableBlockMap));
-        DeferredBlock<Block> weatheredBlock = BLOCKS.register(weatheredBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.WEATHERED, oxidizationBlockMap, waxableBlockMap));
-        DeferredBlock<Block> oxidizedBlock = BLOCKS.register(oxidizedBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.OXIDIZED, oxidizationBlockMap, waxableBlockMap));
-        DeferredBlock<Block> waxedStorageBlock = BLOCKS.register(waxedStorageBlockName, () -> new BasicWaxedBlock(material, waxableBlockMap));
-        DeferredBlock<Block> waxedExposedBlock = BLOCKS.register(waxedExposedBlockName, () -> new BasicWaxedBlock(material, waxableBlockMap));
-        DeferredBlock<Block> waxedWeatheredBlock = BLOCKS.register(waxedWeatheredBlockName, () -> new BasicWaxedBlock(material, waxableBlockMap));
-        DeferredBlock<Block> waxedOxidizedBlock = BLOCKS.register(waxedOxidizedBlockName, () -> new BasicWaxedBlock(material, waxableBlockMap));
+        DeferredBlock<Block> storageBlock = registerColoredBlock(storageBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.UNAFFECTED));
+        DeferredBlock<Block> exposedBlock = registerColoredBlock(exposedBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.EXPOSED));
+        DeferredBlock<Block> weatheredBlock = registerColoredBlock(weatheredBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.WEATHERED));
+        DeferredBlock<Block> oxidizedBlock = registerColoredBlock(oxidizedBlockName, () -> new BasicWeatheringBlock(material, BasicWeatheringBlock.WeatherState.OXIDIZED));
+        DeferredBlock<Block> waxedStorageBlock = registerColoredBlock(waxedStorageBlockName, () -> new BasicWaxedBlock(material));
+        DeferredBlock<Block> waxedExposedBlock = registerColoredBlock(waxedExposedBlockName, () -> new BasicWaxedBlock(material));
+        DeferredBlock<Block> waxedWeatheredBlock = registerColoredBlock(waxedWeatheredBlockName, () -> new BasicWaxedBlock(material));
+        DeferredBlock<Block> waxedOxidizedBlock = registerColoredBlock(waxedOxidizedBlockName, () -> new BasicWaxedBlock(material));
         storageBlockMap.put(material.getId(), storageBlock);
         exposedBlockMap.put(material.getId(), exposedBlock);
         weatheredBlockMap.put(material.getId(), weatheredBlock);
@@ -319,26 +407,26 @@ public class EERegistrar
         waxedOxidizedBlockMap.put(material.getId(), waxedOxidizedBlock);
 
         int burnTime = getBurnTime(material, it -> it * 10);
-        storageBlockItemMap         .put(material.getId(), ITEMS.register(storageBlockName,         () -> new BasicStorageBlockItem(storageBlock.get(), burnTime)));
-        exposedBlockItemMap         .put(material.getId(), ITEMS.register(exposedBlockName,         () -> new BasicStorageBlockItem(exposedBlock.get(), burnTime)));
-        weatheredBlockItemMap       .put(material.getId(), ITEMS.register(weatheredBlockName,       () -> new BasicStorageBlockItem(weatheredBlock.get(), burnTime)));
-        oxidizedBlockItemMap        .put(material.getId(), ITEMS.register(oxidizedBlockName,        () -> new BasicStorageBlockItem(oxidizedBlock.get(), burnTime)));
-        waxedStorageBlockItemMap    .put(material.getId(), ITEMS.register(waxedStorageBlockName,    () -> new BasicStorageBlockItem(waxedStorageBlock.get(), burnTime)));
-        waxedExposedBlockItemMap    .put(material.getId(), ITEMS.register(waxedExposedBlockName,    () -> new BasicStorageBlockItem(waxedExposedBlock.get(), burnTime)));
-        waxedWeatheredBlockItemMap  .put(material.getId(), ITEMS.register(waxedWeatheredBlockName,  () -> new BasicStorageBlockItem(waxedWeatheredBlock.get(), burnTime)));
-        waxedOxidizedBlockItemMap   .put(material.getId(), ITEMS.register(waxedOxidizedBlockName,   () -> new BasicStorageBlockItem(waxedOxidizedBlock.get(), burnTime)));
+        storageBlockItemMap         .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, storageBlockName,         () -> new BasicStorageBlockItem(storageBlock.get(), burnTime)));
+        exposedBlockItemMap         .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, exposedBlockName,         () -> new BasicStorageBlockItem(exposedBlock.get(), burnTime)));
+        weatheredBlockItemMap       .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, weatheredBlockName,       () -> new BasicStorageBlockItem(weatheredBlock.get(), burnTime)));
+        oxidizedBlockItemMap        .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, oxidizedBlockName,        () -> new BasicStorageBlockItem(oxidizedBlock.get(), burnTime)));
+        waxedStorageBlockItemMap    .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, waxedStorageBlockName,    () -> new BasicStorageBlockItem(waxedStorageBlock.get(), burnTime)));
+        waxedExposedBlockItemMap    .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, waxedExposedBlockName,    () -> new BasicStorageBlockItem(waxedExposedBlock.get(), burnTime)));
+        waxedWeatheredBlockItemMap  .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, waxedWeatheredBlockName,  () -> new BasicStorageBlockItem(waxedWeatheredBlock.get(), burnTime)));
+        waxedOxidizedBlockItemMap   .put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, waxedOxidizedBlockName,   () -> new BasicStorageBlockItem(waxedOxidizedBlock.get(), burnTime)));
     }
 
     public static void registerRawBlocks(MaterialModel material) {
         String rawBlockName = "raw_" + material.getId() + "_block";
-        DeferredBlock<Block> rawBlock = BLOCKS.register(rawBlockName, () -> new BasicStorageBlock(material));
+        DeferredBlock<Block> rawBlock = registerColoredBlock(rawBlockName, () -> new BasicStorageBlock(material));
         rawBlockMap.put(material.getId(), rawBlock);
-        rawBlockItemMap.put(material.getId(), ITEMS.register(rawBlockName, () -> new BasicStorageBlockItem(rawBlock.get(),getBurnTime(material, it -> it * 10))));
+        rawBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, rawBlockName, () -> new BasicStorageBlockItem(rawBlock.get(),getBurnTime(material, it -> it * 10))));
     }
 
     public static void registerBuddingBlocks(MaterialModel material) {
         String buddingBlockName = "budding_" + material.getId();
-        DeferredBlock<Block> buddingBlock = BLOCKS.register(buddingBlockName, () ->
+        DeferredBlock<Block> buddingBlock = registerColoredBlock(buddingBlockName, () ->
             new BasicBuddingBlock(material,
                 smallBudBlockMap.get(material),
                 mediumBudBlockMap.get(material),
@@ -347,42 +435,42 @@ public class EERegistrar
         ));
 
         buddingBlockMap.put(material.getId(), buddingBlock);
-        buddingBlockItemMap.put(material.getId(), ITEMS.register(buddingBlockName, () -> new BasicStorageBlockItem(buddingBlock.get(), getBurnTime(material, it -> it * 4))));
+        buddingBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, buddingBlockName, () -> new BasicStorageBlockItem(buddingBlock.get(), getBurnTime(material, it -> it * 4))));
     }
 
     public static void registerSmallBudBlocks(MaterialModel material) {
         String smallBudBlockName = "small_" + material.getId() + "_bud";
-        DeferredBlock<Block> smallBudBlock = BLOCKS.register(smallBudBlockName, () -> new BasicClusterBlock(3, 4, 1, material));
+        DeferredBlock<Block> smallBudBlock = registerColoredBlock(smallBudBlockName, () -> new BasicClusterBlock(3, 4, 1, material));
         smallBudBlockMap.put(material.getId(), smallBudBlock);
-        smallBudBlockItemMap.put(material.getId(), ITEMS.register(smallBudBlockName, () -> new BasicStorageBlockItem(smallBudBlock.get(), getBurnTime(material))));
+        smallBudBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, smallBudBlockName, () -> new BasicStorageBlockItem(smallBudBlock.get(), getBurnTime(material))));
     }
 
     public static void registerMediumBudBlocks(MaterialModel material) {
         String mediumBudBlockName = "medium_" + material.getId() + "_bud";
-        DeferredBlock<Block> mediumBudBlock = BLOCKS.register(mediumBudBlockName, () -> new BasicClusterBlock(4, 3, 2, material));
+        DeferredBlock<Block> mediumBudBlock = registerColoredBlock(mediumBudBlockName, () -> new BasicClusterBlock(4, 3, 2, material));
         mediumBudBlockMap.put(material.getId(), mediumBudBlock);
-        mediumBudBlockItemMap.put(material.getId(), ITEMS.register(mediumBudBlockName, () -> new BasicStorageBlockItem(mediumBudBlock.get(), getBurnTime(material))));
+        mediumBudBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, mediumBudBlockName, () -> new BasicStorageBlockItem(mediumBudBlock.get(), getBurnTime(material))));
     }
 
     public static void registerLargeBudBlocks(MaterialModel material) {
         String largeBudBlockName = "large_" + material.getId() + "_bud";
-        DeferredBlock<Block> largeBudBlock = BLOCKS.register(largeBudBlockName, () -> new BasicClusterBlock(5, 3, 4, material));
+        DeferredBlock<Block> largeBudBlock = registerColoredBlock(largeBudBlockName, () -> new BasicClusterBlock(5, 3, 4, material));
         largeBudBlockMap.put(material.getId(), largeBudBlock);
-        largeBudBlockItemMap.put(material.getId(), ITEMS.register(largeBudBlockName, () -> new BasicStorageBlockItem(largeBudBlock.get(), getBurnTime(material))));
+        largeBudBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, largeBudBlockName, () -> new BasicStorageBlockItem(largeBudBlock.get(), getBurnTime(material))));
     }
 
     public static void registerClusterBlocks(MaterialModel material) {
         String clusterBlockName = material.getId() + "_cluster";
-        DeferredBlock<Block> clusterBlock = BLOCKS.register(clusterBlockName, () -> new BasicClusterBlock(7, 3, 5, material));
+        DeferredBlock<Block> clusterBlock = registerColoredBlock(clusterBlockName, () -> new BasicClusterBlock(7, 3, 5, material));
         clusterBlockMap.put(material.getId(), clusterBlock);
-        clusterBlockItemMap.put(material.getId(), ITEMS.register(clusterBlockName, () -> new BasicStorageBlockItem(clusterBlock.get(), getBurnTime(material))));
+        clusterBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, clusterBlockName, () -> new BasicStorageBlockItem(clusterBlock.get(), getBurnTime(material))));
     }
 
     public static void registerClusterShardBlocks(MaterialModel material) {
         String clusterShardBlockName = material.getId() + "_cluster_shard_block";
-        DeferredBlock<Block> clusterShardBlock = BLOCKS.register(clusterShardBlockName, () -> new BasicClusterShardBlock(material));
+        DeferredBlock<Block> clusterShardBlock = registerColoredBlock(clusterShardBlockName, () -> new BasicClusterShardBlock(material));
         clusterShardBlockMap.put(material.getId(), clusterShardBlock);
-        clusterShardBlockItemMap.put(material.getId(), ITEMS.register(clusterShardBlockName, () -> new BasicStorageBlockItem(clusterShardBlock.get(), getBurnTime(material, it -> it * 4))));
+        clusterShardBlockItemMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.BLOCK_ITEM, clusterShardBlockName, () -> new BasicStorageBlockItem(clusterShardBlock.get(), getBurnTime(material, it -> it * 4))));
     }
 
     public static void registerClusterShards(MaterialModel material) {
@@ -423,51 +511,51 @@ public class EERegistrar
 
     // Swords
     public static void registerSwords(MaterialModel material) {
-        swordMap.put(material.getId(), ITEMS.register(material.getId() + "_sword", () -> new BasicSwordItem(material, getRepairItem(material))));
+        swordMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_sword", () -> new BasicSwordItem(material, getRepairItem(material))));
     }
 
     // Pickaxes
     public static void registerPickaxes(MaterialModel material) {
-        pickaxeMap.put(material.getId(), ITEMS.register(material.getId() + "_pickaxe", () -> new BasicPickaxeItem(material, getRepairItem(material))));
+        pickaxeMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_pickaxe", () -> new BasicPickaxeItem(material, getRepairItem(material))));
     }
 
     // Axes
     public static void registerAxes(MaterialModel material) {
-        axeMap.put(material.getId(), ITEMS.register(material.getId() + "_axe", () -> new BasicAxeItem(material, getRepairItem(material))));
+        axeMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_axe", () -> new BasicAxeItem(material, getRepairItem(material))));
     }
 
     // Shovels
     public static void registerShovels(MaterialModel material) {
-        shovelMap.put(material.getId(), ITEMS.register(material.getId() + "_shovel", () -> new BasicShovelItem(material, getRepairItem(material))));
+        shovelMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_shovel", () -> new BasicShovelItem(material, getRepairItem(material))));
     }
 
     // Hoes
     public static void registerHoes(MaterialModel material) {
-        hoeMap.put(material.getId(), ITEMS.register(material.getId() + "_hoe", () -> new BasicHoeItem(material, getRepairItem(material))));
+        hoeMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_hoe", () -> new BasicHoeItem(material, getRepairItem(material))));
     }
 
     // Paxels
     public static void registerPaxels(MaterialModel material) {
-        paxelMap.put(material.getId(), ITEMS.register(material.getId() + "_paxel", () -> new BasicPaxelItem(material, getRepairItem(material))));
+        paxelMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, material.getId() + "_paxel", () -> new BasicPaxelItem(material, getRepairItem(material))));
     }
 
     // Armor
     public static void registerArmor(MaterialModel material) {
         // Helmet
         String itemName = material.getId() + "_helmet";
-        helmetMap.put(material.getId(), ITEMS.register(itemName, () -> new BasicArmorItem(material, ArmorItem.Type.HELMET, material.getArmor().getHelmet())));
+        helmetMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, itemName, () -> new BasicArmorItem(material, ArmorItem.Type.HELMET, material.getArmor().getHelmet())));
 
         // Chestplate
         itemName = material.getId() + "_chestplate";
-        chestplateMap.put(material.getId(), ITEMS.register(itemName, () -> new BasicArmorItem(material, ArmorItem.Type.CHESTPLATE, material.getArmor().getChestplate())));
+        chestplateMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, itemName, () -> new BasicArmorItem(material, ArmorItem.Type.CHESTPLATE, material.getArmor().getChestplate())));
 
         // Leggings
         itemName = material.getId() + "_leggings";
-        leggingsMap.put(material.getId(), ITEMS.register(itemName, () -> new BasicArmorItem(material, ArmorItem.Type.LEGGINGS, material.getArmor().getLeggings())));
+        leggingsMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, itemName, () -> new BasicArmorItem(material, ArmorItem.Type.LEGGINGS, material.getArmor().getLeggings())));
 
         // Boots
         itemName = material.getId() + "_boots";
-        bootsMap.put(material.getId(), ITEMS.register(itemName, () -> new BasicArmorItem(material, ArmorItem.Type.BOOTS, material.getArmor().getBoots())));
+        bootsMap.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, itemName, () -> new BasicArmorItem(material, ArmorItem.Type.BOOTS, material.getArmor().getBoots())));
 
         // Armor Material
         armorMaterialsMap.put(material.getId(), ARMOR_MATERIALS.register(material.getId() + "_armor_material", () -> new ArmorMaterial(
@@ -527,7 +615,7 @@ public class EERegistrar
             BlockBehaviour.Properties.ofFullCopy(Blocks.LAVA).liquid().noCollission().strength(100.0F).noLootTable()
         ));
 
-        var fluidBucket = ITEMS.register(material.getId() + "_bucket", () -> new BucketItem(
+        var fluidBucket = registerColoredItem(EEColorIndex.ItemKind.FLUID_CONTAINER, material.getId() + "_bucket", () -> new BucketItem(
             fluidSourceMap.getValue(material),
             new Item.Properties().stacksTo(1).craftRemainder(Items.BUCKET)
         ));
@@ -544,7 +632,7 @@ public class EERegistrar
         // For people that have a gem processedType, yet use metal material type.
         // Gem and Ingot are exclusive, so only one of each can be present at the same time.
         // TODO: Think to limit processedType ingot/gem to the proper type.
-        if (material.getProcessedTypes().contains("gem"))
+        if (material.has(ProcessedType.GEM))
             return EETags.MATERIAL_GEM.apply(material.getId());
         return EETags.MATERIAL_INGOT.apply(material.getId());
     }
@@ -559,9 +647,9 @@ public class EERegistrar
 
     private static void registerBurnableItem(EEItemMap<Item> map, MaterialModel material, String name, Function<Integer, Integer> modifier) {
         if (material.getProperties().isBurnable()) {
-            map.put(material.getId(), ITEMS.register(name, () -> new BasicBurnableItem(material, getBurnTime(material, modifier))));
+            map.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, name, () -> new BasicBurnableItem(material, getBurnTime(material, modifier))));
         } else {
-            map.put(material.getId(), ITEMS.register(name, () -> new BasicItem(material)));
+            map.put(material.getId(), registerColoredItem(EEColorIndex.ItemKind.ITEM, name, () -> new BasicItem(material)));
         }
     }
 
@@ -569,6 +657,14 @@ public class EERegistrar
         registerBurnableItem(map, material, name, it -> it);
     }
 
+    private static <T extends Block> DeferredBlock<T> registerColoredBlock(String name, Supplier<? extends T> block) {
+        return COLOR_INDEX.add(BLOCKS.register(name, block));
+    }
+
+    private static <T extends Item> DeferredItem<T> registerColoredItem(EEColorIndex.ItemKind kind, String name, Supplier<? extends T> item) {
+        return COLOR_INDEX.add(kind, ITEMS.register(name, item));
+    }
+
     private static FluidType.Properties fluidTypeProperties(MaterialModel material) {
         return FluidType.Properties.create()
             .descriptionId("fluid.emendatusenigmatica." + material.getId())
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.registries.data;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
+import net.neoforged.neoforge.registries.DeferredBlock;
+import net.neoforged.neoforge.registries.DeferredItem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Index of registered items and blocks, grouped by the color handler they require on the client.
+ * Filled by the EERegistrar during registration, so client setup doesn't have to scan and resolve whole registers.
+ */
+public class EEColorIndex {
+    private final EnumMap<ItemKind, List<DeferredItem<? extends Item>>> items = new EnumMap<>(ItemKind.class);
+    private final List<DeferredBlock<? extends Block>> blocks = new ArrayList<>();
+
+    public EEColorIndex() {
+        for (ItemKind kind : ItemKind.values()) items.put(kind, new ArrayList<>());
+    }
+
+    /**
+     * Used to add an item to the index.
+     * @param kind Kind of the color handler required by the item.
+     * @param item DeferredItem to add.
+     * @return DeferredItem provided, for chaining with registration.
+     */
+    public <T extends Item> DeferredItem<T> add(@NotNull ItemKind kind, @NotNull DeferredItem<T> item) {
+        items.get(kind).add(item);
+        return item;
+    }
+
+    /**
+     * Used to add a colored block to the index.
+     * @param block DeferredBlock to add.
+     * @return DeferredBlock provided, for chaining with registration.
+     */
+    public <T extends Block> DeferredBlock<T> add(@NotNull DeferredBlock<T> block) {
+        blocks.add(block);
+        return block;
+    }
+
+    /**
+     * Used to get all items of the specified kind.
+     * @param kind Kind of the color handler.
+     * @return Array of direct references to the items indexed under provided kind.
+     * @apiNote Resolves DeferredItems, so should be used only after registration is finished.
+     */
+    public Item[] getItems(@NotNull ItemKind kind) {
+        List<DeferredItem<? extends Item>> holders = items.get(kind);
+        Item[] values = new Item[holders.size()];
+        for (int i = 0; i < values.length; i++) values[i] = holders.get(i).get();
+        return values;
+    }
+
+    /**
+     * Used to get all colored blocks.
+     * @return Array of direct references to the indexed blocks.
+     * @apiNote Resolves DeferredBlocks, so should be used only after registration is finished.
+     */
+    public Block[] getBlocks() {
+        Block[] values = new Block[blocks.size()];
+        for (int i = 0; i < values.length; i++) values[i] = blocks.get(i).get();
+        return values;
+    }
+
+    public enum ItemKind {
+        /**
+         * Items and tools using the ItemColorHandler.
+         */
+        ITEM,
+        /**
+         * BlockItems using the BlockItemColorHandler.
+         */
+        BLOCK_ITEM,
+        /**
+         * Buckets using the DynamicFluidContainerModel colors.
+         */
+        FLUID_CONTAINER
+    }
+}
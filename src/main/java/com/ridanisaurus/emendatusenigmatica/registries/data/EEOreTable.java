@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.registries.data;
+
+import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.util.InternHelper;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dense Strata x Material table, used for the ore blocks.
+ * <br><br>
+ * Strata and materials are assigned ordinals on the first insertion, and the values are stored in a single flat array,
+ * instead of the nested hash maps of the Guava tables.
+ * String keys are still accepted, and are resolved to the ordinals on every call.
+ * If a value is queried often, resolve the ordinals once and use {@link #get(int, int)} instead.
+ * @apiNote Same argument order as the previously used {@code Table<String, String, V>}: strata first, material second.
+ */
+public class EEOreTable<V> {
+    private final Object2IntMap<String> strataOrdinals = new Object2IntOpenHashMap<>();
+    private final Object2IntMap<String> materialOrdinals = new Object2IntOpenHashMap<>();
+    private final List<String> strataIds = new ArrayList<>();
+    private final List<V> values = new ArrayList<>();
+    private final Set<V> distinctValues = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Object[] table = new Object[0];
+    private int strataCapacity = 16;
+    private int materialCapacity = 0;
+
+    public EEOreTable() {
+        strataOrdinals.defaultReturnValue(-1);
+        materialOrdinals.defaultReturnValue(-1);
+    }
+
+    /**
+     * Used to store the value of the specified strata and material.
+     *
+     * @param strata Strata ID.
+     * @param material Material ID.
+     * @param value Value to store.
+     * @throws IllegalStateException when the value for specified strata and material is already present.
+     */
+    public void put(@NotNull String strata, @NotNull String material, @NotNull V value) {
+        int strataOrdinal = strataOrdinals.getInt(strata);
+        if (strataOrdinal == -1) {
+            strataOrdinal = strataOrdinals.size();
+            strata = InternHelper.intern(strata);
+            strataOrdinals.put(strata, strataOrdinal);
+            strataIds.add(strata);
+        }
+        int materialOrdinal = materialOrdinals.getInt(material);
+        if (materialOrdinal == -1) {
+            materialOrdinal = materialOrdinals.size();
+            materialOrdinals.put(InternHelper.intern(material), materialOrdinal);
+        }
+        ensureCapacity(strataOrdinal, materialOrdinal);
+
+        int index = materialOrdinal * strataCapacity + strataOrdinal;
+        if (table[index] != null) throw new IllegalStateException("Value for strata %s and material %s is already present!".formatted(strata, material));
+        table[index] = value;
+        // The same value can be shared by multiple strata (see the strata variant ores).
+        if (distinctValues.add(value)) values.add(value);
+    }
+
+    /**
+     * Used to get the value of the specified strata and material ordinals.
+     *
+     * @param strata Ordinal of the strata.
+     * @param material Ordinal of the material.
+     * @return Value of the specified strata and material, or null if not present.
+     * @see #getStrataOrdinal(String)
+     * @see #getMaterialOrdinal(String)
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(int strata, int material) {
+        if (strata < 0 || material < 0 || strata >= strataCapacity || material >= materialCapacity) return null;
+        return (V) table[material * strataCapacity + strata];
+    }
+
+    /**
+     * Used to get the value of the specified strata and material.
+     *
+     * @param strata Strata ID.
+     * @param material Material ID.
+     * @return Value of the specified strata and material, or null if not present.
+     */
+    public @Nullable V get(String strata, String material) {
+        return get(strataOrdinals.getInt(strata), materialOrdinals.getInt(material));
+    }
+
+    /**
+     * Used to get the value of the specified strata and material.
+     *
+     * @param strata StrataModel of the value.
+     * @param material MaterialModel of the value.
+     * @return Value of the specified strata and material, or null if not present.
+     */
+    public @Nullable V get(@NotNull StrataModel strata, @NotNull MaterialModel material) {
+        return get(strata.getId(), material.getId());
+    }
+
+    /**
+     * Used to check if the value of the specified strata and material is present.
+     *
+     * @param strata Strata ID.
+     * @param material Material ID.
+     * @return True if the value is present, false otherwise.
+     */
+    public boolean contains(String strata, String material) {
+        return get(strata, material) != null;
+    }
+
+    /**
+     * Used to get the ordinal of the specified strata.
+     * @param strata Strata ID.
+     * @return Ordinal of the strata, or -1 if no value of the strata is present.
+     */
+    public int getStrataOrdinal(String strata) {
+        return strataOrdinals.getInt(strata);
+    }
+
+    /**
+     * Used to get the strata of the specified ordinal.
+     * @param strata Ordinal of the strata.
+     * @return Strata ID, or null if the ordinal wasn't assigned.
+     */
+    public @Nullable String getStrata(int strata) {
+        if (strata < 0 || strata >= strataIds.size()) return null;
+        return strataIds.get(strata);
+    }
+
+    /**
+     * Used to get the ordinal of the specified material.
+     * @param material Material ID.
+     * @return Ordinal of the material, or -1 if no value of the material is present.
+     */
+    public int getMaterialOrdinal(String material) {
+        return materialOrdinals.getInt(material);
+    }
+
+    /**
+     * Used to get all stored values.
+     * @return Unmodifiable List of the distinct values, in the insertion order.
+     */
+    public List<V> values() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private void ensureCapacity(int strataOrdinal, int materialOrdinal) {
+        if (strataOrdinal >= strataCapacity) {
+            int newStrataCapacity = Math.max(strataCapacity * 2, strataOrdinal + 1);
+            Object[] newTable = new Object[materialCapacity * newStrataCapacity];
+            for (int material = 0; material < materialCapacity; material++) {
+                System.arraycopy(table, material * strataCapacity, newTable, material * newStrataCapacity, strataCapacity);
+            }
+            table = newTable;
+            strataCapacity = newStrataCapacity;
+        }
+        if (materialOrdinal >= materialCapacity) {
+            materialCapacity = Math.max(materialCapacity * 2, Math.max(materialOrdinal + 1, 16));
+            table = Arrays.copyOf(table, materialCapacity * strataCapacity);
+        }
+    }
+}
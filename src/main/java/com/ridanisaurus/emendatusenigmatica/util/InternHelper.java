@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A static class, used to canonicalize repeated strings and resource locations of the loaded models.<br>
+ * Large packs repeat the same ids, texture paths, processed types and strata names across hundreds of files,
+ * and each decoded copy would otherwise be pinned by the registry for the whole session.
+ * The pools are weak, so values no longer referenced by any model can still be collected.
+ * @see InternHelper#JSON_OPS
+ */
+public class InternHelper {
+	private static final Interner<String> strings = Interners.newWeakInterner();
+	private static final Interner<ResourceLocation> locations = Interners.newWeakInterner();
+	private static final LongAdder pooled = new LongAdder();
+	private static final LongAdder pooledBytes = new LongAdder();
+	private static final LongAdder duplicates = new LongAdder();
+	private static final LongAdder duplicateBytes = new LongAdder();
+
+	/**
+	 * Json ops, which intern every string decoded through them.<br>
+	 * Used instead of {@link JsonOps#INSTANCE} when decoding the models from config files.
+	 */
+	public static final DynamicOps<JsonElement> JSON_OPS = new JsonOps(false) {
+		@Override
+		public DataResult<String> getStringValue(JsonElement input) {
+			return super.getStringValue(input).map(InternHelper::intern);
+		}
+	};
+
+	/**
+	 * Private constructor. This class is static, and no instances of it should be created.
+	 */
+	private InternHelper() {}
+
+	/**
+	 * Used to get the canonical instance of the string.
+	 * @param value String to intern.
+	 * @return Canonical instance, equal to the provided value.
+	 */
+	@Contract("null -> null")
+	public static String intern(String value) {
+		if (value == null) return null;
+		String canonical = strings.intern(value);
+		record(canonical != value, sizeOf(value));
+		return canonical;
+	}
+
+	/**
+	 * Used to parse the resource location, and get its canonical instance.
+	 * @param location String representation of the resource location.
+	 * @return Canonical instance of the parsed resource location.
+	 * @throws net.minecraft.ResourceLocationException when the location is invalid.
+	 */
+	public static @NotNull ResourceLocation location(@NotNull String location) {
+		ResourceLocation parsed = ResourceLocation.parse(location);
+		// Parsed location holds its own substrings, so it's rebuilt from the pooled ones before pooling.
+		ResourceLocation rebuilt = ResourceLocation.fromNamespaceAndPath(intern(parsed.getNamespace()), intern(parsed.getPath()));
+		ResourceLocation canonical = locations.intern(rebuilt);
+		record(canonical != rebuilt, 24);
+		return canonical;
+	}
+
+	/**
+	 * Used to get a report of the pools, as rows of the analytics table.
+	 * @return Map of Category -> Value, in display order.
+	 * @apiNote Byte counts are estimates, assuming compact (Latin-1) strings and compressed object pointers.
+	 */
+	public static @NotNull Map<String, String> getReport() {
+		Map<String, String> rows = new LinkedHashMap<>();
+		rows.put("Pooled values", String.valueOf(pooled.sum()));
+		rows.put("Pooled values size", formatBytes(pooledBytes.sum()));
+		rows.put("Duplicates released", String.valueOf(duplicates.sum()));
+		rows.put("Duplicates size released", formatBytes(duplicateBytes.sum()));
+		return rows;
+	}
+
+	private static void record(boolean duplicate, long bytes) {
+		if (duplicate) {
+			duplicates.increment();
+			duplicateBytes.add(bytes);
+		} else {
+			pooled.increment();
+			pooledBytes.add(bytes);
+		}
+	}
+
+	private static @NotNull String formatBytes(long bytes) {
+		return "%.1f KiB".formatted(bytes / 1024d);
+	}
+
+	/**
+	 * Used to estimate the retained size of the string: 24 bytes of the object, and the aligned backing array.
+	 */
+	private static long sizeOf(@NotNull String value) {
+		return 24 + ((16 + value.length() + 7) & ~7L);
+	}
+}
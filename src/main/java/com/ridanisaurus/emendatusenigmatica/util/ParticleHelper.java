@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020-2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ridanisaurus.emendatusenigmatica.util;
+
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+public class ParticleHelper {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static long lastTick = Long.MIN_VALUE;
+	private static int emittedThisTick = 0;
+
+	/**
+	 * Used to create the dust particle of the specified color.
+	 * @param color RGB24 color of the particle.
+	 * @return Immutable DustParticleOptions, safe to share between all emitted particles.
+	 */
+	public static @NotNull DustParticleOptions dustOf(int color) {
+		return new DustParticleOptions(Vec3.fromRGB24(color).toVector3f(), 1.0F);
+	}
+
+	/**
+	 * Used to emit the ore particles on all exposed faces of the block, respecting the client particle budget.
+	 * @param particle Particle to emit.
+	 * @param level Level the block is in.
+	 * @param pos Position of the block.
+	 * @param rand RandomSource used for the particle placement.
+	 * @apiNote Meant to be called only from the client-side animateTick.
+	 */
+	public static void emitOreParticles(DustParticleOptions particle, @NotNull Level level, @NotNull BlockPos pos, @NotNull RandomSource rand) {
+		int budget = EEConfig.client.oreParticleBudget.get();
+		if (budget == 0 || rand.nextInt(10) != 0) return;
+
+		long tick = level.getGameTime();
+		if (tick != lastTick) {
+			lastTick = tick;
+			emittedThisTick = 0;
+		}
+
+		BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+		for (Direction direction : DIRECTIONS) {
+			if (budget > 0 && emittedThisTick >= budget) return;
+			neighbour.setWithOffset(pos, direction);
+			if (level.getBlockState(neighbour).isSolidRender(level, neighbour)) continue;
+
+			Direction.Axis axis = direction.getAxis();
+			double x = axis == Direction.Axis.X ? 0.5D + 0.5625D * (double) direction.getStepX() : (double) rand.nextFloat();
+			double y = axis == Direction.Axis.Y ? 0.5D + 0.5625D * (double) direction.getStepY() : (double) rand.nextFloat();
+			double z = axis == Direction.Axis.Z ? 0.5D + 0.5625D * (double) direction.getStepZ() : (double) rand.nextFloat();
+			level.addParticle(particle, (double) pos.getX() + x, (double) pos.getY() + y, (double) pos.getZ() + z, 0.0D, 0.0D, 0.0D);
+			emittedThisTick++;
+		}
+	}
+}
@@ -26,6 +26,8 @@ package com.ridanisaurus.emendatusenigmatica.util;
 
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
 import com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors.*;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.levelgen.VerticalAnchor;
 import net.minecraft.world.level.levelgen.placement.*;
 import org.jetbrains.annotations.Contract;
@@ -33,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.List;
+import java.util.Objects;
 
 public class WorldGenHelper {
 	@Contract("_, _ -> new")
@@ -72,4 +75,45 @@ public class WorldGenHelper {
 			default -> null;
 		};
 	}
+
+	/**
+	 * Used to get placement of the deposit inside a composite feature.
+	 * @param processor Deposit processor.
+	 * @return Full ore placement of the deposit, without the biome filter.
+	 * @apiNote Biome filter only accepts features added to the biome directly, composite features check biomes of each deposit on their own.
+	 * @see com.ridanisaurus.emendatusenigmatica.world.gen.feature.CompositeOreFeature
+	 */
+	public static List<PlacementModifier> getCompositeOrePlacement(@NotNull IDepositProcessor processor) {
+		List<PlacementModifier> placement = getFullOrePlacement(processor);
+		if (Objects.isNull(placement)) return null;
+		return placement.stream().filter(modifier -> !(modifier instanceof BiomeFilter)).toList();
+	}
+
+	/**
+	 * Used to get biomes the deposit can generate in.
+	 * @param model Deposit model.
+	 * @return Biomes (or biome tags, prefixed with #) of the deposit, or the default tag of its dimension if none are specified.
+	 */
+	public static List<String> getDepositBiomes(@NotNull CommonDepositModelBase model) {
+		if (!model.getBiomes().isEmpty()) return model.getBiomes();
+		return switch (model.getDimension()) {
+			case "minecraft:overworld" -> List.of("#minecraft:is_overworld");
+			case "minecraft:the_nether" -> List.of("#minecraft:is_nether");
+			case "minecraft:the_end" -> List.of("#minecraft:is_end");
+			default -> {
+				String namespace = ResourceLocation.parse(model.getDimension()).getNamespace();
+				yield List.of("#" + namespace + ":is_" + namespace);
+			}
+		};
+	}
+
+	/**
+	 * Used to get the name of the composite feature of the dimension.
+	 * @param dimension ID of the dimension.
+	 * @return Name of the composite feature, eg. minecraft_overworld_deposits.
+	 */
+	public static String getCompositeName(@NotNull String dimension) {
+		ResourceLocation id = ResourceLocation.parse(dimension);
+		return id.getNamespace() + "_" + id.getPath() + "_deposits";
+	}
 }
@@ -233,6 +233,14 @@ public class Analytics {
         messageCategories.put(header, directory);
     }
 
+    /**
+     * Used to get the performance analytics gathered so far.
+     * @return Unmodifiable view of the category to time map, in order of insertion.
+     */
+    public static Map<String, String> getPerformanceAnalytics() {
+        return Collections.unmodifiableMap(performanceMap);
+    }
+
     public static void addPerformanceAnalytic(String category, String time) {
         performanceMap.put(category, time);
     }
@@ -245,6 +253,25 @@ public class Analytics {
         addPerformanceAnalytic(category, "%d.%ss".formatted(time.getSeconds(), milis));
     }
 
+    /**
+     * Used to append an additional performance table to an already generated summary file.<br>
+     * Unlike other methods of this class, this one can only be called <b>after</b> the analytics were finalized,
+     * as it's meant for runtime data (like world generation), which is not available during the validation.
+     * @param header Header of the table.
+     * @param rows Rows of the table, in iteration order, mapping the category to its value.
+     * @return True if the table was appended, false if the summary file doesn't exist.
+     * @throws IllegalStateException when called before the analytics were finalized.
+     */
+    public static boolean appendPerformanceTable(String header, Map<String, String> rows) {
+        if (!finalized) throw new IllegalStateException("Analytics weren't finalized yet!");
+        if (Objects.isNull(summaryFile) || !Files.exists(summaryFile)) return false;
+        AnalyticsWriteContext cx = new AnalyticsWriteContext(summaryFile);
+        cx.writeSpacer();
+        cx.writeLine("Appended at: " + new SimpleDateFormat("dd-MM-yyyy HH:mm:ss.SSS").format(new Date()));
+        printPerformanceTable(cx, header, rows);
+        return true;
+    }
+
     public static void registerAddon(Consumer<AnalyticsWriteContext> addon) {
         addons.add(Objects.requireNonNull(addon, "Addon function can't be null!"));
     }
@@ -341,10 +368,14 @@ public class Analytics {
     }
 
     private static void printPerformance(@NotNull AnalyticsWriteContext cx) {
-        cx.writeHeader("Performance", 3);
+        printPerformanceTable(cx, "Performance", performanceMap);
+    }
+
+    private static void printPerformanceTable(@NotNull AnalyticsWriteContext cx, String header, @NotNull Map<String, String> rows) {
+        cx.writeHeader(header, 3);
         StringBuilder table = new StringBuilder();
         table.append("<table>");
-        performanceMap.forEach((category, time) -> table
+        rows.forEach((category, time) -> table
             .append("<tr>")
             .append("<td>")
             .append(category)
@@ -363,7 +394,17 @@ public class Analytics {
      */
     @ApiStatus.Internal
     public static void devSetup() {
-        CONFIG_DIR = Path.of("run/config").resolve("emendatusenigmatica/");
+        devSetup(Path.of("run/config").resolve("emendatusenigmatica/"));
+    }
+
+    /**
+     * Setup method that doesn't call NeoForge classes, with a custom config directory.
+     * Shouldn't be used outside of dev env in test classes and benchmarks.
+     * @param configDir Directory with the strata, material, compat and deposit folders.
+     */
+    @ApiStatus.Internal
+    public static void devSetup(Path configDir) {
+        CONFIG_DIR = configDir;
         summaryFile = CONFIG_DIR.resolve("Validation Results.md");
         dirSeparator = FileSystems.getDefault().getSeparator();
     }
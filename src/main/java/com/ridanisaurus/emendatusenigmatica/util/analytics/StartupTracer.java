@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.util.analytics;
+
+import com.google.gson.stream.JsonWriter;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.StartupPhaseEvent;
+import net.neoforged.fml.loading.FMLPaths;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * A static class, used to trace the startup pipeline as nested spans, and write them as a Chrome trace event file.<br>
+ * The file can be opened in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * Spans of the same thread are nested by their timing, so each span only records its own start and duration.
+ * <br><br>
+ * Tracing is disabled by default, see {@link EEConfig.StartupConfig#traceStartup}. Disabled tracer returns a shared span, which does nothing.
+ * Independently of the config, spans are committed as {@link StartupPhaseEvent}s while a Java Flight Recorder recording is running.
+ * @see StartupTracer#span(String, String)
+ */
+public class StartupTracer {
+    private static final Span NONE = () -> {};
+    private static final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private static final long origin = System.nanoTime();
+    private static Boolean enabled;
+
+    /**
+     * Private constructor. This class is static, and no instances of it should be created.
+     */
+    private StartupTracer() {}
+
+    /**
+     * Used to check if the startup is traced.
+     * @return True if tracing is enabled in the startup config.
+     */
+    public static boolean isEnabled() {
+        if (enabled == null) enabled = EEConfig.startup != null && EEConfig.startup.traceStartup.get();
+        return enabled;
+    }
+
+    /**
+     * Used to start a span, which ends when closed.
+     * @param category Category of the span, eg. Plugin, Validation or Data Generation.
+     * @param name Name of the span, eg. the plugin, file or provider.
+     * @return Started span. Meant to be used with the try-with-resources statement.
+     */
+    public static Span span(String category, String name) {
+        boolean traced = isEnabled();
+        StartupPhaseEvent phase = StartupPhaseEvent.TYPE.isEnabled() ? new StartupPhaseEvent(category, name) : null;
+        if (!traced && phase == null) return NONE;
+        if (phase != null) phase.begin();
+        long start = System.nanoTime();
+        Thread thread = Thread.currentThread();
+        return () -> {
+            if (phase != null) phase.commit();
+            if (traced) events.add(new Event(category, name, thread.threadId(), thread.getName(), start - origin, System.nanoTime() - start));
+        };
+    }
+
+    /**
+     * Used to write all spans ended so far to the trace file, replacing its previous content.
+     * @apiNote Called once validation finishes, and again once data generation finishes, as either can be the last stage of the startup.
+     */
+    public static void write() {
+        if (!isEnabled()) return;
+        Path file = FMLPaths.GAMEDIR.get().resolve("logs/emendatusenigmatica_startup_trace.json");
+        List<Event> snapshot = List.copyOf(events);
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8); JsonWriter writer = new JsonWriter(out)) {
+                writer.beginObject();
+                writer.name("displayTimeUnit").value("ms");
+                writer.name("traceEvents").beginArray();
+                // Metadata events naming the threads, as trace viewers only show their IDs otherwise.
+                for (Event event : snapshot.stream().filter(distinctThreads()).toList()) {
+                    writer.beginObject();
+                    writer.name("name").value("thread_name");
+                    writer.name("ph").value("M");
+                    writer.name("pid").value(1);
+                    writer.name("tid").value(event.threadId());
+                    writer.name("args").beginObject().name("name").value(event.threadName()).endObject();
+                    writer.endObject();
+                }
+                for (Event event : snapshot) {
+                    writer.beginObject();
+                    writer.name("name").value(event.name());
+                    writer.name("cat").value(event.category());
+                    writer.name("ph").value("X");
+                    writer.name("pid").value(1);
+                    writer.name("tid").value(event.threadId());
+                    // Trace event timestamps are in microseconds.
+                    writer.name("ts").value(event.start() / 1000d);
+                    writer.name("dur").value(event.duration() / 1000d);
+                    writer.endObject();
+                }
+                writer.endArray();
+                writer.endObject();
+            }
+            EmendatusEnigmatica.logger.info("Startup trace with {} spans was written to {}.", snapshot.size(), file);
+        } catch (IOException e) {
+            EmendatusEnigmatica.logger.error("Failed to write the startup trace.", e);
+        }
+    }
+
+    private static Predicate<Event> distinctThreads() {
+        Set<Long> seen = new HashSet<>();
+        return event -> seen.add(event.threadId());
+    }
+
+    /**
+     * A single traced span, ended by closing it.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private record Event(String category, String name, long threadId, String threadName, long start, long duration) {}
+}
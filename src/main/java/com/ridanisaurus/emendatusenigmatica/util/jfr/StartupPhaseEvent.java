@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event of a single startup phase, eg. a plugin, config file, validator or data generation provider.<br>
+ * Emitted by the spans of the {@link com.ridanisaurus.emendatusenigmatica.util.analytics.StartupTracer}, independently of the startup trace file.
+ */
+@Name(StartupPhaseEvent.NAME)
+@Label("Startup Phase")
+@Category({"Emendatus Enigmatica", "Startup"})
+@Description("Single phase of the EE startup pipeline.")
+@StackTrace(false)
+public class StartupPhaseEvent extends Event {
+    public static final String NAME = "emendatusenigmatica.StartupPhase";
+    public static final EventType TYPE = EventType.getEventType(StartupPhaseEvent.class);
+
+    @Label("Category")
+    public String category;
+
+    @Label("Name")
+    public String name;
+
+    public StartupPhaseEvent(String category, String name) {
+        this.category = category;
+        this.name = name;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.util.jfr;
+
+import com.ridanisaurus.emendatusenigmatica.world.gen.vein.EEOreVeinType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Java Flight Recorder event of the blocks replaced by a single vein type in a single noise chunk.<br>
+ * Replacements are counted by a {@link Batch} while the noise is filled, and committed once per vein type when the fill is finished.
+ */
+@Name(VeinReplacementEvent.NAME)
+@Label("Vein Replacements")
+@Category({"Emendatus Enigmatica", "World Generation"})
+@Description("Blocks replaced by an ore vein in a single chunk during the noise generation.")
+@StackTrace(false)
+public class VeinReplacementEvent extends Event {
+    public static final String NAME = "emendatusenigmatica.VeinReplacement";
+    public static final EventType TYPE = EventType.getEventType(VeinReplacementEvent.class);
+    private static final ThreadLocal<Batch> creatingBatch = new ThreadLocal<>();
+
+    @Label("Dimension")
+    public String dimension;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Ore")
+    public String ore;
+
+    @Label("Ore Blocks")
+    public long oreBlocks;
+
+    @Label("Filler Blocks")
+    public long fillerBlocks;
+
+    /**
+     * Used to start counting the replacements of the noise chunk created on the current thread, if the event is enabled.
+     * @param pos Position of the chunk.
+     * @param dimension Dimension of the chunk, if known.
+     */
+    public static void startBatch(ChunkPos pos, @Nullable ResourceLocation dimension) {
+        if (TYPE.isEnabled()) creatingBatch.set(new Batch(pos, dimension));
+    }
+
+    /**
+     * Used to get the batch of the noise chunk created on the current thread.
+     * @return Batch started by {@link VeinReplacementEvent#startBatch(ChunkPos, ResourceLocation)}, or null if the event is disabled.
+     */
+    public static @Nullable Batch getCreatingBatch() {
+        return creatingBatch.get();
+    }
+
+    /**
+     * Used to stop exposing the batch to the current thread, once the noise chunk is created.
+     * @return Batch of the created noise chunk, or null if the event is disabled.
+     */
+    public static @Nullable Batch endBatch() {
+        Batch batch = creatingBatch.get();
+        creatingBatch.remove();
+        return batch;
+    }
+
+    /**
+     * Replacement counts of a single noise chunk, per vein type.<br>
+     * A noise chunk is filled by a single thread, so the counts aren't synchronized.
+     */
+    public static final class Batch {
+        private final ChunkPos pos;
+        private final @Nullable ResourceLocation dimension;
+        private final Map<EEOreVeinType, long[]> counts = new IdentityHashMap<>();
+
+        private Batch(ChunkPos pos, @Nullable ResourceLocation dimension) {
+            this.pos = pos;
+            this.dimension = dimension;
+        }
+
+        /**
+         * Used to count a replaced block.
+         * @param vein Vein type of the replacement.
+         * @param ore True for an ore (or raw ore) block, false for a filler block.
+         */
+        public void record(EEOreVeinType vein, boolean ore) {
+            counts.computeIfAbsent(vein, v -> new long[2])[ore ? 0 : 1]++;
+        }
+
+        /**
+         * Used to commit a single event per vein type with any replacement, and to reset the counts.
+         */
+        public void commit() {
+            String dimensionName = dimension == null ? null : dimension.toString();
+            counts.forEach((vein, count) -> {
+                VeinReplacementEvent event = new VeinReplacementEvent();
+                event.dimension = dimensionName;
+                event.chunkX = pos.x;
+                event.chunkZ = pos.z;
+                event.ore = BuiltInRegistries.BLOCK.getKey(vein.ore().getBlock()).toString();
+                event.oreBlocks = count[0];
+                event.fillerBlocks = count[1];
+                event.commit();
+            });
+            counts.clear();
+        }
+    }
+
+    /**
+     * Implemented on the noise chunk, to keep its batch until the noise is filled.
+     */
+    public interface BatchHolder {
+        @Nullable Batch emendatusenigmatica$getVeinBatch();
+
+        void emendatusenigmatica$setVeinBatch(@Nullable Batch batch);
+    }
+}
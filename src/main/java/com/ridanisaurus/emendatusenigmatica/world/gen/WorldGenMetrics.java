@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen;
+
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A static class, used to gather placement metrics of the deposit features during world generation.<br>
+ * Metrics are always collected, as features are placed concurrently on worldgen threads, all counters are {@link LongAdder}s.
+ * While a Java Flight Recorder recording is running, each placement is also committed as a {@link FeaturePlacementEvent}.
+ * @see WorldGenMetrics#get(String)
+ */
+public class WorldGenMetrics {
+    /**
+     * Used to store metrics of each configured feature, keyed by the registry name of its deposit.
+     */
+    private static final Map<String, FeatureMetrics> metrics = new ConcurrentHashMap<>();
+    /**
+     * Used to store the placement event in progress on the current worldgen thread, only while it is recorded.
+     */
+    private static final ThreadLocal<FeaturePlacementEvent> events = new ThreadLocal<>();
+    private static final EventType eventType = EventType.getEventType(FeaturePlacementEvent.class);
+
+    /**
+     * Private constructor. This class is static, and no instances of it should be created.
+     */
+    private WorldGenMetrics() {}
+
+    /**
+     * Used to get (or create) metrics of the deposit.
+     * @param deposit Registry name of the deposit.
+     * @return Metrics of the deposit.
+     * @apiNote This should be resolved once per feature configuration, not on each placement.
+     */
+    public static FeatureMetrics get(String deposit) {
+        return metrics.computeIfAbsent(deposit, FeatureMetrics::new);
+    }
+
+    /**
+     * Used to get a snapshot of all metrics, with the most time-consuming deposits first.
+     * @return List of metrics, sorted by the cumulative placement time.
+     */
+    public static List<FeatureMetrics> getSorted() {
+        return metrics.values().stream().sorted(Comparator.comparingLong(FeatureMetrics::getNanos).reversed()).toList();
+    }
+
+    /**
+     * Used to reset all counters, without removing the deposits which are already referenced by the feature configurations.
+     */
+    public static void reset() {
+        metrics.values().forEach(FeatureMetrics::reset);
+    }
+
+    /**
+     * Holds placement counters of a single configured feature.
+     */
+    public static class FeatureMetrics {
+        private final String deposit;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder tested = new LongAdder();
+        private final LongAdder placed = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private FeatureMetrics(String deposit) {
+            this.deposit = deposit;
+        }
+
+        /**
+         * Used to begin the flight recorder event of a single invocation of the feature.
+         * @return Started event, or null if no recording is running.
+         * @apiNote Must be paired with {@link FeatureMetrics#recordInvocation(long, FeaturePlacementEvent)}.
+         */
+        @Nullable
+        public FeaturePlacementEvent begin() {
+            if (!eventType.isEnabled()) return null;
+            FeaturePlacementEvent event = new FeaturePlacementEvent();
+            event.deposit = deposit;
+            event.begin();
+            events.set(event);
+            return event;
+        }
+
+        /**
+         * Used to record a single invocation of the feature.
+         * @param elapsed Time spent in the invocation, in nanoseconds.
+         * @param event Event returned by {@link FeatureMetrics#begin()}, committed with the blocks counted since.
+         */
+        public void recordInvocation(long elapsed, @Nullable FeaturePlacementEvent event) {
+            invocations.increment();
+            nanos.add(elapsed);
+            if (event == null) return;
+            events.remove();
+            event.commit();
+        }
+
+        /**
+         * Used to record a batch of tested positions and placed ore blocks at once.
+         * @param tested Amount of positions tested against the target of the feature.
+         * @param placed Amount of ore blocks placed.
+         * @apiNote Features count placements locally, and call this once per invocation, so the counters aren't contended per block.
+         */
+        public void recordBlocks(long tested, long placed) {
+            this.tested.add(tested);
+            this.placed.add(placed);
+            FeaturePlacementEvent event = current();
+            if (event == null) return;
+            event.tested += tested;
+            event.placed += placed;
+        }
+
+        /**
+         * Used to record a single sample block placed by the feature.
+         */
+        public void recordSample() {
+            samples.increment();
+        }
+
+        /**
+         * Used to record a single invocation rejected by the section palette pre-check, before testing any position.
+         * @see com.ridanisaurus.emendatusenigmatica.world.gen.feature.FillerSectionCheck
+         */
+        public void recordSkipped() {
+            skipped.increment();
+        }
+
+        public String getDeposit() {
+            return deposit;
+        }
+
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        public long getTested() {
+            return tested.sum();
+        }
+
+        public long getPlaced() {
+            return placed.sum();
+        }
+
+        public long getSamples() {
+            return samples.sum();
+        }
+
+        public long getSkipped() {
+            return skipped.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * Used to format the metrics as a single line of text.
+         * @return Formatted metrics.
+         */
+        public String format() {
+            long calls = getInvocations();
+            double millis = getNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            return "%d calls, %d skipped, %d tested, %d placed, %d samples, %.3fms total, %.1fus/call".formatted(
+                calls, getSkipped(), getTested(), getPlaced(), getSamples(), millis, calls == 0 ? 0d : millis * 1000d / calls
+            );
+        }
+
+        /**
+         * Used to get the event in progress, without touching the thread local while nothing is recorded.
+         */
+        @Nullable
+        private static FeaturePlacementEvent current() {
+            return eventType.isEnabled() ? events.get() : null;
+        }
+
+        private void reset() {
+            invocations.reset();
+            tested.reset();
+            placed.reset();
+            samples.reset();
+            skipped.reset();
+            nanos.reset();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.feature;
+
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.CompositeOreFeatureConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.GenerationStep;
+import net.minecraft.world.level.levelgen.RandomSupport;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Used to place every deposit of a dimension in a single feature invocation per chunk.<br>
+ * Biome modifiers, feature lookup and the placement context are resolved once for the whole chunk,
+ * instead of once for each deposit, which dominates the feature stage in packs with many deposits.
+ */
+public class CompositeOreFeature extends Feature<CompositeOreFeatureConfig> {
+    private static final int STEP = GenerationStep.Decoration.UNDERGROUND_ORES.ordinal();
+
+    public CompositeOreFeature() {
+        super(CompositeOreFeatureConfig.CODEC);
+    }
+
+    @Override
+    public boolean place(FeaturePlaceContext<CompositeOreFeatureConfig> context) {
+        WorldGenLevel level = context.level();
+        ChunkGenerator generator = context.chunkGenerator();
+        BlockPos origin = context.origin();
+        PlacementContext placementContext = new PlacementContext(level, generator, Optional.empty());
+
+        // Same seeding as the vanilla decoration step, with the deposit name in place of the feature index.
+        WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
+        long decorationSeed = random.setDecorationSeed(level.getSeed(), origin.getX(), origin.getZ());
+
+        boolean placed = false;
+        for (CompositeOreFeatureConfig.Entry deposit : context.config().deposits) {
+            placed |= placeDeposit(deposit, placementContext, random, decorationSeed, origin);
+        }
+        return placed;
+    }
+
+    /**
+     * Used to place a single deposit of the composite feature in the chunk.
+     * @param deposit Deposit to place.
+     * @param context Placement context of the chunk.
+     * @param random Random of the chunk, re-seeded for the deposit.
+     * @param decorationSeed Decoration seed of the chunk.
+     * @param origin Origin of the chunk, at the minimal build height.
+     * @return True if the deposit was placed at any of its positions.
+     * @apiNote Seeding only depends on the chunk and the name of the deposit, so deposits can be placed in any order, or on their own.
+     */
+    public static boolean placeDeposit(CompositeOreFeatureConfig.Entry deposit, PlacementContext context, WorldgenRandom random, long decorationSeed, BlockPos origin) {
+        WorldGenLevel level = context.getLevel();
+        ChunkGenerator generator = context.generator();
+        random.setFeatureSeed(decorationSeed, deposit.salt, STEP);
+
+        Stream<BlockPos> positions = Stream.of(origin);
+        for (PlacementModifier modifier : deposit.placement) {
+            positions = positions.flatMap(pos -> modifier.getPositions(context, random, pos));
+        }
+
+        boolean placed = false;
+        for (BlockPos pos : (Iterable<BlockPos>) positions::iterator) {
+            if (!deposit.isAllowed(level.getBiome(pos))) continue;
+            placed |= deposit.feature.value().place(level, generator, random, pos);
+        }
+        return placed;
+    }
+}
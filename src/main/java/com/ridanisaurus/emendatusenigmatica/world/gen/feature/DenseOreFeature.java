@@ -28,13 +28,12 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
-import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dense.DenseDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
-import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.EETags;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DenseOreFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderSet;
@@ -46,21 +45,29 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 
 // Credit: Geolysis
 public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
-    private final EmendatusDataRegistry registry;
-
     public DenseOreFeature() {
         super(DenseOreFeatureConfig.CODEC);
-        this.registry = EmendatusEnigmatica.getInstance().getDataRegistry();
     }
 
     @Override
     public boolean place(FeaturePlaceContext<DenseOreFeatureConfig> context) {
+        long start = System.nanoTime();
+        FeaturePlacementEvent event = context.config().metrics.begin();
+        try {
+            return placeDeposit(context);
+        } finally {
+            context.config().metrics.recordInvocation(System.nanoTime() - start, event);
+        }
+    }
+
+    private boolean placeDeposit(FeaturePlaceContext<DenseOreFeatureConfig> context) {
         RandomSource rand = context.random();
         BlockPos pos = context.origin();
         WorldGenLevel level = context.level();
@@ -82,6 +89,17 @@ public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
         double y1 = randY + level.getRandom().nextInt(3) - 2;
         double y2 = randY + level.getRandom().nextInt(3) - 2;
 
+        // Blobs are centered on the line between both points, with a diameter of at most size / 8 + 1.
+        int reach = Mth.ceil(size / 16.0D) + 1;
+        if (!FillerSectionCheck.mayContainFiller(level, config.target,
+                Mth.floor(Math.min(x1, x2)) - reach, Mth.floor(Math.min(y1, y2)) - reach, Mth.floor(Math.min(z1, z2)) - reach,
+                Mth.floor(Math.max(x1, x2)) + reach, Mth.floor(Math.max(y1, y2)) + reach, Mth.floor(Math.max(z1, z2)) + reach)) {
+            config.metrics.recordSkipped();
+            return false;
+        }
+
+        long tested = 0;
+        long placed = 0;
         for (int i = 0; i < size; ++i) {
             float radScl = (float) i / (float) size;
             double xn = x1 + (x2 - x1) * (double) radScl;
@@ -108,7 +126,8 @@ public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
                                 double layerRadZ = ((double) z + 0.5D - zn) / (radius / 2.0D);
 
                                 if (layerRadX * layerRadX + layerRadY * layerRadY + layerRadZ * layerRadZ < 1.0D) {
-                                    placeBlock(level, rand, new BlockPos(x, y, z), config);
+                                    tested++;
+                                    if (placeBlock(level, rand, new BlockPos(x, y, z), config)) placed++;
                                 }
                             }
                         }
@@ -117,15 +136,17 @@ public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
             }
 
         }
+        config.metrics.recordBlocks(tested, placed);
         if (rand.nextInt(100) < model.getChance() && !config.sampleBlocks.isEmpty()) {
             placeSurfaceSample(rand, pos, level, config);
         }
         return true;
     }
 
-    private void placeBlock(WorldGenLevel reader, RandomSource rand, BlockPos pos, DenseOreFeatureConfig config) {
-        if (!config.target.test(reader.getBlockState(pos), rand)) {
-            return;
+    private boolean placeBlock(WorldGenLevel reader, RandomSource rand, BlockPos pos, DenseOreFeatureConfig config) {
+        BlockState state = reader.getBlockState(pos);
+        if (!config.target.test(state, rand)) {
+            return false;
         }
 
         int index = rand.nextInt(config.blocks.size());
@@ -140,16 +161,15 @@ public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
                     reader.setBlock(pos, block.value().defaultBlockState(), 2);
                 });
             } else if (commonBlockDefinitionModel.getMaterial() != null) {
-                StrataModel strata = registry.getStrataFromFiller(BuiltInRegistries.BLOCK.getKey(reader.getBlockState(pos).getBlock()));
-                if (strata != null) {
-                    Block block = EERegistrar.oreBlockTable.get(strata.getId(), commonBlockDefinitionModel.getMaterial()).get();
-                    reader.setBlock(pos, block.defaultBlockState(), 2);
-                }
+                BlockState ore = EERegistrar.getOreState(config.target.getStrataOrdinal(state), commonBlockDefinitionModel.getMaterialOrdinal());
+                if (ore != null) reader.setBlock(pos, ore, 2);
             }
             config.placed = true;
+            return true;
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(DenseDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("index: " + index + ", model: " + new Gson().toJson(modelJson), e);
+            return false;
         }
     }
 
@@ -170,6 +190,7 @@ public class DenseOreFeature extends Feature<DenseOreFeatureConfig> {
                 Block sampleBlock = EERegistrar.oreSampleBlockTable.get(sampleBlockDefinitionModel.getStrata(), sampleBlockDefinitionModel.getMaterial()).get();
                 level.setBlock(samplePos, sampleBlock.defaultBlockState(), 2);
             }
+            config.metrics.recordSample();
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(DenseDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("model: " + new Gson().toJson(modelJson), e);
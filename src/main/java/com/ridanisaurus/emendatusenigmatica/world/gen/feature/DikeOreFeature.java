@@ -28,13 +28,12 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
-import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dike.DikeDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
-import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.EETags;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.DikeOreFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderSet;
@@ -46,6 +45,7 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.LegacyRandomSource;
 import net.minecraft.world.level.levelgen.WorldgenRandom;
@@ -55,15 +55,22 @@ import net.minecraft.world.level.levelgen.synth.NormalNoise;
 
 // Credit: Geolysis
 public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
-    private final EmendatusDataRegistry registry;
-
     public DikeOreFeature() {
         super(DikeOreFeatureConfig.CODEC);
-        this.registry = EmendatusEnigmatica.getInstance().getDataRegistry();
     }
 
     @Override
     public boolean place(FeaturePlaceContext<DikeOreFeatureConfig> context) {
+        long start = System.nanoTime();
+        FeaturePlacementEvent event = context.config().metrics.begin();
+        try {
+            return placeDeposit(context);
+        } finally {
+            context.config().metrics.recordInvocation(System.nanoTime() - start, event);
+        }
+    }
+
+    private boolean placeDeposit(FeaturePlaceContext<DikeOreFeatureConfig> context) {
         RandomSource rand = context.random();
         BlockPos pos = context.origin();
         WorldGenLevel level = context.level();
@@ -82,10 +89,17 @@ public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
 
         BlockPos basePos = new BlockPos(xPos, yBottom, zPos);
 
+        if (!FillerSectionCheck.mayContainFiller(level, config.target, xPos - size, yBottom, zPos - size, xPos + size, yTop, zPos + size)) {
+            config.metrics.recordSkipped();
+            return false;
+        }
+
         // TODO: Figure out the Size and other Parameters
 
         // NOTE: Wait, does this mean this doesn't scale yet?
 
+        long tested = 0;
+        long placed = 0;
         for (int dY = yBottom; dY <= yTop; dY++) {
             for (int dX = -size; dX <= size; dX++) {
                 for (int dZ = -size; dZ <= size; dZ++) {
@@ -94,7 +108,8 @@ public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
                         continue;
                     }
                     if (normalNoise.getValue(dX, dY, dZ) >= 0.5) {
-                        placeBlock(level, rand, new BlockPos(basePos.getX() + dX, dY, basePos.getZ() + dZ), config);
+                        tested++;
+                        if (placeBlock(level, rand, new BlockPos(basePos.getX() + dX, dY, basePos.getZ() + dZ), config)) placed++;
                     }
                 }
             }
@@ -104,15 +119,17 @@ public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
 //                placeBlock(level, rand, new BlockPos(basePos.getX(), dY, basePos.getZ()), config);
 //            }
 //        }
+        config.metrics.recordBlocks(tested, placed);
         if (rand.nextInt(100) < model.getChance() && !config.sampleBlocks.isEmpty()) {
             placeSurfaceSample(rand, pos, level, config);
         }
         return true;
     }
 
-    private void placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, DikeOreFeatureConfig config) {
-        if (!config.target.test(level.getBlockState(pos), rand)) {
-            return;
+    private boolean placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, DikeOreFeatureConfig config) {
+        BlockState state = level.getBlockState(pos);
+        if (!config.target.test(state, rand)) {
+            return false;
         }
 
         int index = rand.nextInt(config.blocks.size());
@@ -131,18 +148,17 @@ public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
                     }
                 });
             } else if (commonBlockDefinitionModel.getMaterial() != null) {
-                StrataModel strata = registry.getStrataFromFiller(BuiltInRegistries.BLOCK.getKey(level.getBlockState(pos).getBlock()));
-                if (strata != null) {
-                    Block block = EERegistrar.oreBlockTable.get(strata.getId(), commonBlockDefinitionModel.getMaterial()).get();
-                    if (pos.getY() >= commonBlockDefinitionModel.getMin() && pos.getY() <= commonBlockDefinitionModel.getMax() ) {
-                        level.setBlock(pos, block.defaultBlockState(), 2);
-                    }
+                BlockState ore = EERegistrar.getOreState(config.target.getStrataOrdinal(state), commonBlockDefinitionModel.getMaterialOrdinal());
+                if (ore != null && pos.getY() >= commonBlockDefinitionModel.getMin() && pos.getY() <= commonBlockDefinitionModel.getMax() ) {
+                    level.setBlock(pos, ore, 2);
                 }
             }
             config.placed = true;
+            return true;
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(DikeDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("index: " + index + ", model: " + new Gson().toJson(modelJson), e);
+            return false;
         }
     }
 
@@ -163,6 +179,7 @@ public class DikeOreFeature extends Feature<DikeOreFeatureConfig> {
                 Block sampleBlock = EERegistrar.oreSampleBlockTable.get(sampleBlockDefinitionModel.getStrata(), sampleBlockDefinitionModel.getMaterial()).get();
                 level.setBlock(samplePos, sampleBlock.defaultBlockState(), 2);
             }
+            config.metrics.recordSample();
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(DikeDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("model: " + new Gson().toJson(modelJson), e);
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.feature;
+
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
+
+import java.util.function.Predicate;
+
+/**
+ * A static class, used to reject deposit placements before testing any position.<br>
+ * Each chunk section keeps a palette of the block states it contains, so checking it against the filler blocks of the deposit
+ * takes a few lookups per section, instead of a rule test per candidate position.
+ * @see LevelChunkSection#maybeHas(Predicate)
+ */
+public class FillerSectionCheck {
+    /**
+     * Private constructor. This class is static, and no instances of it should be created.
+     */
+    private FillerSectionCheck() {}
+
+    /**
+     * Used to check if any chunk section overlapping the bounding box may contain a block matched by the rule test.
+     * @param level Level the deposit is placed in.
+     * @param target Rule test of the deposit.
+     * @return False if no section in the bounding box can contain a matching block, true otherwise.
+     * @apiNote Rule tests other than {@link MultiStrataRuleTest} can't be checked against a palette, and always return true.
+     * @see FillerSectionCheck#mayContainFiller(WorldGenLevel, Predicate, int, int, int, int, int, int)
+     */
+    public static boolean mayContainFiller(WorldGenLevel level, RuleTest target, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (!(target instanceof MultiStrataRuleTest rule)) return true;
+        return mayContainFiller(level, rule.getFillerPredicate(), minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Used to check if any chunk section overlapping the bounding box may contain a filler block of the deposit.
+     * @param level Level the deposit is placed in.
+     * @param filler Predicate matching the filler blocks of the deposit.
+     * @param minX Minimal X coordinate of the bounding box, inclusive.
+     * @param minY Minimal Y coordinate of the bounding box, inclusive.
+     * @param minZ Minimal Z coordinate of the bounding box, inclusive.
+     * @param maxX Maximal X coordinate of the bounding box, inclusive.
+     * @param maxY Maximal Y coordinate of the bounding box, inclusive.
+     * @param maxZ Maximal Z coordinate of the bounding box, inclusive.
+     * @return False if no section in the bounding box can contain a filler block, true otherwise.
+     * @apiNote Palettes may keep states which are no longer present in the section, so true is only a hint, while false is definitive.
+     * Chunks not accessible from the level are ignored, as features can't place blocks in them either way.
+     */
+    public static boolean mayContainFiller(WorldGenLevel level, Predicate<BlockState> filler, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int minSection = Math.max(SectionPos.blockToSectionCoord(minY), level.getMinSection());
+        int maxSection = Math.min(SectionPos.blockToSectionCoord(maxY), level.getMaxSection() - 1);
+        if (minSection > maxSection) return false;
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+                if (!level.hasChunk(chunkX, chunkZ)) continue;
+                ChunkAccess chunk = level.getChunk(chunkX, chunkZ);
+                for (int section = minSection; section <= maxSection; section++) {
+                    LevelChunkSection chunkSection = chunk.getSection(chunk.getSectionIndexFromSectionY(section));
+                    if (!chunkSection.hasOnlyAir() && chunkSection.maybeHas(filler)) return true;
+                }
+            }
+        }
+        return false;
+    }
+}
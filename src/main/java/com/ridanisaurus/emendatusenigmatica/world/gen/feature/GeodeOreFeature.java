@@ -30,13 +30,12 @@ import com.google.gson.JsonElement;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
-import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
-import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.EETags;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.GeodeOreFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -66,21 +65,38 @@ import java.util.function.Predicate;
 
 public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 	private static final Direction[] DIRECTIONS = Direction.values();
-	private final EmendatusDataRegistry registry;
+	// Flags returned by placeBlock, counted per deposit and recorded once.
+	private static final int TESTED = 1;
+	private static final int PLACED = 2;
 
 	public GeodeOreFeature() {
 		super(GeodeOreFeatureConfig.CODEC);
-		this.registry = EmendatusEnigmatica.getInstance().getDataRegistry();
 	}
 
 	@Override
 	public boolean place(FeaturePlaceContext<GeodeOreFeatureConfig> context) {
+		long start = System.nanoTime();
+		FeaturePlacementEvent event = context.config().metrics.begin();
+		try {
+			return placeDeposit(context);
+		} finally {
+			context.config().metrics.recordInvocation(System.nanoTime() - start, event);
+		}
+	}
+
+	private boolean placeDeposit(FeaturePlaceContext<GeodeOreFeatureConfig> context) {
 		RandomSource rand = context.random();
 		BlockPos pos = context.origin();
 		WorldGenLevel level = context.level();
 		var config = context.config();
 		var model = config.model;
 
+		// Shell blocks are only placed on filler blocks, so a geode without any of them in reach can't place anything but a crack.
+		if (!FillerSectionCheck.mayContainFiller(level, config.target, pos.getX() - 16, pos.getY() - 16, pos.getZ() - 16, pos.getX() + 16, pos.getY() + 16, pos.getZ() + 16)) {
+			config.metrics.recordSkipped();
+			return false;
+		}
+
 		UniformInt outerWallDistance = UniformInt.of(4, 6);
 		UniformInt distributionPoint = UniformInt.of(3, 4);
 		UniformInt pointOffset = UniformInt.of(1, 2);
@@ -142,6 +158,8 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 
 		List<BlockPos> list2 = Lists.newArrayList();
 		Predicate<BlockState> predicate = isReplaceable(BlockTags.FEATURES_CANNOT_REPLACE);
+		long tested = 0;
+		long placed = 0;
 
 		for (BlockPos blockpos3 : BlockPos.betweenClosed(pos.offset(-16, -16, -16), pos.offset(16, 16, 16))) {
 			double d8 = normalnoise.getValue((double) blockpos3.getX(), (double) blockpos3.getY(), (double) blockpos3.getZ()) * noiseMultiplier;
@@ -157,6 +175,7 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 			}
 
 			if (!(d6 < d4)) {
+				int result = 0;
 				if (flag && d7 >= d5 && d6 < d1) {
 					this.safeSetBlock(level, blockpos3, Blocks.AIR.defaultBlockState(), predicate); // Crack
 
@@ -168,19 +187,22 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 						}
 					}
 				} else if (d6 >= d1) {
-					placeBlock(level, rand, blockpos3, config.fillBlocks, predicate, config);
+					result = placeBlock(level, rand, blockpos3, config.fillBlocks, predicate, config);
 				} else if (d6 >= d2) {
-					placeBlock(level, rand, blockpos3, config.innerBlocks, predicate, config);
+					result = placeBlock(level, rand, blockpos3, config.innerBlocks, predicate, config);
 					if ((double) rand.nextFloat() < 0.35D) { // Potential Placement Chance
 						list2.add(blockpos3.immutable());
 					}
 				} else if (d6 >= d3) {
-					placeBlock(level, rand, blockpos3, config.innerShellBlocks, predicate, config);
+					result = placeBlock(level, rand, blockpos3, config.innerShellBlocks, predicate, config);
 				} else if (d6 >= d4) {
-					placeBlock(level, rand, blockpos3, config.outerShellBlocks, predicate, config);
+					result = placeBlock(level, rand, blockpos3, config.outerShellBlocks, predicate, config);
 				}
+				if ((result & TESTED) != 0) tested++;
+				if ((result & PLACED) != 0) placed++;
 			}
 		}
+		config.metrics.recordBlocks(tested, placed);
 
 		if (!config.clusters.isEmpty()) {
 			for(BlockPos blockpos4 : list2) {
@@ -211,12 +233,13 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 		return true;
 	}
 
-	private void placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, List<CommonBlockDefinitionModel> blocks, Predicate<BlockState> predicate, GeodeOreFeatureConfig config) {
-		if (!predicate.test(level.getBlockState(pos))) {
-			return;
+	private int placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, List<CommonBlockDefinitionModel> blocks, Predicate<BlockState> predicate, GeodeOreFeatureConfig config) {
+		BlockState state = level.getBlockState(pos);
+		if (!predicate.test(state)) {
+			return 0;
 		}
-		if (!config.target.test(level.getBlockState(pos), rand)) {
-			return;
+		if (!config.target.test(state, rand)) {
+			return TESTED;
 		}
 
 		int index = rand.nextInt(blocks.size());
@@ -230,13 +253,11 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 				level.setBlock(pos, block.value().defaultBlockState(), 2);
 			});
 		} else if (commonBlockDefinitionModel.getMaterial() != null) {
-			StrataModel strata = registry.getStrataFromFiller(BuiltInRegistries.BLOCK.getKey(level.getBlockState(pos).getBlock()));
-			if (strata != null) {
-				Block block = EERegistrar.oreBlockTable.get(strata.getId(), commonBlockDefinitionModel.getMaterial()).get();
-				level.setBlock(pos, block.defaultBlockState(), 2);
-			}
+			BlockState ore = EERegistrar.getOreState(config.target.getStrataOrdinal(state), commonBlockDefinitionModel.getMaterialOrdinal());
+			if (ore != null) level.setBlock(pos, ore, 2);
 		}
 		config.placed = true;
+		return TESTED | PLACED;
 	}
 
 	private void placeSampleBlock(WorldGenLevel level, RandomSource rand, BlockPos samplePos, GeodeOreFeatureConfig config) {
@@ -256,6 +277,7 @@ public class GeodeOreFeature extends Feature<GeodeOreFeatureConfig> {
 				Block sampleBlock = EERegistrar.oreSampleBlockTable.get(sampleBlockDefinitionModel.getStrata(), sampleBlockDefinitionModel.getMaterial()).get();
 				level.setBlock(samplePos, sampleBlock.defaultBlockState(), 2);
 			}
+			config.metrics.recordSample();
 		} catch (Exception e) {
 			JsonElement modelJson = JsonOps.INSTANCE.withEncoder(GeodeDepositModel.CODEC).apply(config.model).result().get();
 			EmendatusEnigmatica.logger.error("model: " + new Gson().toJson(modelJson), e);
@@ -28,23 +28,24 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.mojang.serialization.JsonOps;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
-import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sphere.SphereDepositModel;
-import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
 import com.ridanisaurus.emendatusenigmatica.registries.EETags;
 import com.ridanisaurus.emendatusenigmatica.util.MathHelper;
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.SphereOreFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.registries.BuiltInRegistries;import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
+import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
@@ -52,18 +53,26 @@ import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 
 
 public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
-    private final EmendatusDataRegistry registry;
     //NOTE: Here was a placed boolean.
     // It was moved to the configuration object.
     // No idea what its purpose was, so it's config-dependent.
 
     public SphereOreFeature() {
         super(SphereOreFeatureConfig.CODEC);
-        this.registry = EmendatusEnigmatica.getInstance().getDataRegistry();
     }
 
     @Override
     public boolean place(FeaturePlaceContext<SphereOreFeatureConfig> context) {
+        long start = System.nanoTime();
+        FeaturePlacementEvent event = context.config().metrics.begin();
+        try {
+            return placeDeposit(context);
+        } finally {
+            context.config().metrics.recordInvocation(System.nanoTime() - start, event);
+        }
+    }
+
+    private boolean placeDeposit(FeaturePlaceContext<SphereOreFeatureConfig> context) {
         RandomSource rand = context.random();
         BlockPos pos = context.origin();
         WorldGenLevel level = context.level();
@@ -73,7 +82,8 @@ public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
         int yTop = model.getMaxYLevel();
         int yBottom = model.getMinYLevel();
 
-        int yPos = rand.nextInt(yTop);
+        // nextInt can't take a non-positive bound, ranges fully below Y 1 are sampled uniformly instead.
+        int yPos = yTop > 0 ? rand.nextInt(yTop) : Mth.randomBetweenInclusive(rand, yBottom, yTop);
         yPos = Math.max(yPos, yBottom);
         // TODO: Fix the radius calculation
         int radius = model.getRadius();
@@ -92,6 +102,17 @@ public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
         final int ceilRadiusY = (int) Math.ceil(radius);
         final int ceilRadiusZ = (int) Math.ceil(radius);
 
+        // Placement positions are shifted by up to one block, hence the extra block on the max side of the bounding box.
+        // Only the upper half is checked against the Y range, its mirrored positions below yPos can reach under yBottom.
+        if (!FillerSectionCheck.mayContainFiller(level, config.target,
+                pos.getX() - ceilRadiusX, yPos - Math.min(ceilRadiusY, yTop - yPos), pos.getZ() - ceilRadiusZ,
+                pos.getX() + ceilRadiusX + 1, Math.min(yPos + ceilRadiusY, yTop) + 1, pos.getZ() + ceilRadiusZ + 1)) {
+            config.metrics.recordSkipped();
+            return false;
+        }
+
+        long tested = 0;
+        long placed = 0;
         double nextXn = 0;
         forX:
         for (int x = 0; x <= ceilRadiusX; ++x) {
@@ -122,26 +143,29 @@ public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
                         continue;
                     }
                     int randomizer = Math.random() >= 0.5D ? 1 : 0;
-                    placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + y + randomizer, pos.getZ() + z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + y + randomizer, pos.getZ() + z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + -y + randomizer, pos.getZ() + z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + y + randomizer, pos.getZ() + -z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + -y + randomizer, pos.getZ() + z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + -y + randomizer, pos.getZ() + -z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + y + randomizer, pos.getZ() + -z + randomizer), config);
-                    placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + -y + randomizer, pos.getZ() + -z + randomizer), config);
+                    tested += 8;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + y + randomizer, pos.getZ() + z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + y + randomizer, pos.getZ() + z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + -y + randomizer, pos.getZ() + z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + y + randomizer, pos.getZ() + -z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + -y + randomizer, pos.getZ() + z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + x + randomizer, yPos + -y + randomizer, pos.getZ() + -z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + y + randomizer, pos.getZ() + -z + randomizer), config)) placed++;
+                    if (placeBlock(level, rand, new BlockPos(pos.getX() + -x + randomizer, yPos + -y + randomizer, pos.getZ() + -z + randomizer), config)) placed++;
                 }
             }
         }
+        config.metrics.recordBlocks(tested, placed);
         if (rand.nextInt(100) < model.getChance() && !config.sampleBlocks.isEmpty()) {
             placeSurfaceSample(rand, pos, level, config);
         }
         return true;
     }
 
-    private void placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, SphereOreFeatureConfig config) {
-        if (!config.target.test(level.getBlockState(pos), rand)) {
-            return;
+    private boolean placeBlock(WorldGenLevel level, RandomSource rand, BlockPos pos, SphereOreFeatureConfig config) {
+        BlockState state = level.getBlockState(pos);
+        if (!config.target.test(state, rand)) {
+            return false;
         }
 
         int index = rand.nextInt(config.blocks.size());
@@ -156,16 +180,15 @@ public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
                     level.setBlock(pos, block.value().defaultBlockState(), 2);
                 });
             } else if (commonBlockDefinitionModel.getMaterial() != null) {
-                StrataModel strata = registry.getStrataFromFiller(BuiltInRegistries.BLOCK.getKey(level.getBlockState(pos).getBlock()));
-                if (strata != null) {
-                    Block block = EERegistrar.oreBlockTable.get(strata.getId(), commonBlockDefinitionModel.getMaterial()).get();
-                    level.setBlock(pos, block.defaultBlockState(), 2);
-                }
+                BlockState ore = EERegistrar.getOreState(config.target.getStrataOrdinal(state), commonBlockDefinitionModel.getMaterialOrdinal());
+                if (ore != null) level.setBlock(pos, ore, 2);
             }
             config.placed = true;
+            return true;
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(SphereDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("index: " + index + ", model: " + new Gson().toJson(modelJson), e);
+            return false;
         }
     }
 
@@ -186,6 +209,7 @@ public class SphereOreFeature extends Feature<SphereOreFeatureConfig> {
                 Block sampleBlock = EERegistrar.oreSampleBlockTable.get(sampleBlockDefinitionModel.getStrata(), sampleBlockDefinitionModel.getMaterial()).get();
                 level.setBlock(samplePos, sampleBlock.defaultBlockState(), 2);
             }
+            config.metrics.recordSample();
         } catch (Exception e) {
             JsonElement modelJson = JsonOps.INSTANCE.withEncoder(SphereDepositModel.CODEC).apply(config.model).result().get();
             EmendatusEnigmatica.logger.error("model: " + new Gson().toJson(modelJson), e);
@@ -44,6 +44,7 @@ import net.minecraft.core.registries.BuiltInRegistries;import net.minecraft.reso
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 
@@ -401,8 +402,8 @@ public class TestOreFeature extends Feature<TestOreFeatureConfig> {
             } else if (commonBlockDefinitionModel.getMaterial() != null) {
                 StrataModel strata = registry.getStrataFromFiller(BuiltInRegistries.BLOCK.getKey(reader.getBlockState(pos).getBlock()));
                 if (strata != null) {
-                    Block block = EERegistrar.oreBlockTable.get(strata.getId(), commonBlockDefinitionModel.getMaterial()).get();
-                    reader.setBlock(pos, block.defaultBlockState(), 2);
+                    BlockState ore = EERegistrar.getOreState(strata.getId(), commonBlockDefinitionModel.getMaterial());
+                    if (ore != null) reader.setBlock(pos, ore, 2);
                 }
             }
         } catch (Exception e) {
@@ -24,6 +24,7 @@
 
 package com.ridanisaurus.emendatusenigmatica.world.gen.feature;
 
+import com.ridanisaurus.emendatusenigmatica.util.jfr.FeaturePlacementEvent;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.VanillaOreFeatureConfig;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
@@ -48,6 +49,16 @@ public class VanillaOreFeature extends Feature<VanillaOreFeatureConfig> {
 	}
 
 	public boolean place(FeaturePlaceContext<VanillaOreFeatureConfig> context) {
+		long start = System.nanoTime();
+		FeaturePlacementEvent event = context.config().metrics.begin();
+		try {
+			return placeDeposit(context);
+		} finally {
+			context.config().metrics.recordInvocation(System.nanoTime() - start, event);
+		}
+	}
+
+	private boolean placeDeposit(FeaturePlaceContext<VanillaOreFeatureConfig> context) {
 		RandomSource rand = context.random();
 		BlockPos pos = context.origin();
 		WorldGenLevel reader = context.level();
@@ -69,6 +80,11 @@ public class VanillaOreFeature extends Feature<VanillaOreFeatureConfig> {
 		int j1 = 2 * (Mth.ceil(f1) + i);
 		int k1 = 2 * (2 + i);
 
+		if (!FillerSectionCheck.mayContainFiller(reader, config.fillers.get(), k, l, i1, k + j1, l + k1, i1 + j1)) {
+			config.metrics.recordSkipped();
+			return false;
+		}
+
 		for (int l1 = k; l1 <= k + j1; ++l1) {
 			for (int i2 = i1; i2 <= i1 + j1; ++i2) {
 				if (l <= reader.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, l1, i2)) {
@@ -97,6 +113,7 @@ public class VanillaOreFeature extends Feature<VanillaOreFeatureConfig> {
 		int height
 	) {
 		int i = 0;
+		int tested = 0;
 		BitSet bitset = new BitSet(width * height * width);
 		BlockPos.MutableBlockPos blockpos$mutableblockpos = new BlockPos.MutableBlockPos();
 		int j = config.model.getSize();
@@ -172,6 +189,7 @@ public class VanillaOreFeature extends Feature<VanillaOreFeatureConfig> {
 														int j3 = SectionPos.sectionRelative(j2);
 														int k3 = SectionPos.sectionRelative(k2);
 														BlockState blockstate = levelchunksection.getBlockState(i3, j3, k3);
+														++tested;
 
 														for (OreConfiguration.TargetBlockState oreconfiguration$targetblockstate : targetBlockStates) {
 															if (canPlaceOre(blockstate, bulksectionaccess::getBlockState, rand, oreconfiguration$targetblockstate, blockpos$mutableblockpos)) {
@@ -202,6 +220,7 @@ public class VanillaOreFeature extends Feature<VanillaOreFeatureConfig> {
 		}
 
 		bulksectionaccess.close();
+		config.metrics.recordBlocks(tested, i);
 		return i > 0;
 	}
 
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.feature.config;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.minecraft.world.level.levelgen.placement.PlacementModifier;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CompositeOreFeatureConfig implements FeatureConfiguration {
+	public static final Codec<CompositeOreFeatureConfig> CODEC = RecordCodecBuilder.create((x) -> x.group(
+		Entry.CODEC.listOf().fieldOf("deposits").forGetter(it -> it.deposits)
+	).apply(x, CompositeOreFeatureConfig::new));
+
+	public final List<Entry> deposits;
+
+	public CompositeOreFeatureConfig(List<Entry> deposits) {
+		this.deposits = deposits;
+	}
+
+	/**
+	 * A single deposit placed by the composite feature.<br>
+	 * Holds everything the placed feature of the deposit would, with the biome filter replaced by an explicit list of biomes,
+	 * as the vanilla filter only accepts features listed directly in the biome.
+	 */
+	public static class Entry {
+		public static final Codec<Entry> CODEC = RecordCodecBuilder.create((x) -> x.group(
+			Codec.STRING.fieldOf("name").forGetter(it -> it.name),
+			ConfiguredFeature.CODEC.fieldOf("feature").forGetter(it -> it.feature),
+			PlacementModifier.CODEC.listOf().fieldOf("placement").forGetter(it -> it.placement),
+			Codec.STRING.listOf().fieldOf("biomes").forGetter(it -> it.biomes)
+		).apply(x, Entry::new));
+
+		public final String name;
+		public final Holder<ConfiguredFeature<?, ?>> feature;
+		public final List<PlacementModifier> placement;
+		public final List<String> biomes;
+		/**
+		 * Used to seed the random of the deposit, stable across reordering or adding other deposits.
+		 */
+		public final int salt;
+		private final Set<ResourceKey<Biome>> biomeKeys = new HashSet<>();
+		private final List<TagKey<Biome>> biomeTags = new ArrayList<>();
+
+		public Entry(String name, Holder<ConfiguredFeature<?, ?>> feature, List<PlacementModifier> placement, List<String> biomes) {
+			this.name = name;
+			this.feature = feature;
+			this.placement = placement;
+			this.biomes = biomes;
+			this.salt = name.hashCode();
+
+			for (String biome : biomes) {
+				if (biome.startsWith("#")) {
+					biomeTags.add(TagKey.create(Registries.BIOME, ResourceLocation.parse(biome.substring(1))));
+				} else {
+					biomeKeys.add(ResourceKey.create(Registries.BIOME, ResourceLocation.parse(biome)));
+				}
+			}
+		}
+
+		/**
+		 * Used to check if the deposit can generate in the biome.
+		 * @param biome Biome at the placement position.
+		 * @return True if the biome is listed directly, or through one of the tags.
+		 */
+		public boolean isAllowed(Holder<Biome> biome) {
+			if (biome.unwrapKey().filter(biomeKeys::contains).isPresent()) return true;
+			for (TagKey<Biome> tag : biomeTags) {
+				if (biome.is(tag)) return true;
+			}
+			return false;
+		}
+	}
+}
@@ -29,10 +29,10 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dense.DenseDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
+import com.ridanisaurus.emendatusenigmatica.world.gen.WorldGenMetrics;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
-import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,18 +40,20 @@ import java.util.List;
 public class DenseOreFeatureConfig implements FeatureConfiguration {
 	public static final Codec<DenseOreFeatureConfig> CODEC = RecordCodecBuilder.create((x) -> x.group(
 		DenseDepositModel.CODEC.fieldOf("model").forGetter(it -> it.model),
-		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> (MultiStrataRuleTest) it.target)
+		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> it.target)
 	).apply(x, DenseOreFeatureConfig::new));
 
-	public final RuleTest target;
+	public final MultiStrataRuleTest target;
 	public final DenseDepositModel model;
+	public final WorldGenMetrics.FeatureMetrics metrics;
 	public final List<CommonBlockDefinitionModel> blocks;
 	public final List<SampleBlockDefinitionModel> sampleBlocks;
 	public boolean placed = false;
 
-	public DenseOreFeatureConfig(DenseDepositModel model, RuleTest target) {
+	public DenseOreFeatureConfig(DenseDepositModel model, MultiStrataRuleTest target) {
 		this.target = target;
 		this.model = model;
+		this.metrics = WorldGenMetrics.get(model.getName());
 
 		blocks = new ArrayList<>();
 		for (CommonBlockDefinitionModel block : model.getBlocks()) {
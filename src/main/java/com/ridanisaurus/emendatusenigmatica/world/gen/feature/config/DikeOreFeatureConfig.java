@@ -29,28 +29,30 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.dike.DikeDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
+import com.ridanisaurus.emendatusenigmatica.world.gen.WorldGenMetrics;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
 import net.minecraft.core.NonNullList;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
-import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
 
 import java.util.ArrayList;
 
 public class DikeOreFeatureConfig implements FeatureConfiguration {
 	public static final Codec<DikeOreFeatureConfig> CODEC = RecordCodecBuilder.create((x) -> x.group(
 		DikeDepositModel.CODEC.fieldOf("model").forGetter(it -> it.model),
-		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> (MultiStrataRuleTest) it.target)
+		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> it.target)
 	).apply(x, DikeOreFeatureConfig::new));
 
-	public final RuleTest target;
+	public final MultiStrataRuleTest target;
 	public final DikeDepositModel model;
+	public final WorldGenMetrics.FeatureMetrics metrics;
 	public final ArrayList<CommonBlockDefinitionModel> blocks;
 	public final ArrayList<SampleBlockDefinitionModel> sampleBlocks;
 	public boolean placed = false;
 
-	public DikeOreFeatureConfig(DikeDepositModel model, RuleTest target) {
+	public DikeOreFeatureConfig(DikeDepositModel model, MultiStrataRuleTest target) {
 		this.target = target;
 		this.model = model;
+		this.metrics = WorldGenMetrics.get(model.getName());
 
 		blocks = new ArrayList<>();
 		for (CommonBlockDefinitionModel block : model.getBlocks()) {
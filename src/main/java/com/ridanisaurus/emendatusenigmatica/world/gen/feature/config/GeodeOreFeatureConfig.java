@@ -29,13 +29,13 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonBlockDefinitionModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.geode.GeodeDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.sample.SampleBlockDefinitionModel;
+import com.ridanisaurus.emendatusenigmatica.world.gen.WorldGenMetrics;
 import com.ridanisaurus.emendatusenigmatica.world.gen.feature.rule.MultiStrataRuleTest;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
-import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,11 +44,12 @@ import java.util.Objects;
 public class GeodeOreFeatureConfig implements FeatureConfiguration {
 	public static final Codec<GeodeOreFeatureConfig> CODEC = RecordCodecBuilder.create((x) -> x.group(
 		GeodeDepositModel.CODEC.fieldOf("model").forGetter(it -> it.model),
-		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> (MultiStrataRuleTest) it.target)
+		MultiStrataRuleTest.CODEC.fieldOf("target").forGetter(it -> it.target)
 	).apply(x, GeodeOreFeatureConfig::new));
 
-	public final RuleTest target;
+	public final MultiStrataRuleTest target;
 	public final GeodeDepositModel model;
+	public final WorldGenMetrics.FeatureMetrics metrics;
 	public final List<CommonBlockDefinitionModel> outerShellBlocks;
 	public final List<CommonBlockDefinitionModel> innerShellBlocks;
 	public final List<CommonBlockDefinitionModel> innerBlocks;
@@ -57,9 +58,10 @@ public class GeodeOreFeatureConfig implements FeatureConfiguration {
 	public final List<BlockState> clusters;
 	public boolean placed = false;
 
-	public GeodeOreFeatureConfig(GeodeDepositModel model, RuleTest target) {
+	public GeodeOreFeatureConfig(GeodeDepositModel model, MultiStrataRuleTest target) {
 		this.target = target;
 		this.model = model;
+		this.metrics = WorldGenMetrics.get(model.getName());
 
 		outerShellBlocks = new ArrayList<>();
 		for (CommonBlockDefinitionModel outerShellBlock : model.getOuterShellBlocks()) {
@@ -32,6 +32,8 @@ import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vanilla.VanillaDepositModel;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
 import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import com.ridanisaurus.emendatusenigmatica.world.gen.WorldGenMetrics;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.Block;
@@ -40,11 +42,12 @@ import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfigur
 import net.minecraft.world.level.levelgen.feature.configurations.OreConfiguration;
 import net.minecraft.world.level.levelgen.structure.templatesystem.BlockMatchTest;
 import net.neoforged.neoforge.common.util.Lazy;
-import net.neoforged.neoforge.registries.DeferredBlock;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class VanillaOreFeatureConfig implements FeatureConfiguration {
     public static final Codec<VanillaOreFeatureConfig> CODEC = RecordCodecBuilder.create((x) -> x.group(
@@ -52,13 +55,40 @@ public class VanillaOreFeatureConfig implements FeatureConfiguration {
     ).apply(x, VanillaOreFeatureConfig::new));
     private final EmendatusDataRegistry registry;
     public final VanillaDepositModel model;
+    public final WorldGenMetrics.FeatureMetrics metrics;
     public final Lazy<List<OreConfiguration.TargetBlockState>> targets;
+    public final Lazy<Predicate<BlockState>> fillers;
 
     public VanillaOreFeatureConfig(VanillaDepositModel model) {
-        this.model = model;
         // CODEC Requires acquiring DataRegistry from the Loader Instance.
-        this.registry = EmendatusEnigmatica.getInstance().getDataRegistry();
+        this(model, EmendatusEnigmatica.getInstance().getDataRegistry());
+    }
+
+    /**
+     * Used to create the config against a specific data registry, without going through the mod instance.
+     * @param model Vanilla deposit model.
+     * @param registry Data registry used to resolve strata and materials of the deposit.
+     */
+    public VanillaOreFeatureConfig(VanillaDepositModel model, EmendatusDataRegistry registry) {
+        this.model = model;
+        this.metrics = WorldGenMetrics.get(model.getName());
+        this.registry = registry;
         this.targets = Lazy.of(this::createTargetStateList);
+        this.fillers = Lazy.of(this::createFillerPredicate);
+    }
+
+    /**
+     * Used to create the predicate matching filler blocks of the deposit, for the section palette pre-check.
+     * @return Predicate matching the filler blocks.
+     */
+    private Predicate<BlockState> createFillerPredicate() {
+        Set<Block> blocks = new ReferenceOpenHashSet<>();
+        for (StrataModel stratum : registry.getStrata()) {
+            if (model.getFillerTypes().contains(stratum.getId()) && BuiltInRegistries.BLOCK.containsKey(stratum.getFillerType())) {
+                blocks.add(BuiltInRegistries.BLOCK.get(stratum.getFillerType()));
+            }
+        }
+        return state -> blocks.contains(state.getBlock());
     }
 
     private List<OreConfiguration.TargetBlockState> createTargetStateList() {
@@ -97,13 +127,12 @@ public class VanillaOreFeatureConfig implements FeatureConfiguration {
                 continue;
             }
 
-            DeferredBlock<Block> blockRegistryObject = EERegistrar.oreBlockTable.get(stratum.getId(), material.getId());
-            if (blockRegistryObject == null) {
+            BlockState oreBlockstate = EERegistrar.getOreState(stratum.getId(), material.getId());
+            if (oreBlockstate == null) {
                 EmendatusEnigmatica.logger.warn("Unable to find the combination of {} and {} in the ore block table", stratum.getId(), material.getId());
                 continue;
             }
 
-            BlockState oreBlockstate = blockRegistryObject.get().defaultBlockState();
             states.add(OreConfiguration.target(new BlockMatchTest(stratumBlock), oreBlockstate));
         }
 
@@ -28,7 +28,12 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
 import com.ridanisaurus.emendatusenigmatica.plugin.model.StrataModel;
+import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.block.Block;
@@ -36,8 +41,10 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTest;
 import net.minecraft.world.level.levelgen.structure.templatesystem.RuleTestType;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class MultiStrataRuleTest extends RuleTest {
 	public static final MapCodec<MultiStrataRuleTest> CODEC = RecordCodecBuilder.mapCodec(x -> x.group(
@@ -48,30 +55,61 @@ public class MultiStrataRuleTest extends RuleTest {
 		TYPE = RuleTestType.register("multi_block_test", CODEC);
 	}
 	public static RuleTestType<MultiStrataRuleTest> TYPE;
-	private final List<Block> blockFillerList = new ArrayList<>();
+	private final Set<Block> blockFillers = new ReferenceOpenHashSet<>();
+	private final Reference2IntMap<Block> strataOrdinals = new Reference2IntOpenHashMap<>();
+	private final Predicate<BlockState> fillerPredicate = state -> blockFillers.contains(state.getBlock());
 	private final List<String> fillerList;
 
 	public MultiStrataRuleTest(List<String> fillerList) {
+		this(fillerList, EmendatusEnigmatica.getInstance().getLoader().getDataRegistry());
+	}
+
+	/**
+	 * Used to create the rule test against a specific data registry, without going through the mod instance.
+	 * @param fillerList List of strata IDs this rule should match.
+	 * @param registry Data registry used to resolve the filler blocks of the strata.
+	 */
+	public MultiStrataRuleTest(List<String> fillerList, EmendatusDataRegistry registry) {
 		this.fillerList = fillerList;
-		setup();
+		this.strataOrdinals.defaultReturnValue(-1);
+		setup(registry);
 	}
 
-	private void setup() {
-		for (StrataModel stratum : EmendatusEnigmatica.getInstance().getLoader().getDataRegistry().getStrata()) {
+	private void setup(EmendatusDataRegistry registry) {
+		for (StrataModel stratum : registry.getStrata()) {
 			if (this.fillerList.contains(stratum.getId())) {
-				this.blockFillerList.add(BuiltInRegistries.BLOCK.get(stratum.getFillerType()));
+				Block filler = BuiltInRegistries.BLOCK.get(stratum.getFillerType());
+				this.blockFillers.add(filler);
+				// Strata sharing the filler resolve to the same one as the registry does.
+				StrataModel resolved = Objects.requireNonNull(registry.getStrataFromFiller(stratum.getFillerType()));
+				this.strataOrdinals.put(filler, EERegistrar.oreBlockTable.getStrataOrdinal(resolved.getId()));
 			}
 		}
 	}
 
+	/**
+	 * Used to get the predicate matching filler blocks of this rule, without the random source.
+	 * @return Predicate matching the filler blocks.
+	 * @apiNote Meant for palette checks, like {@link net.minecraft.world.level.chunk.LevelChunkSection#maybeHas(Predicate)}.
+	 */
+	public Predicate<BlockState> getFillerPredicate() {
+		return fillerPredicate;
+	}
+
+	/**
+	 * Used to get the ordinal of the strata in the {@link EERegistrar#oreBlockTable}, of the filler matched by this rule.
+	 * @param state Filler state, which passed this rule.
+	 * @return Ordinal of the strata, or -1 if the state isn't a filler of this rule, or no ore of the strata is registered.
+	 * @see EERegistrar#getOreState(int, int)
+	 */
+	public int getStrataOrdinal(BlockState state) {
+		return strataOrdinals.getInt(state.getBlock());
+	}
+
 	@Override
 	public boolean test(BlockState state, RandomSource rand) {
-		for (Block block : blockFillerList) {
-			if (BuiltInRegistries.BLOCK.getKey(state.getBlock()).toString().equals(BuiltInRegistries.BLOCK.getKey(block).toString())) {
-				return true;
-			}
-		}
-		return false;
+		// Blocks are registry singletons, so identity lookup is equivalent to comparing their registry keys.
+		return blockFillers.contains(state.getBlock());
 	}
 
 	@Override
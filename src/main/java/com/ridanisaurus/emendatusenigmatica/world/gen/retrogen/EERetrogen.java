@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.retrogen;
+
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.config.EEConfig;
+import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
+import com.ridanisaurus.emendatusenigmatica.plugin.deposit.DepositType;
+import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.common.CommonDepositModelBase;
+import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import com.ridanisaurus.emendatusenigmatica.util.Reference;
+import com.ridanisaurus.emendatusenigmatica.util.WorldGenHelper;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.CompositeOreFeature;
+import com.ridanisaurus.emendatusenigmatica.world.gen.feature.config.CompositeOreFeatureConfig;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.RandomSupport;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import net.minecraft.world.level.levelgen.placement.PlacementContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A static class, used to generate deposits added to the pack in chunks generated before they were present.
+ * <br><br>
+ * Each chunk stores the version (hash) of the deposit set it was generated with, see {@link EERegistrar#DEPOSIT_VERSION}.
+ * Outdated chunks are queued when loaded, and the missing deposits are placed on the server thread,
+ * within {@link EEConfig.StartupConfig#retrogenBudget} milliseconds per tick. Writes are limited to the 3x3 chunks around the
+ * retrogenerated one, see {@link RetrogenLevel}.
+ * <br><br>
+ * Deposits are seeded the same way as by the {@link CompositeOreFeature}, so with {@link EEConfig.StartupConfig#compositeDeposits}
+ * enabled, a retrogenerated chunk matches the one it would be with the deposit present from the start. Separate deposit features
+ * are seeded by their index in the feature list of the biomes, which depends on the whole pack, so without it,
+ * retrogenerated deposits follow the same placement rules, but at different positions than in a fresh chunk.
+ * @apiNote Only added deposits are placed, deposits changed under the same name are never placed twice. Veins are part of the
+ * noise generation, and can't be retrogenerated.
+ */
+public class EERetrogen {
+    private static final Map<ResourceKey<Level>, LevelState> levels = new HashMap<>();
+
+    /**
+     * Private constructor. This class is static, and no instances of it should be created.
+     */
+    private EERetrogen() {}
+
+    /**
+     * Used to tag new chunks with the current deposit version, and queue outdated ones.
+     * @param level Level of the chunk.
+     * @param chunk Loaded chunk.
+     * @param newChunk Whether the chunk was just generated.
+     */
+    public static void onChunkLoad(ServerLevel level, ChunkAccess chunk, boolean newChunk) {
+        if (!EEConfig.startup.retrogen.get()) return;
+        LevelState state = getState(level);
+        if (newChunk) {
+            setVersion(chunk, state.version);
+            return;
+        }
+
+        int version = chunk.hasData(EERegistrar.DEPOSIT_VERSION) ? chunk.getData(EERegistrar.DEPOSIT_VERSION) : state.data.getBaseline();
+        if (version != state.version) state.enqueue(chunk.getPos());
+    }
+
+    /**
+     * Used to retrogenerate the queued chunks of all levels, until the time budget of the tick runs out.
+     * @param server Ticking server.
+     */
+    public static void onServerTick(MinecraftServer server) {
+        if (!EEConfig.startup.retrogen.get() || levels.isEmpty()) return;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EEConfig.startup.retrogenBudget.get());
+        for (ServerLevel level : server.getAllLevels()) {
+            LevelState state = levels.get(level.dimension());
+            if (state == null) continue;
+            // Chunks without loaded neighbours are put back, each chunk is visited at most once per tick.
+            for (int i = state.queue.size(); i > 0 && System.nanoTime() < deadline; i--) {
+                ChunkPos pos = state.queue.poll();
+                switch (retrogen(level, state, pos)) {
+                    case DONE, UNLOADED -> state.queued.remove(pos.toLong());
+                    case WAITING -> state.queue.add(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Used to drop the state of the level, including its queue.
+     * @param level Unloaded level.
+     * @apiNote Queued chunks are unloaded with the level, and are queued again on their next load.
+     */
+    public static void onLevelUnload(ServerLevel level) {
+        levels.remove(level.dimension());
+    }
+
+    private static Result retrogen(ServerLevel level, LevelState state, ChunkPos pos) {
+        LevelChunk chunk = level.getChunkSource().getChunkNow(pos.x, pos.z);
+        if (chunk == null) return Result.UNLOADED;
+        // Deposits spread into the neighbouring chunks, same as during the decoration step.
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (level.getChunkSource().getChunkNow(pos.x + dx, pos.z + dz) == null) return Result.WAITING;
+            }
+        }
+
+        int version = chunk.hasData(EERegistrar.DEPOSIT_VERSION) ? chunk.getData(EERegistrar.DEPOSIT_VERSION) : state.data.getBaseline();
+        List<String> present = state.data.getDeposits(version);
+        if (present == null) {
+            // Unknown version, there is no way to tell which deposits are missing.
+            EmendatusEnigmatica.logger.warn("Chunk {} in {} has an unknown deposit version, skipping retrogen.", pos, level.dimension().location());
+            setVersion(chunk, state.version);
+            return Result.DONE;
+        }
+
+        BlockPos origin = new BlockPos(pos.getMinBlockX(), level.getMinBuildHeight(), pos.getMinBlockZ());
+        PlacementContext context = new PlacementContext(new RetrogenLevel(level, pos), level.getChunkSource().getGenerator(), Optional.empty());
+        WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
+        long decorationSeed = random.setDecorationSeed(level.getSeed(), origin.getX(), origin.getZ());
+        for (CompositeOreFeatureConfig.Entry deposit : state.deposits) {
+            if (present.contains(deposit.name)) continue;
+            CompositeOreFeature.placeDeposit(deposit, context, random, decorationSeed, origin);
+        }
+        setVersion(chunk, state.version);
+        return Result.DONE;
+    }
+
+    private static void setVersion(ChunkAccess chunk, int version) {
+        chunk.setData(EERegistrar.DEPOSIT_VERSION, version);
+        chunk.setUnsaved(true);
+    }
+
+    private static LevelState getState(ServerLevel level) {
+        return levels.computeIfAbsent(level.dimension(), key -> new LevelState(level));
+    }
+
+    private enum Result {
+        DONE,
+        WAITING,
+        UNLOADED
+    }
+
+    /**
+     * Holds the current deposit set and the retrogen queue of a single level.
+     */
+    private static class LevelState {
+        private final List<CompositeOreFeatureConfig.Entry> deposits = new ArrayList<>();
+        private final EERetrogenData data;
+        private final int version;
+        private final Queue<ChunkPos> queue = new ArrayDeque<>();
+        private final LongSet queued = new LongOpenHashSet();
+
+        private LevelState(ServerLevel level) {
+            String dimension = level.dimension().location().toString();
+            var features = level.registryAccess().registryOrThrow(Registries.CONFIGURED_FEATURE);
+            for (IDepositProcessor processor : DefaultLoader.ACTIVE_PROCESSORS) {
+                DepositType type = DepositType.typeOf(processor.getType());
+                if (type == null || type == DepositType.VEIN) continue;
+                CommonDepositModelBase model = processor.getCommonModel();
+                if (!model.getDimension().equals(dimension)) continue;
+
+                var feature = features.getHolder(ResourceKey.create(Registries.CONFIGURED_FEATURE, ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, processor.getName())));
+                if (feature.isEmpty()) {
+                    EmendatusEnigmatica.logger.warn("Unable to find the feature of {} deposit, it won't be retrogenerated.", processor.getName());
+                    continue;
+                }
+                deposits.add(new CompositeOreFeatureConfig.Entry(processor.getName(), feature.get(), WorldGenHelper.getCompositeOrePlacement(processor), WorldGenHelper.getDepositBiomes(model)));
+            }
+            deposits.sort(Comparator.comparing(it -> it.name));
+
+            List<String> names = deposits.stream().map(it -> it.name).toList();
+            this.version = names.hashCode();
+            this.data = EERetrogenData.get(level);
+            this.data.register(version, names);
+        }
+
+        private void enqueue(ChunkPos pos) {
+            if (queued.add(pos.toLong())) queue.add(pos);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.retrogen;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level storage of the deposit sets, referenced by the deposit versions stored in chunks.<br>
+ * Chunks only store the hash of their deposit set, the names of the deposits are kept here once per version.
+ */
+public class EERetrogenData extends SavedData {
+    private static final String NAME = "emendatusenigmatica_retrogen";
+    private static final SavedData.Factory<EERetrogenData> FACTORY = new SavedData.Factory<>(EERetrogenData::new, EERetrogenData::load, null);
+    private final Map<Integer, List<String>> versions = new HashMap<>();
+    private @Nullable Integer baseline;
+
+    /**
+     * Used to get (or create) the retrogen data of the level.
+     * @param level Level to get the data of.
+     * @return Retrogen data of the level.
+     */
+    public static EERetrogenData get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(FACTORY, NAME);
+    }
+
+    /**
+     * Used to register the deposit set of the version, and make it the baseline if there is none yet.
+     * @param version Hash of the deposit set.
+     * @param deposits Names of the deposits.
+     * @apiNote Baseline is the version assumed for chunks without one, generated before the retrogen was enabled.
+     */
+    public void register(int version, List<String> deposits) {
+        if (!versions.containsKey(version)) {
+            versions.put(version, List.copyOf(deposits));
+            setDirty();
+        }
+        if (baseline == null) {
+            baseline = version;
+            setDirty();
+        }
+    }
+
+    /**
+     * Used to get the deposit set of the version.
+     * @param version Hash of the deposit set.
+     * @return Names of the deposits, or null if the version is unknown.
+     */
+    public @Nullable List<String> getDeposits(int version) {
+        return versions.get(version);
+    }
+
+    /**
+     * Used to get the version assumed for chunks without one.
+     * @return Baseline version.
+     * @throws IllegalStateException if no version was registered yet.
+     */
+    public int getBaseline() {
+        if (baseline == null) throw new IllegalStateException("Retrogen baseline requested before registering any deposit version!");
+        return baseline;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        if (baseline != null) tag.putInt("baseline", baseline);
+        ListTag list = new ListTag();
+        versions.forEach((version, deposits) -> {
+            CompoundTag entry = new CompoundTag();
+            entry.putInt("version", version);
+            ListTag names = new ListTag();
+            deposits.forEach(name -> names.add(StringTag.valueOf(name)));
+            entry.put("deposits", names);
+            list.add(entry);
+        });
+        tag.put("versions", list);
+        return tag;
+    }
+
+    private static EERetrogenData load(CompoundTag tag, HolderLookup.Provider registries) {
+        EERetrogenData data = new EERetrogenData();
+        if (tag.contains("baseline", Tag.TAG_INT)) data.baseline = tag.getInt("baseline");
+        for (Tag element : tag.getList("versions", Tag.TAG_COMPOUND)) {
+            CompoundTag entry = (CompoundTag) element;
+            data.versions.put(entry.getInt("version"), entry.getList("deposits", Tag.TAG_STRING).stream().map(Tag::getAsString).toList());
+        }
+        return data;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ridanisaurus.emendatusenigmatica.world.gen.retrogen;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.level.storage.LevelData;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.ticks.LevelTickAccess;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * View of a {@link ServerLevel} limited to the 3x3 chunks around a retrogenerated chunk, same as the region of the decoration step.
+ * <br><br>
+ * Blocks outside of the area read as air, and can't be written, so deposits reaching further are cut off
+ * instead of loading (or generating) more chunks on the server thread. Everything else is delegated to the level.
+ */
+class RetrogenLevel implements WorldGenLevel {
+    private final ServerLevel level;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+
+    /**
+     * Used to create the view.
+     * @param level Level of the chunk.
+     * @param center Retrogenerated chunk. The chunks around it have to be loaded.
+     */
+    RetrogenLevel(ServerLevel level, ChunkPos center) {
+        this.level = level;
+        this.minChunkX = center.x - 1;
+        this.minChunkZ = center.z - 1;
+        this.maxChunkX = center.x + 1;
+        this.maxChunkZ = center.z + 1;
+    }
+
+    private boolean isInArea(int chunkX, int chunkZ) {
+        return chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ;
+    }
+
+    private boolean isInArea(BlockPos pos) {
+        return isInArea(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return isInArea(pos) ? level.getBlockState(pos) : Blocks.AIR.defaultBlockState();
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return isInArea(pos) ? level.getFluidState(pos) : Fluids.EMPTY.defaultFluidState();
+    }
+
+    @Override
+    public boolean isStateAtPosition(BlockPos pos, Predicate<BlockState> predicate) {
+        return predicate.test(getBlockState(pos));
+    }
+
+    @Override
+    public boolean isFluidAtPosition(BlockPos pos, Predicate<FluidState> predicate) {
+        return predicate.test(getFluidState(pos));
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+        return isInArea(pos) ? level.getBlockEntity(pos) : null;
+    }
+
+    @Override
+    public boolean ensureCanWrite(BlockPos pos) {
+        return isInArea(pos);
+    }
+
+    @Override
+    public boolean setBlock(BlockPos pos, BlockState state, int flags, int recursionLeft) {
+        return isInArea(pos) && level.setBlock(pos, state, flags, recursionLeft);
+    }
+
+    @Override
+    public boolean removeBlock(BlockPos pos, boolean isMoving) {
+        return isInArea(pos) && level.removeBlock(pos, isMoving);
+    }
+
+    @Override
+    public boolean destroyBlock(BlockPos pos, boolean dropBlock, @Nullable Entity entity, int recursionLeft) {
+        return isInArea(pos) && level.destroyBlock(pos, dropBlock, entity, recursionLeft);
+    }
+
+    @Override
+    public @Nullable ChunkAccess getChunk(int chunkX, int chunkZ, ChunkStatus status, boolean require) {
+        if (isInArea(chunkX, chunkZ)) return level.getChunk(chunkX, chunkZ, status, require);
+        if (require) throw new IllegalStateException("Chunk [%d, %d] is outside of the retrogen area around [%d, %d]!".formatted(chunkX, chunkZ, minChunkX + 1, minChunkZ + 1));
+        return null;
+    }
+
+    @Override
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        return isInArea(chunkX, chunkZ);
+    }
+
+    @Override
+    public int getHeight(Heightmap.Types type, int x, int z) {
+        return isInArea(x >> 4, z >> 4) ? level.getHeight(type, x, z) : getMinBuildHeight();
+    }
+
+    @Override
+    public int getHeight() {
+        return level.getHeight();
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return level.getMinBuildHeight();
+    }
+
+    @Override
+    public long getSeed() {
+        return level.getSeed();
+    }
+
+    @Override
+    public ServerLevel getLevel() {
+        return level;
+    }
+
+    @Override
+    public RandomSource getRandom() {
+        return level.getRandom();
+    }
+
+    @Override
+    public boolean isClientSide() {
+        return false;
+    }
+
+    @Override
+    public LevelTickAccess<Block> getBlockTicks() {
+        return level.getBlockTicks();
+    }
+
+    @Override
+    public LevelTickAccess<Fluid> getFluidTicks() {
+        return level.getFluidTicks();
+    }
+
+    @Override
+    public long nextSubTickCount() {
+        return level.nextSubTickCount();
+    }
+
+    @Override
+    public LevelData getLevelData() {
+        return level.getLevelData();
+    }
+
+    @Override
+    public DifficultyInstance getCurrentDifficultyAt(BlockPos pos) {
+        return level.getCurrentDifficultyAt(pos);
+    }
+
+    @Override
+    public @Nullable MinecraftServer getServer() {
+        return level.getServer();
+    }
+
+    @Override
+    public ChunkSource getChunkSource() {
+        return level.getChunkSource();
+    }
+
+    @Override
+    public void playSound(@Nullable Player player, BlockPos pos, SoundEvent sound, SoundSource source, float volume, float pitch) {
+        level.playSound(player, pos, sound, source, volume, pitch);
+    }
+
+    @Override
+    public void addParticle(ParticleOptions particle, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+        level.addParticle(particle, x, y, z, xSpeed, ySpeed, zSpeed);
+    }
+
+    @Override
+    public void levelEvent(@Nullable Player player, int type, BlockPos pos, int data) {
+        level.levelEvent(player, type, pos, data);
+    }
+
+    @Override
+    public void gameEvent(Holder<GameEvent> event, Vec3 pos, GameEvent.Context context) {
+        level.gameEvent(event, pos, context);
+    }
+
+    @Override
+    public List<Entity> getEntities(@Nullable Entity entity, AABB area, Predicate<? super Entity> predicate) {
+        return level.getEntities(entity, area, predicate);
+    }
+
+    @Override
+    public <T extends Entity> List<T> getEntities(EntityTypeTest<Entity, T> test, AABB area, Predicate<? super T> predicate) {
+        return level.getEntities(test, area, predicate);
+    }
+
+    @Override
+    public List<? extends Player> players() {
+        return level.players();
+    }
+
+    @Override
+    public int getSkyDarken() {
+        return level.getSkyDarken();
+    }
+
+    @Override
+    public BiomeManager getBiomeManager() {
+        return level.getBiomeManager();
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(int x, int y, int z) {
+        return level.getUncachedNoiseBiome(x, y, z);
+    }
+
+    @Override
+    public int getSeaLevel() {
+        return level.getSeaLevel();
+    }
+
+    @Override
+    public DimensionType dimensionType() {
+        return level.dimensionType();
+    }
+
+    @Override
+    public RegistryAccess registryAccess() {
+        return level.registryAccess();
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures() {
+        return level.enabledFeatures();
+    }
+
+    @Override
+    public float getShade(Direction direction, boolean shade) {
+        return level.getShade(direction, shade);
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine() {
+        return level.getLightEngine();
+    }
+
+    @Override
+    public WorldBorder getWorldBorder() {
+        return level.getWorldBorder();
+    }
+
+    @Override
+    public @Nullable BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+        return isInArea(chunkX, chunkZ) ? level.getChunkForCollisions(chunkX, chunkZ) : null;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.vein;
+
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Resolved large ore vein, placed by the {@link net.minecraft.world.level.levelgen.OreVeinifier} filler.
+ *
+ * @param ore Block placed as the ore of the vein.
+ * @param rawOre Block placed instead of the ore with {@code rawOreChance}.
+ * @param filler Block surrounding the ore inside the vein.
+ * @param minY Minimum Y level of the vein (inclusive).
+ * @param maxY Maximum Y level of the vein (inclusive).
+ * @param rawOreChance Chance of placing {@code rawOre} instead of the {@code ore}.
+ */
+public record EEOreVeinType(BlockState ore, BlockState rawOre, BlockState filler, int minY, int maxY, float rawOreChance) {
+}
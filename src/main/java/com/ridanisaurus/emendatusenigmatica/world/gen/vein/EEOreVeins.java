@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024. Ridanisaurus
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.ridanisaurus.emendatusenigmatica.world.gen.vein;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.ridanisaurus.emendatusenigmatica.EmendatusEnigmatica;
+import com.ridanisaurus.emendatusenigmatica.api.EmendatusDataRegistry;
+import com.ridanisaurus.emendatusenigmatica.plugin.DefaultLoader;
+import com.ridanisaurus.emendatusenigmatica.plugin.deposit.IDepositProcessor;
+import com.ridanisaurus.emendatusenigmatica.plugin.deposit.processors.VeinDepositProcessor;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.deposit.vein.VeinDepositModel;
+import com.ridanisaurus.emendatusenigmatica.plugin.model.material.MaterialModel;
+import com.ridanisaurus.emendatusenigmatica.registries.EERegistrar;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.OreVeinifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Lookup of the large ore veins used by the {@link OreVeinifier} filler.
+ * Contains the vanilla copper and iron veins, and all vein deposits, grouped by the dimension of the deposit.
+ * <br><br>
+ * Veins are resolved once, and stored per dimension, per side of the vein toggle noise and per Y level,
+ * so selecting a vein while filling a noise chunk doesn't allocate or look anything up.
+ * When multiple veins of the same side overlap at the Y level, the vein is selected per 64x64 column region.
+ * <br><br>
+ * The dimension of the noise chunk is set by {@link com.ridanisaurus.emendatusenigmatica.mixin.NoiseChunkMixin} while it's being created.
+ * Noise chunks created without a chunk (eg. when probing the base height) only contain the vanilla veins.
+ */
+public final class EEOreVeins {
+    private static final int REGION_SHIFT = 6;
+    private static final EEOreVeinType[] NONE = new EEOreVeinType[0];
+    private static final Supplier<EEOreVeins> INSTANCE = Suppliers.memoize(EEOreVeins::build);
+    private static final ThreadLocal<ResourceLocation> generatingDimension = new ThreadLocal<>();
+
+    private final Map<ResourceLocation, DimensionVeins> dimensions;
+    private final DimensionVeins defaultVeins;
+
+    private EEOreVeins(Map<ResourceLocation, DimensionVeins> dimensions, DimensionVeins defaultVeins) {
+        this.dimensions = dimensions;
+        this.defaultVeins = defaultVeins;
+    }
+
+    /**
+     * Used to get the resolved veins.
+     * @return EEOreVeins instance.
+     * @apiNote Veins are resolved on the first call, which must happen after the registration of blocks.
+     */
+    public static EEOreVeins get() {
+        return INSTANCE.get();
+    }
+
+    /**
+     * Used to set the dimension of the noise chunk created on the current thread.
+     * @param dimension Location of the dimension, or null once the noise chunk is created.
+     */
+    public static void setGeneratingDimension(@Nullable ResourceLocation dimension) {
+        if (dimension == null) generatingDimension.remove();
+        else generatingDimension.set(dimension);
+    }
+
+    /**
+     * Used to get the veins of the noise chunk created on the current thread.
+     * @return Veins of the dimension set by {@link EEOreVeins#setGeneratingDimension(ResourceLocation)}, or only the vanilla veins if none is set.
+     */
+    public DimensionVeins getGeneratingVeins() {
+        ResourceLocation dimension = generatingDimension.get();
+        if (dimension == null) return defaultVeins;
+        return dimensions.getOrDefault(dimension, defaultVeins);
+    }
+
+    private static EEOreVeins build() {
+        EmendatusDataRegistry registry = EmendatusEnigmatica.getInstance().getDataRegistry();
+        EEOreVeinType copper = getVanillaVein(OreVeinifier.VeinType.COPPER, registry.getMaterial("copper"), Blocks.STONE.defaultBlockState());
+        EEOreVeinType iron = getVanillaVein(OreVeinifier.VeinType.IRON, registry.getMaterial("iron"), Blocks.DEEPSLATE.defaultBlockState());
+
+        Map<ResourceLocation, List<EEOreVeinType>> positive = new HashMap<>();
+        Map<ResourceLocation, List<EEOreVeinType>> negative = new HashMap<>();
+        for (IDepositProcessor processor : DefaultLoader.ACTIVE_PROCESSORS) {
+            if (!(processor instanceof VeinDepositProcessor veinProcessor)) continue;
+            VeinDepositModel model = veinProcessor.getVeinModel();
+            if (Objects.isNull(model)) continue;
+            EEOreVeinType vein = getVein(model);
+            if (Objects.isNull(vein)) continue;
+            ResourceLocation dimension = ResourceLocation.parse(model.getDimension());
+            positive.computeIfAbsent(dimension, it -> new ArrayList<>(List.of(copper)));
+            negative.computeIfAbsent(dimension, it -> new ArrayList<>(List.of(iron)));
+            (model.isPositiveToggle() ? positive : negative).get(dimension).add(vein);
+        }
+
+        Map<ResourceLocation, DimensionVeins> dimensions = new HashMap<>();
+        positive.forEach((dimension, veins) -> dimensions.put(dimension, new DimensionVeins(veins, negative.get(dimension))));
+        return new EEOreVeins(dimensions, new DimensionVeins(List.of(copper), List.of(iron)));
+    }
+
+    /**
+     * Veins of a single dimension, stored per side of the vein toggle noise and per Y level.<br>
+     * Layers only span the Y range of the contained veins, so veins of worlds with a custom height are never cut off.
+     */
+    public static final class DimensionVeins {
+        private final int minY;
+        private final EEOreVeinType[][] positive;
+        private final EEOreVeinType[][] negative;
+
+        private DimensionVeins(List<EEOreVeinType> positive, List<EEOreVeinType> negative) {
+            this.minY = Stream.concat(positive.stream(), negative.stream()).mapToInt(EEOreVeinType::minY).min().orElse(0);
+            int maxY = Stream.concat(positive.stream(), negative.stream()).mapToInt(EEOreVeinType::maxY).max().orElse(minY - 1);
+            this.positive = layer(positive, minY, maxY);
+            this.negative = layer(negative, minY, maxY);
+        }
+
+        /**
+         * Used to select the vein at the specified position.
+         *
+         * @param positiveToggle If the value of the vein toggle noise is positive.
+         * @param x X coordinate of the block.
+         * @param y Y coordinate of the block.
+         * @param z Z coordinate of the block.
+         * @return Vein containing specified Y level, or null if there is none.
+         */
+        public @Nullable EEOreVeinType select(boolean positiveToggle, int x, int y, int z) {
+            EEOreVeinType[][] layers = positiveToggle ? positive : negative;
+            int layer = y - minY;
+            if (layer < 0 || layer >= layers.length) return null;
+            EEOreVeinType[] candidates = layers[layer];
+            return switch (candidates.length) {
+                case 0 -> null;
+                case 1 -> candidates[0];
+                default -> candidates[Math.floorMod(Mth.getSeed(x >> REGION_SHIFT, 0, z >> REGION_SHIFT), candidates.length)];
+            };
+        }
+
+        private static EEOreVeinType[][] layer(List<EEOreVeinType> veins, int minY, int maxY) {
+            EEOreVeinType[][] layers = new EEOreVeinType[maxY - minY + 1][];
+            List<EEOreVeinType> candidates = new ArrayList<>();
+            for (int y = minY; y <= maxY; y++) {
+                candidates.clear();
+                for (EEOreVeinType vein : veins) {
+                    if (vein.minY() <= y && y <= vein.maxY()) candidates.add(vein);
+                }
+                layers[y - minY] = candidates.isEmpty() ? NONE : candidates.toArray(EEOreVeinType[]::new);
+            }
+            return layers;
+        }
+    }
+
+    private static EEOreVeinType getVanillaVein(OreVeinifier.VeinType type, @Nullable MaterialModel material, BlockState fallback) {
+        if (Objects.isNull(material) || !material.getDisableDefaultOre())
+            return new EEOreVeinType(type.ore, type.rawOreBlock, type.filler, type.minY, type.maxY, 0.02F);
+        BlockState replacement = material.getDefaultOreReplacement(fallback);
+        return new EEOreVeinType(replacement, replacement, type.filler, type.minY, type.maxY, 0.02F);
+    }
+
+    private static @Nullable EEOreVeinType getVein(VeinDepositModel model) {
+        BlockState ore;
+        if (model.getBlock() != null) {
+            ore = getBlockState(model.getBlock(), model);
+        } else {
+            ore = EERegistrar.getOreState(model.getStrata(), model.getMaterial());
+            if (Objects.isNull(ore)) {
+                EmendatusEnigmatica.logger.warn("Unable to find the combination of {} and {} in the ore block table. Vein deposit: {}", model.getStrata(), model.getMaterial(), model.getName());
+                return null;
+            }
+        }
+        if (Objects.isNull(ore)) return null;
+
+        BlockState rawOre = ore;
+        if (model.getRawBlock() != null) {
+            rawOre = getBlockState(model.getRawBlock(), model);
+            if (Objects.isNull(rawOre)) return null;
+        } else if (model.getMaterial() != null && EERegistrar.rawBlockMap.containsKey(model.getMaterial())) {
+            rawOre = EERegistrar.rawBlockMap.get(model.getMaterial()).get().defaultBlockState();
+        }
+
+        BlockState filler = getBlockState(model.getFillerBlock(), model);
+        if (Objects.isNull(filler)) return null;
+        return new EEOreVeinType(ore, rawOre, filler, model.getMinYLevel(), model.getMaxYLevel(), model.getRawBlockChance());
+    }
+
+    private static @Nullable BlockState getBlockState(String id, VeinDepositModel model) {
+        ResourceLocation location = ResourceLocation.parse(id);
+        if (!BuiltInRegistries.BLOCK.containsKey(location)) {
+            EmendatusEnigmatica.logger.warn("Unable to find {} in the registries. Vein deposit: {}", id, model.getName());
+            return null;
+        }
+        return BuiltInRegistries.BLOCK.get(location).defaultBlockState();
+    }
+}